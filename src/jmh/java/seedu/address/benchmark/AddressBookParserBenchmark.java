@@ -0,0 +1,52 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.parser.AddressBookParser;
+
+/**
+ * Measures parsing one {@code add} command per player, as when a roster is typed or scripted in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int playerCount;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private List<String> commands;
+
+    @Setup
+    public void setUp() {
+        commands = SyntheticDataUtil.toAddCommands(SyntheticDataUtil.getSyntheticPersons(playerCount));
+    }
+
+    /**
+     * Parses the whole batch of {@code add} commands.
+     */
+    @Benchmark
+    public void parseCommands(Blackhole blackhole) throws Exception {
+        for (String command : commands) {
+            blackhole.consume(parser.parseCommand(command));
+        }
+    }
+}
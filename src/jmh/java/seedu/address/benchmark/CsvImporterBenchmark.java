@@ -0,0 +1,60 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.model.ModelManager;
+
+/**
+ * Measures importing a CSV file of players into an empty model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class CsvImporterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int playerCount;
+
+    private Path csvFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        csvFile = Files.createTempFile("summonersbook-jmh", ".csv");
+        Files.write(csvFile, SyntheticDataUtil.toCsvLines(SyntheticDataUtil.getSyntheticPersons(playerCount)),
+                StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    /**
+     * Imports the whole CSV file into a fresh model.
+     */
+    @Benchmark
+    public CsvImporter.Result importPlayers() throws Exception {
+        return CsvImporter.importPlayers(new ModelManager(), csvFile);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures saving and loading an address book of players, most of them grouped into teams, as a JSON file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int playerCount;
+
+    private AddressBook addressBook;
+    private Path tempDir;
+    private JsonAddressBookStorage savedStorage;
+    private JsonAddressBookStorage scratchStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(playerCount, true);
+        tempDir = Files.createTempDirectory("summonersbook-jmh");
+        savedStorage = new JsonAddressBookStorage(tempDir.resolve("saved.json"));
+        savedStorage.saveAddressBook(addressBook);
+        scratchStorage = new JsonAddressBookStorage(tempDir.resolve("scratch.json"));
+    }
+
+    /**
+     * Deletes the JSON files and the temporary folder created during setup.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getAddressBookFilePath());
+        Files.deleteIfExists(scratchStorage.getAddressBookFilePath());
+        Files.deleteIfExists(tempDir);
+    }
+
+    /**
+     * Writes the address book to a JSON file.
+     */
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        scratchStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Reads the address book back from a JSON file written during setup.
+     */
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws Exception {
+        return savedStorage.readAddressBook();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Measures the model operations that every command relies on: adding players and teams, and looking players up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int playerCount;
+
+    private List<Person> persons;
+    private List<Team> teams;
+    private ModelManager populatedModel;
+
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(playerCount, true);
+        persons = List.copyOf(addressBook.getPersonList());
+        teams = List.copyOf(addressBook.getTeamList());
+        populatedModel = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    /**
+     * Builds a model by adding every player and then every team, one at a time.
+     */
+    @Benchmark
+    public ModelManager addPersonsAndTeams() {
+        ModelManager model = new ModelManager();
+        persons.forEach(model::addPerson);
+        teams.forEach(model::addTeam);
+        return model;
+    }
+
+    /**
+     * Looks up every player by name and checks whether they are in a team.
+     */
+    @Benchmark
+    public void findPersonsByName(Blackhole blackhole) {
+        for (Person person : persons) {
+            blackhole.consume(populatedModel.findPersonByName(person.getName()));
+            blackhole.consume(populatedModel.isPersonInAnyTeam(person));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import seedu.address.logic.teammatcher.ParallelTeamMatcher;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rank;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateChampionException;
+import seedu.address.model.team.exceptions.MissingRolesException;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates large, reproducible player pools for benchmarks by varying the sample players of
+ * {@link SampleDataUtil}.
+ */
+public class SyntheticDataUtil {
+
+    /** Seed shared by all benchmarks so that every run sees the same data. */
+    public static final long SEED = 2103L;
+
+    private static final String[] RANKS = {"iron", "bronze", "silver", "gold", "platinum", "emerald", "diamond",
+        "master", "grandmaster", "challenger"};
+    private static final int MAX_BASE_NAME_LENGTH = 10;
+
+    /**
+     * Returns {@code count} distinct players. Each is a copy of a sample player, keeping their role, champion and
+     * stats, with a unique name and a random rank.
+     */
+    public static List<Person> getSyntheticPersons(int count) {
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Person template = samplePersons[i % samplePersons.length];
+            String baseName = template.getName().fullName;
+            Name name = new Name(baseName.substring(0, Math.min(baseName.length(), MAX_BASE_NAME_LENGTH)) + i);
+            persons.add(new Person(UUID.randomUUID().toString(), name, template.getRole(),
+                    Rank.of(RANKS[random.nextInt(RANKS.length)]), template.getChampion(), template.getTags(),
+                    template.getStats(), template.getWins(), template.getLosses()));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} synthetic players, with as many of them grouped into teams as the
+     * default grouping allows if {@code hasTeams}.
+     */
+    public static AddressBook getSyntheticAddressBook(int count, boolean hasTeams) {
+        List<Person> persons = getSyntheticPersons(count);
+        AddressBook addressBook = new AddressBook();
+        persons.forEach(addressBook::addPerson);
+        if (hasTeams) {
+            try {
+                for (Team team : new ParallelTeamMatcher().matchTeams(persons)) {
+                    addressBook.addTeam(team);
+                }
+            } catch (MissingRolesException | DuplicateChampionException e) {
+                throw new IllegalStateException("Synthetic players should always form teams", e);
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code persons} as the lines of a CSV file in the {@code Name,Role,Rank,Champion,Wins,Losses} format
+     * accepted by the CSV importer, header first.
+     */
+    public static List<String> toCsvLines(List<Person> persons) {
+        List<String> lines = new ArrayList<>(persons.size() + 1);
+        lines.add("Name,Role,Rank,Champion,Wins,Losses");
+        for (Person person : persons) {
+            lines.add(String.join(",", person.getName().fullName, person.getRole().toString(),
+                    person.getRank().toString(), person.getChampion().toString(),
+                    String.valueOf(person.getWins()), String.valueOf(person.getLosses())));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns an {@code add} command for each of {@code persons}.
+     */
+    public static List<String> toAddCommands(List<Person> persons) {
+        List<String> commands = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            commands.add("add n/" + person.getName().fullName + " rk/" + person.getRank() + " rl/"
+                    + person.getRole() + " c/" + person.getChampion());
+        }
+        return commands;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.teammatcher.BalancedTeamMatcher;
+import seedu.address.logic.teammatcher.OptimalTeamMatcher;
+import seedu.address.logic.teammatcher.ParallelTeamMatcher;
+import seedu.address.logic.teammatcher.TeamMatcher;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Measures how long each grouping mode takes to match a pool of unassigned players into teams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class TeamMatcherBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int playerCount;
+
+    @Param({"default", "optimal", "balanced", "parallel"})
+    private String mode;
+
+    private List<Person> persons;
+    private TeamMatcher teamMatcher;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticPersons(playerCount);
+        switch (mode) {
+        case "optimal":
+            teamMatcher = new OptimalTeamMatcher();
+            break;
+        case "balanced":
+            teamMatcher = new BalancedTeamMatcher();
+            break;
+        case "parallel":
+            teamMatcher = new ParallelTeamMatcher();
+            break;
+        default:
+            teamMatcher = new TeamMatcher();
+        }
+    }
+
+    /**
+     * Matches the whole pool into teams.
+     */
+    @Benchmark
+    public List<Team> matchTeams() throws Exception {
+        return teamMatcher.matchTeams(persons);
+    }
+}
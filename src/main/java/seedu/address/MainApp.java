@@ -21,9 +21,10 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.RecentForm;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -57,7 +58,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        initRecentForm(userPrefs);
+        AddressBookStorage addressBookStorage = new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -102,6 +104,19 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
+    /**
+     * Sets the recent form of the match histories about to be loaded to that in {@code userPrefs}.
+     * The default recent form is kept if the one in {@code userPrefs} is invalid.
+     */
+    private void initRecentForm(ReadOnlyUserPrefs userPrefs) {
+        try {
+            RecentForm.init(userPrefs.getRecentFormWindowSize(), userPrefs.getRecentFormSmoothingFactor());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Recent form settings in the preferences file are invalid. Using the default settings. "
+                    + e.getMessage());
+        }
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -182,6 +197,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SummonersBook ] =============================");
+        logic.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,144 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} whose modifications can be gathered into a single change.
+ *
+ * Between {@link #beginBatch()} and {@link #endBatch()}, listeners are not notified of each modification; instead,
+ * one change naming only the elements set, added and removed is fired when the batch ends. Batches may be nested, in
+ * which case the change is fired when the outermost batch ends. While a batch is open, every modification is
+ * recorded in an undo log, so that {@link #rollbackBatch()} can undo the modifications made since it began.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /** Modifications made in the open batches, oldest first. */
+    private final List<Modification<E>> undoLog = new ArrayList<>();
+
+    /** Size of the undo log when each open batch began, innermost first. */
+    private final Deque<Integer> batchStarts = new ArrayDeque<>();
+
+    private boolean isRollingBack;
+
+    /**
+     * Starts gathering the modifications of this list into one change.
+     */
+    public void beginBatch() {
+        batchStarts.push(undoLog.size());
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, notifying listeners of its modifications if it is
+     * the outermost batch.
+     */
+    public void endBatch() {
+        if (batchStarts.isEmpty()) {
+            throw new IllegalStateException("No batch to end");
+        }
+        batchStarts.pop();
+        if (batchStarts.isEmpty()) {
+            undoLog.clear();
+        }
+        endChange();
+    }
+
+    /**
+     * Undoes every modification made since the innermost open batch began, latest first.
+     * The batch stays open, and must still be ended with {@link #endBatch()}.
+     */
+    public void rollbackBatch() {
+        if (batchStarts.isEmpty()) {
+            throw new IllegalStateException("No batch to roll back");
+        }
+        int start = batchStarts.peek();
+        isRollingBack = true;
+        try {
+            for (int i = undoLog.size() - 1; i >= start; i--) {
+                undoLog.get(i).undo(this);
+            }
+        } finally {
+            isRollingBack = false;
+        }
+        undoLog.subList(start, undoLog.size()).clear();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+        record(new Modification<>(Modification.Kind.ADD, index, null));
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E replaced = elements.set(index, element);
+        record(new Modification<>(Modification.Kind.SET, index, replaced));
+        return replaced;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E removed = elements.remove(index);
+        record(new Modification<>(Modification.Kind.REMOVE, index, removed));
+        return removed;
+    }
+
+    private void record(Modification<E> modification) {
+        if (!batchStarts.isEmpty() && !isRollingBack) {
+            undoLog.add(modification);
+        }
+    }
+
+    /**
+     * A modification of the list at an index, with the element it replaced or removed.
+     */
+    private static class Modification<E> {
+        private enum Kind { ADD, SET, REMOVE }
+
+        private final Kind kind;
+        private final int index;
+        private final E previous;
+
+        private Modification(Kind kind, int index, E previous) {
+            this.kind = kind;
+            this.index = index;
+            this.previous = previous;
+        }
+
+        /**
+         * Undoes this modification of {@code list}, which must be as it was right after the modification.
+         */
+        private void undo(BatchableObservableList<E> list) {
+            switch (kind) {
+            case ADD:
+                list.remove(index);
+                break;
+            case SET:
+                list.set(index, previous);
+                break;
+            case REMOVE:
+                list.add(index, previous);
+                break;
+            default:
+                throw new AssertionError("Unknown modification: " + kind);
+            }
+        }
+    }
+}
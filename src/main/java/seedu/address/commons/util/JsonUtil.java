@@ -11,6 +11,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +93,29 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that reads the JSON file at {@code filePath} one token at a time, without loading the whole
+     * file.
+     * The value at the parser's current position can be converted with {@link JsonParser#readValueAs(Class)}, which
+     * uses the same settings as {@link #readJsonFile(Path, Class)}.
+     * @param filePath cannot be null
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
+    /**
+     * Returns a parser that reads the JSON in {@code json} one token at a time.
+     * @param json cannot be null
+     * @throws IOException if the parser could not be created
+     */
+    public static JsonParser createJsonParser(String json) throws IOException {
+        requireNonNull(json);
+        return objectMapper.getFactory().createParser(json);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +135,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -65,4 +65,59 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the edit (Levenshtein) distance between {@code first} and {@code second}, ignoring case, if it is at
+     * most {@code bound}, or {@code bound + 1} otherwise. Only the cells within {@code bound} of the diagonal are
+     * filled in, so the cost is O(bound * length) rather than O(length^2).
+     *   <br>examples:<pre>
+     *       boundedEditDistanceIgnoreCase("Faker", "fakr", 2) == 1
+     *       boundedEditDistanceIgnoreCase("Faker", "Deft", 2) == 3 // more than the bound
+     *       </pre>
+     * @param bound cannot be negative
+     */
+    public static int boundedEditDistanceIgnoreCase(String first, String second, int bound) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(bound >= 0, "Bound cannot be negative");
+
+        String a = first.toLowerCase();
+        String b = second.toLowerCase();
+        if (Math.abs(a.length() - b.length()) > bound) {
+            return bound + 1;
+        }
+
+        int tooFar = bound + 1;
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - bound);
+            int to = Math.min(b.length(), i + bound);
+            current[0] = Math.min(i, tooFar);
+            if (from > 1) {
+                current[from - 1] = tooFar;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int deletion = (j <= i + bound - 1 ? previous[j] : tooFar) + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(tooFar, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < b.length()) {
+                current[to + 1] = tooFar;
+            }
+            if (rowMinimum > bound) {
+                return tooFar;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
 }
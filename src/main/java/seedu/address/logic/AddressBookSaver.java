@@ -0,0 +1,108 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Writes the address book to storage on a background thread, so that commands do not wait for the data file.
+ * Saves that arrive while a write is in progress are coalesced: only the latest snapshot is written once the
+ * current write finishes. A snapshot that fails to be written is kept, and retried on the next {@link #flush()}
+ * if no newer snapshot replaces it first.
+ */
+class AddressBookSaver {
+
+    private static final String THREAD_NAME = "address-book-saver";
+
+    private final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<String> saveErrorHandler = message -> {};
+
+    /** The latest snapshot that could not be written. Only accessed by the worker thread. */
+    private ReadOnlyAddressBook unsavedSnapshot;
+
+    /**
+     * Creates an {@code AddressBookSaver} that writes to {@code storage}.
+     */
+    AddressBookSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given a message describing each failed write.
+     * The handler is called on the background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written, replacing any snapshot that is still waiting to be written.
+     * {@code snapshot} must not be modified afterwards.
+     */
+    void save(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::writeLatestSnapshot);
+        }
+    }
+
+    /**
+     * Writes any snapshot that has not been written yet, and waits until all writes have finished.
+     */
+    void flush() {
+        try {
+            executor.submit(this::writeLatestSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException e) {
+            logger.warning("Failed to save the address book: " + e.getCause());
+        }
+    }
+
+    private void writeLatestSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot != null) {
+            unsavedSnapshot = snapshot;
+        }
+        if (unsavedSnapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(unsavedSnapshot);
+            unsavedSnapshot = null;
+        } catch (AccessDeniedException e) {
+            reportSaveError(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } catch (IOException ioe) {
+            reportSaveError(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, ioe.getMessage()));
+        }
+    }
+
+    private void reportSaveError(String message) {
+        logger.warning(message);
+        saveErrorHandler.accept(message);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Writes any changes to the address book that have not been saved yet, and waits until they are written.
+     * Changes are otherwise saved in the background after each command that modifies the address book.
+     */
+    void flush();
+
+    /**
+     * Sets the handler that is given an error message whenever the address book could not be saved.
+     * The handler may be called on a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the AddressBook.
      *
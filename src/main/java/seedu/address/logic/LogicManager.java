@@ -1,10 +1,10 @@
 package seedu.address.logic;
 
-import java.io.IOException;
-import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +13,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -31,16 +32,23 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookSaver addressBookSaver;
+
+    /** Whether the address book has changed since it was last handed to {@code addressBookSaver}. */
+    private boolean isAddressBookModified;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
         addressBookParser = new AddressBookParser();
+        addressBookSaver = new AddressBookSaver(storage);
+
+        ListChangeListener<Object> modificationListener = change -> isAddressBookModified = true;
+        model.getAddressBook().getPersonList().addListener(modificationListener);
+        model.getAddressBook().getTeamList().addListener(modificationListener);
     }
 
     @Override
@@ -49,19 +57,38 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } finally {
+            saveIfModified();
         }
 
         return commandResult;
     }
 
+    /**
+     * Hands a snapshot of the address book to {@code addressBookSaver} if the last command changed it.
+     * Commands that only read the address book, e.g. {@code list} or {@code find}, do not cause a save.
+     */
+    private void saveIfModified() {
+        if (!isAddressBookModified) {
+            return;
+        }
+        isAddressBookModified = false;
+        addressBookSaver.save(new AddressBookSnapshot(model.getAddressBook()));
+    }
+
+    @Override
+    public void flush() {
+        saveIfModified();
+        addressBookSaver.flush();
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        addressBookSaver.setSaveErrorHandler(saveErrorHandler);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -11,7 +11,7 @@ import seedu.address.model.Model;
 
 
 /**
- * Exports player or team data from the application into a CSV file.
+ * Exports player, team or match history data from the application into a CSV file.
  * <p>
  * This command enables users to save data from the in-memory model into
  * a structured {@code .csv} file, which can be imported later or shared externally.
@@ -20,29 +20,33 @@ import seedu.address.model.Model;
  * <ul>
  *     <li><b>Players</b> — exported to {@code data/players.csv} by default</li>
  *     <li><b>Teams</b> — exported to {@code data/teams.csv} by default</li>
+ *     <li><b>Stats</b> — the match history of every player, exported to {@code data/stats.csv} by default</li>
  * </ul>
  * Users can optionally specify a custom file path using the {@code to} keyword.
+ * Custom paths ending with {@code .csv.gz} are written gzip-compressed.
  * </p>
  *
  * <p><b>Example usages:</b></p>
  * <pre>
  *     export players
  *     export teams to data/my_teams.csv
+ *     export stats to data/stats.csv.gz
  * </pre>
  */
 public class ExportCommand extends Command {
     public static final String COMMAND_WORD = "export";
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports players or teams to CSV.\n"
-            + "Parameters: export [players|teams] [to CUSTOM_PATH]\n"
-            + "Examples: export players | export teams to data/my_teams.csv";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports players, teams or stats to CSV.\n"
+            + "Parameters: export [players|teams|stats] [to CUSTOM_PATH]\n"
+            + "Examples: export players | export teams to data/my_teams.csv | export stats to data/stats.csv.gz";
 
     private static final Path DEFAULT_PLAYERS_PATH = Paths.get("data/players.csv");
     private static final Path DEFAULT_TEAMS_PATH = Paths.get("data/teams.csv");
+    private static final Path DEFAULT_STATS_PATH = Paths.get("data/stats.csv");
 
     /**
-     * Represents which type of data the export operation targets — players or teams.
+     * Represents which type of data the export operation targets — players, teams or stats.
      */
-    public enum Target { PLAYERS, TEAMS }
+    public enum Target { PLAYERS, TEAMS, STATS }
 
     private final Target target;
     private final Path customPath;
@@ -51,7 +55,7 @@ public class ExportCommand extends Command {
      * Constructs an {@code ExportCommand} specifying which data type to export
      * and an optional custom output file path.
      *
-     * @param target the data type to export (players or teams); must not be {@code null}.
+     * @param target the data type to export (players, teams or stats); must not be {@code null}.
      * @param customPath an optional file path to export to; if {@code null}, a default is used.
      */
     public ExportCommand(Target target, Path customPath) {
@@ -76,10 +80,16 @@ public class ExportCommand extends Command {
         Path outputPath = resolveOutputPath();
 
         try {
-            if (target == Target.PLAYERS) {
+            switch (target) {
+            case PLAYERS:
                 CsvExporter.exportPlayers(model, outputPath);
-            } else {
+                break;
+            case TEAMS:
                 CsvExporter.exportTeams(model, outputPath);
+                break;
+            default:
+                CsvExporter.exportStats(model, outputPath);
+                break;
             }
             return new CommandResult(buildSuccessMessage(outputPath));
         } catch (Exception e) {
@@ -98,7 +108,14 @@ public class ExportCommand extends Command {
         if (customPath != null) {
             return customPath;
         }
-        return target == Target.PLAYERS ? DEFAULT_PLAYERS_PATH : DEFAULT_TEAMS_PATH;
+        switch (target) {
+        case PLAYERS:
+            return DEFAULT_PLAYERS_PATH;
+        case TEAMS:
+            return DEFAULT_TEAMS_PATH;
+        default:
+            return DEFAULT_STATS_PATH;
+        }
     }
 
     /**
@@ -108,7 +125,11 @@ public class ExportCommand extends Command {
      * @return a formatted success message for display to the user.
      */
     private String buildSuccessMessage(Path path) {
-        String dataType = target == Target.PLAYERS ? "player" : "team";
+        String dataType = switch (target) {
+        case PLAYERS -> "player";
+        case TEAMS -> "team";
+        case STATS -> "stats";
+        };
         return String.format("Exported %s data to %s.", dataType, path);
     }
 
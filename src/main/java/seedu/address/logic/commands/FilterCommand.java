@@ -5,10 +5,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CHAMPION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE_MEASURE;
 
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -18,18 +18,20 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Champion;
-import seedu.address.model.person.ChampionContainsKeywordsPredicate;
 import seedu.address.model.person.Rank;
-import seedu.address.model.person.RankContainsKeywordsPredicate;
 import seedu.address.model.person.Role;
-import seedu.address.model.person.RoleContainsKeywordsPredicate;
-import seedu.address.model.person.ScoreInRangePredicate;
+import seedu.address.model.person.ScoreMeasure;
+import seedu.address.model.query.AttributeFilter;
+import seedu.address.model.query.PersonQuery;
 
 /**
  * Filters the list of persons in the address book based on the specified criteria:
  * ranks, roles, champions, and/or score threshold. Only persons matching all
  * provided criteria will be included in the filtered list.
  *
+ * <p>Alternatively, the criteria can be given as a query after {@code where}, combining conditions on rank, role,
+ * champion, tags and numeric fields with AND, OR and NOT.
+ *
  * <p>At least one filter criterion must be specified. If no criteria are provided,
  * a {@code ParseException} is thrown when parsing the command.
  *
@@ -40,22 +42,25 @@ public class FilterCommand extends Command {
 
     public static final String COMMAND_WORD = "filter";
 
+    public static final String WHERE_KEYWORD = "where";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filter out players based on their "
             + "rank, role, champion, and score in the player list.\n"
             + "Parameters: INDEX (must be a positive integer) "
             + "[" + PREFIX_RANK + "RANK]... "
             + "[" + PREFIX_ROLE + "ROLE]... "
             + "[" + PREFIX_CHAMPION + "CHAMPION]... "
-            + "[" + PREFIX_SCORE + "SCORE]\n"
+            + "[" + PREFIX_SCORE + "SCORE] "
+            + "[" + PREFIX_SCORE_MEASURE + "all|recent|trend]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_RANK + "Diamond "
             + PREFIX_CHAMPION + "Yasuo "
-            + PREFIX_SCORE + "2.4";
+            + PREFIX_SCORE + "2.4\n"
+            + "Or: " + COMMAND_WORD + " " + WHERE_KEYWORD + " QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + WHERE_KEYWORD
+            + " role:Mid AND (rank:Gold OR rank:Platinum) AND NOT tag:benched AND wins >= 10";
 
-    private final RankContainsKeywordsPredicate rankPredicate;
-    private final RoleContainsKeywordsPredicate rolePredicate;
-    private final ChampionContainsKeywordsPredicate championPredicate;
-    private final ScoreInRangePredicate scorePredicate;
+    private final PersonQuery query;
 
     private final FilterPersonDescriptor filterPersonDescriptor;
 
@@ -65,18 +70,22 @@ public class FilterCommand extends Command {
     public FilterCommand(FilterPersonDescriptor filterPersonDescriptor) {
         requireNonNull(filterPersonDescriptor);
         this.filterPersonDescriptor = new FilterPersonDescriptor(filterPersonDescriptor);
-        this.rankPredicate = new RankContainsKeywordsPredicate(List.of(filterPersonDescriptor.getRanks()));
-        this.rolePredicate = new RoleContainsKeywordsPredicate(List.of(filterPersonDescriptor.getRoles()));
-        this.championPredicate = new ChampionContainsKeywordsPredicate(List.of(filterPersonDescriptor.getChampions()));
-        this.scorePredicate = new ScoreInRangePredicate(filterPersonDescriptor.getScoreThreshold());
+        this.query = this.filterPersonDescriptor.toAttributeFilter();
+    }
+
+    /**
+     * @param query query that the persons listed must match
+     */
+    public FilterCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.filterPersonDescriptor = null;
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(
-                rankPredicate.and(rolePredicate).and(championPredicate).and(scorePredicate)
-        );
+        model.filterPersons(query);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -93,11 +102,15 @@ public class FilterCommand extends Command {
         }
 
         FilterCommand otherFilterCommand = (FilterCommand) other;
-        return filterPersonDescriptor.equals(otherFilterCommand.filterPersonDescriptor);
+        return Objects.equals(filterPersonDescriptor, otherFilterCommand.filterPersonDescriptor)
+                && query.equals(otherFilterCommand.query);
     }
 
     @Override
     public String toString() {
+        if (filterPersonDescriptor == null) {
+            return new ToStringBuilder(this).add("query", query).toString();
+        }
         return new ToStringBuilder(this)
                 .add("filterPersonDescriptor", filterPersonDescriptor)
                 .toString();
@@ -114,6 +127,7 @@ public class FilterCommand extends Command {
         private Set<Rank> ranks;
         private Set<Champion> champions;
         private Float scoreThreshold = DEFAULT_SCORE_THRESHOLD;
+        private ScoreMeasure scoreMeasure = ScoreMeasure.AVERAGE;
 
         public FilterPersonDescriptor() {}
 
@@ -126,6 +140,7 @@ public class FilterCommand extends Command {
             setRanks(toCopy.ranks);
             setChampions(toCopy.champions);
             setScoreThreshold(toCopy.scoreThreshold);
+            setScoreMeasure(toCopy.scoreMeasure);
         }
 
         /**
@@ -208,6 +223,22 @@ public class FilterCommand extends Command {
             return scoreThreshold;
         }
 
+        public void setScoreMeasure(ScoreMeasure scoreMeasure) {
+            this.scoreMeasure = requireNonNull(scoreMeasure);
+        }
+
+        public ScoreMeasure getScoreMeasure() {
+            return scoreMeasure;
+        }
+
+        /**
+         * Returns a filter that matches the persons satisfying every field filtered by this descriptor.
+         */
+        public AttributeFilter toAttributeFilter() {
+            return new AttributeFilter(ranks != null ? ranks : Set.of(), roles != null ? roles : Set.of(),
+                    champions != null ? champions : Set.of(), scoreThreshold, scoreMeasure);
+        }
+
         @Override
         public boolean equals(Object other) {
             if (other == this) {
@@ -223,7 +254,8 @@ public class FilterCommand extends Command {
             return Objects.equals(roles, otherFilterPersonDescriptor.roles)
                     && Objects.equals(ranks, otherFilterPersonDescriptor.ranks)
                     && Objects.equals(champions, otherFilterPersonDescriptor.champions)
-                    && Objects.equals(scoreThreshold, otherFilterPersonDescriptor.scoreThreshold);
+                    && Objects.equals(scoreThreshold, otherFilterPersonDescriptor.scoreThreshold)
+                    && scoreMeasure == otherFilterPersonDescriptor.scoreMeasure;
         }
 
         @Override
@@ -233,6 +265,7 @@ public class FilterCommand extends Command {
                     .add("ranks", Arrays.toString(getRanks()))
                     .add("champions", Arrays.toString(getChampions()))
                     .add("scoreThreshold", scoreThreshold != null ? scoreThreshold.toString() : "0.0")
+                    .add("scoreMeasure", scoreMeasure)
                     .toString();
         }
     }
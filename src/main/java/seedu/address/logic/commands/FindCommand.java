@@ -5,31 +5,38 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Finds and lists all persons in address book whose name, champion or tags contain any of the argument keywords,
+ * most relevant first. Keyword matching is case-insensitive.
+ * Given {@link #FUZZY_KEYWORD} first, the keywords are parsed into a {@link FuzzyFindCommand} instead.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all players whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+    public static final String FUZZY_KEYWORD = "fuzzy";
 
-    private final NameContainsKeywordsPredicate predicate;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all players whose names, champions or tags "
+            + "contain any of the specified keywords (case-insensitive) and displays them as a list with index "
+            + "numbers, best matches first.\n"
+            + "With '" + FUZZY_KEYWORD + "', finds the " + Model.FUZZY_FIND_LIMIT + " players whose names are "
+            + "closest to the keywords, allowing for typos.\n"
+            + "Parameters: [" + FUZZY_KEYWORD + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_KEYWORD + " fakr";
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    private final PersonContainsKeywordsPredicate predicate;
+
+    public FindCommand(PersonContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.findPersons(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
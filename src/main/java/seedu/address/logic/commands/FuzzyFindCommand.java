@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+
+/**
+ * Finds and lists the persons in address book whose names are closest to the argument keywords, allowing for typos,
+ * closest first. Keyword matching is case-insensitive.
+ * Given as {@code find fuzzy KEYWORD...}, so it shares the usage of {@link FindCommand}.
+ */
+public class FuzzyFindCommand extends Command {
+
+    private final NameSimilarToKeywordsPredicate predicate;
+
+    public FuzzyFindCommand(NameSimilarToKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.findPersonsBySimilarName(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return predicate.equals(otherFuzzyFindCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TEAMS;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,14 +23,23 @@ import seedu.address.model.team.exceptions.MissingRolesException;
 public class GroupCommand extends Command {
 
     public static final String COMMAND_WORD = "group";
+    public static final String MODE_OPTIMAL = "optimal";
+    public static final String MODE_BALANCED = "balanced";
+    public static final String MODE_PARALLEL = "parallel";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Automatically creates balanced teams from all unassigned players.\n"
             + "The algorithm groups players by role, sorts by rank, and ensures no duplicate champions per team.\n"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [MODE]\n"
+            + "  " + MODE_OPTIMAL + ": forms as many teams as possible, with team strengths kept close together\n"
+            + "  " + MODE_BALANCED + ": snake-drafts players by rank and score so that team strengths are even\n"
+            + "  " + MODE_PARALLEL + ": forms the same teams as the default, using all cores for large player pools\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " " + MODE_OPTIMAL + ", "
+            + COMMAND_WORD + " " + MODE_BALANCED;
 
     public static final String MESSAGE_SUCCESS = "Successfully created %1$d team(s):\n%2$s\n\n"
             + "%3$d player(s) remain unassigned.";
+    public static final String MESSAGE_VARIANCE = "\nTeam strength variance: %1$.2f";
     public static final String MESSAGE_NO_TEAMS_FORMED = "No teams could be formed. "
             + "Ensure there is at least one unassigned player for each role (Top, Jungle, Mid, ADC, Support).";
 
@@ -79,18 +89,20 @@ public class GroupCommand extends Command {
         // Get the number of existing teams before adding
         int existingTeamCount = model.getFilteredTeamList().size();
 
-        // Add all teams to the model
-        for (Team team : teams) {
-            model.addTeam(team);
-        }
+        // Add all teams to the model as a single change
+        model.batchUpdate(addressBook -> teams.forEach(addressBook::addTeam));
+        model.updateFilteredTeamList(PREDICATE_SHOW_ALL_TEAMS);
 
         // Get the actual count of remaining unassigned persons from the model
         int remainingPersons = model.getUnassignedPersonList().size();
 
         // Format the success message
         String teamsFormatted = formatTeams(teams, existingTeamCount);
-        return new CommandResult(String.format(MESSAGE_SUCCESS,
-                teams.size(), teamsFormatted, remainingPersons));
+        String feedback = String.format(MESSAGE_SUCCESS, teams.size(), teamsFormatted, remainingPersons);
+        if (teamMatcher.isBalancing()) {
+            feedback += String.format(MESSAGE_VARIANCE, TeamMatcher.getStrengthVariance(teams));
+        }
+        return new CommandResult(feedback);
     }
 
     /**
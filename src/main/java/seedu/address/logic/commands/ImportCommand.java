@@ -4,37 +4,62 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.csv.CsvImporter;
+import seedu.address.logic.csv.MatchLogImporter;
 import seedu.address.logic.csv.exceptions.InvalidCsvException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 
 /**
- * Imports player data from a CSV file into the application's player database.
+ * Imports player data from a CSV file into the application's player database, or records the matches in a
+ * match log against existing players.
  * <p>
- * Supported headers include:
+ * Supported player headers include:
  * <ul>
  *     <li>{@code Name,Role,Rank,Champion}</li>
  *     <li>{@code Name,Role,Rank,Champion,Wins,Losses}</li>
  * </ul>
  * Each imported player is added to the model unless a duplicate already exists.
+ * Match logs are described in {@link MatchLogImporter}.
  */
 public class ImportCommand extends Command {
     public static final String COMMAND_WORD = "import";
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports players from a CSV.\n"
-            + "Parameters: import players from FILEPATH\n"
-            + "Example: import players from data/new_players.csv";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports players from a CSV, or the stats of "
+            + "existing players from a CSV or JSON Lines match log.\n"
+            + "Parameters: import players from FILEPATH | import stats from FILEPATH\n"
+            + "Example: import players from data/new_players.csv\n"
+            + "Example: import stats from data/matches.csv";
 
+    /**
+     * The kinds of data that can be imported.
+     */
+    public enum Target {
+        PLAYERS, STATS
+    }
+
+    private final Target target;
     private final Path path;
 
     /**
-     * Constructs an {@code ImportCommand} with the specified file path.
+     * Constructs an {@code ImportCommand} that imports players from the specified file path.
      *
      * @param path the path to the CSV file to import; must not be {@code null}
      */
     public ImportCommand(Path path) {
+        this(Target.PLAYERS, path);
+    }
+
+    /**
+     * Constructs an {@code ImportCommand} that imports {@code target} from the specified file path.
+     *
+     * @param target the kind of data in the file; must not be {@code null}
+     * @param path the path to the file to import; must not be {@code null}
+     */
+    public ImportCommand(Target target, Path path) {
+        this.target = requireNonNull(target);
         this.path = requireNonNull(path);
     }
 
@@ -53,6 +78,10 @@ public class ImportCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         try {
+            if (target == Target.STATS) {
+                MatchLogImporter.Result result = MatchLogImporter.importMatches(model, path);
+                return new CommandResult(buildStatsSuccessMessage(result));
+            }
             CsvImporter.Result result = CsvImporter.importPlayers(model, path);
             return new CommandResult(buildSuccessMessage(result));
         } catch (NoSuchFileException e) {
@@ -69,19 +98,31 @@ public class ImportCommand extends Command {
                 String.format("Imported %d player(s), skipped %d duplicate(s), %d invalid row(s).",
                         result.imported, result.duplicates, result.invalid));
 
-        if (result.invalid > 0 && !result.sampleErrors.isEmpty()) {
+        appendSampleErrors(msg, result.invalid, result.sampleErrors);
+        return msg.toString();
+    }
+
+    private String buildStatsSuccessMessage(MatchLogImporter.Result result) {
+        StringBuilder msg = new StringBuilder(
+                String.format("Recorded %d match(es) for %d player(s), %d invalid row(s).",
+                        result.recorded, result.players, result.invalid));
+        appendSampleErrors(msg, result.invalid, result.sampleErrors);
+        return msg.toString();
+    }
+
+    private static void appendSampleErrors(StringBuilder msg, int invalid, List<String> sampleErrors) {
+        if (invalid > 0 && !sampleErrors.isEmpty()) {
             msg.append("\nExamples of invalid rows:\n  - ")
-                    .append(String.join("\n  - ", result.sampleErrors));
+                    .append(String.join("\n  - ", sampleErrors));
 
-            if (result.invalid > result.sampleErrors.size()) {
+            if (invalid > sampleErrors.size()) {
                 msg.append("\n  ... (showing ")
-                        .append(result.sampleErrors.size())
+                        .append(sampleErrors.size())
                         .append(" of ")
-                        .append(result.invalid)
+                        .append(invalid)
                         .append(" errors)");
             }
         }
-        return msg.toString();
     }
 
     @Override
@@ -93,7 +134,7 @@ public class ImportCommand extends Command {
             return false;
         }
         ImportCommand o = (ImportCommand) other;
-        return path.equals(o.path);
+        return target == o.target && path.equals(o.path);
     }
 }
 
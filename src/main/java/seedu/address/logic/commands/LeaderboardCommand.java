@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE_MEASURE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.CategoryQuery;
+import seedu.address.model.query.NumericField;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Lists the players with the highest value of a {@code NumericField}, such as their score or win rate, highest first.
+ * The players can be limited to some roles and ranks.
+ */
+public class LeaderboardCommand extends Command {
+
+    public static final String COMMAND_WORD = "leaderboard";
+
+    public static final NumericField DEFAULT_FIELD = NumericField.SCORE;
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the players with the highest score, win rate "
+            + "or recent form, highest first, optionally only those with the given roles and ranks.\n"
+            + "Parameters: "
+            + "[" + PREFIX_SCORE_MEASURE + "FIELD] "
+            + "[" + PREFIX_ROLE + "ROLE]... "
+            + "[" + PREFIX_RANK + "RANK]... "
+            + "[" + PREFIX_TOP + "COUNT]\n"
+            + "FIELD is a numeric field (default: " + DEFAULT_FIELD + "), and COUNT is a positive integer "
+            + "(default: " + DEFAULT_LIMIT + ").\n"
+            + NumericField.MESSAGE_CONSTRAINTS + ".\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_SCORE_MEASURE + "winrate "
+            + PREFIX_ROLE + "Adc "
+            + PREFIX_RANK + "Gold "
+            + PREFIX_RANK + "Platinum "
+            + PREFIX_TOP + "5";
+
+    public static final String MESSAGE_SUCCESS = "Top %1$d players by %2$s listed!";
+
+    private final Set<Role> roles;
+    private final Set<Rank> ranks;
+    private final NumericField field;
+    private final int limit;
+
+    /**
+     * Creates a LeaderboardCommand to list the at most {@code limit} players with the highest {@code field}, among
+     * those with any of {@code roles} and any of {@code ranks}. An empty set places no condition on that attribute.
+     */
+    public LeaderboardCommand(Set<Role> roles, Set<Rank> ranks, NumericField field, int limit) {
+        requireAllNonNull(roles, ranks, field);
+        assert limit > 0;
+        this.roles = Set.copyOf(roles);
+        this.ranks = Set.copyOf(ranks);
+        this.field = field;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.showLeaderboard(scope(), field, limit);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(), field));
+    }
+
+    /**
+     * Returns the query for the players with any of the roles and any of the ranks, or every player if there are none.
+     */
+    private PersonQuery scope() {
+        List<PersonQuery> conditions = new ArrayList<>();
+        if (!roles.isEmpty()) {
+            conditions.add(new OrQuery(roles.stream().map(CategoryQuery::role).collect(Collectors.toList())));
+        }
+        if (!ranks.isEmpty()) {
+            conditions.add(new OrQuery(ranks.stream().map(CategoryQuery::rank).collect(Collectors.toList())));
+        }
+        if (conditions.isEmpty()) {
+            return PersonQuery.ALL;
+        }
+        return conditions.size() == 1 ? conditions.get(0) : new AndQuery(conditions);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LeaderboardCommand)) {
+            return false;
+        }
+
+        LeaderboardCommand otherLeaderboardCommand = (LeaderboardCommand) other;
+        return roles.equals(otherLeaderboardCommand.roles)
+                && ranks.equals(otherLeaderboardCommand.ranks)
+                && field == otherLeaderboardCommand.field
+                && limit == otherLeaderboardCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("roles", roles)
+                .add("ranks", ranks)
+                .add("field", field)
+                .add("limit", limit)
+                .toString();
+    }
+}
@@ -57,13 +57,13 @@ public class LoseCommand extends Command {
         // Create the updated team with the new persons and stats
         Team updatedTeam = createTeamWithNewLoss(teamToLose, updatedPersons);
 
-        // Apply all updates to the model
-        for (int i = 0; i < originalPersons.size(); i++) {
-            Person originalPerson = originalPersons.get(i);
-            Person updatedPerson = updatedPersons.get(i);
-            model.setPerson(originalPerson, updatedPerson);
-        }
-        model.setTeam(teamToLose, updatedTeam);
+        // Apply all updates to the model as a single change
+        model.batchUpdate(addressBook -> {
+            for (int i = 0; i < originalPersons.size(); i++) {
+                addressBook.setPerson(originalPersons.get(i), updatedPersons.get(i));
+            }
+            addressBook.setTeam(teamToLose, updatedTeam);
+        });
 
         return new CommandResult(String.format(MESSAGE_LOSE_TEAM_SUCCESS, targetIndex.getOneBased(),
                 updatedTeam.getWins(), updatedTeam.getLosses()));
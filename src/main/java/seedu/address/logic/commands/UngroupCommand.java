@@ -83,10 +83,8 @@ public class UngroupCommand extends Command {
         // Create a copy of the team list to avoid concurrent modification
         List<Team> teamsToRemove = List.copyOf(teamList);
 
-        // Remove all teams
-        for (Team team : teamsToRemove) {
-            model.deleteTeam(team);
-        }
+        // Remove all teams as a single change
+        model.batchUpdate(addressBook -> teamsToRemove.forEach(addressBook::removeTeam));
 
         return new CommandResult(String.format(MESSAGE_SUCCESS_ALL, teamCount));
     }
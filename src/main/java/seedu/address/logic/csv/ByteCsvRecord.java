@@ -0,0 +1,139 @@
+package seedu.address.logic.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A reusable view of one CSV line held as UTF-8 bytes. Splitting the line only records where each field starts and
+ * ends, and a field is decoded into a {@code String} only when it is asked for, so a row rejected for its shape or
+ * numbers allocates no strings. Fields follow the same rules as {@link CsvImporter#parseCsvLine(String)}, and are
+ * returned trimmed.
+ */
+final class ByteCsvRecord {
+
+    /** Digits in the longest field that {@link #getDigits(int)} parses without overflow. */
+    private static final int MAX_DIGITS = 9;
+
+    private ByteBuffer bytes;
+    private int[] fieldStarts = new int[8];
+    private int[] fieldEnds = new int[8];
+    private boolean[] hasQuotes = new boolean[8];
+    private int size;
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Points this record at the line of {@code bytes} from {@code start} (inclusive) to {@code end} (exclusive),
+     * which excludes the line terminator, and splits it into fields.
+     */
+    void reset(ByteBuffer bytes, int start, int end) {
+        this.bytes = bytes;
+        size = 0;
+        boolean isInQuotes = false;
+        boolean hasQuote = false;
+        int fieldStart = start;
+        for (int i = start; i < end; i++) {
+            byte b = bytes.get(i);
+            if (b == '"') {
+                isInQuotes = !isInQuotes;
+                hasQuote = true;
+            } else if (b == ',' && !isInQuotes) {
+                addField(fieldStart, i, hasQuote);
+                fieldStart = i + 1;
+                hasQuote = false;
+            }
+        }
+        addField(fieldStart, end, hasQuote);
+    }
+
+    private void addField(int start, int end, boolean hasQuote) {
+        if (size == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, size * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, size * 2);
+            hasQuotes = Arrays.copyOf(hasQuotes, size * 2);
+        }
+        fieldStarts[size] = start;
+        fieldEnds[size] = end;
+        hasQuotes[size] = hasQuote;
+        size++;
+    }
+
+    /** Returns the number of fields in the line. */
+    int size() {
+        return size;
+    }
+
+    /** Returns the field at {@code index}, unquoted and trimmed. */
+    String get(int index) {
+        assert index < size;
+        if (hasQuotes[index]) {
+            return CsvImporter.parseCsvLine(decode(fieldStarts[index], fieldEnds[index])).get(0).trim();
+        }
+        int start = trimStart(fieldStarts[index], fieldEnds[index]);
+        return decode(start, trimEnd(start, fieldEnds[index]));
+    }
+
+    /**
+     * Returns the value of the field at {@code index} if, once trimmed, it is 1 to 9 ASCII digits, or -1 otherwise.
+     */
+    int getDigits(int index) {
+        assert index < size;
+        if (hasQuotes[index]) {
+            return -1;
+        }
+        int start = trimStart(fieldStarts[index], fieldEnds[index]);
+        int end = trimEnd(start, fieldEnds[index]);
+        if (start == end || end - start > MAX_DIGITS) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = bytes.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Returns true if the bytes from {@code start} (inclusive) to {@code end} (exclusive) are all whitespace,
+     * as {@link String#isBlank()} would find for ASCII text.
+     */
+    static boolean isBlank(ByteBuffer bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = bytes.get(i);
+            boolean isWhitespace = b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+            if (!isWhitespace) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Skips leading bytes that {@link String#trim()} would remove. */
+    private int trimStart(int start, int end) {
+        while (start < end && (bytes.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /** Skips trailing bytes that {@link String#trim()} would remove. */
+    private int trimEnd(int start, int end) {
+        while (end > start && (bytes.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private String decode(int start, int end) {
+        int length = end - start;
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        bytes.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
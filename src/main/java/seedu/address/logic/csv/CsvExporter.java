@@ -2,31 +2,47 @@ package seedu.address.logic.csv;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
 
 import seedu.address.model.Model;
+import seedu.address.model.person.Metric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Stats;
 import seedu.address.model.team.Team;
 
 /**
  * Utility class that exports {@link Person} and {@link Team} data from the model
  * into CSV files following RFC4180 minimal formatting.
  * <p>
- * Supports exporting both player and team datasets with consistent columns.
- * The exported files can later be re-imported using {@code CsvImporter}.
+ * Supports exporting player, team and match history datasets with consistent columns.
+ * The exported player and match history files can later be re-imported using {@code CsvImporter}
+ * and {@link MatchLogImporter}.
+ * <p>
+ * Rows are written through a buffered writer as the model is iterated, so exporting uses constant memory
+ * however large the address book is. Paths ending with {@code .gz} are written gzip-compressed.
  */
 public final class CsvExporter {
 
     private static final String PLAYERS_HEADER = "Name,Role,Rank,Champion,Wins,Losses";
     private static final String TEAMS_HEADER = "TeamId,Top,Jungle,Mid,Adc,Support,Wins,Losses,WinRate%";
+    private static final String STATS_HEADER = "Player,CPM,GD15,KDA";
+
+    /** Roles in the order of their columns in the teams CSV. */
+    private static final String[] TEAM_ROLE_COLUMNS = {"Top", "Jungle", "Mid", "Adc", "Support"};
+
+    /** Output paths with this suffix are gzip-compressed. */
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private CsvExporter() {
     }
@@ -34,24 +50,25 @@ public final class CsvExporter {
     /**
      * Exports all players in the model to a CSV with header:
      * Name,Role,Rank,Champion,Wins,Losses
-     * (No Stats/AvgGrade are exported for consistency with import.)
+     * (No Stats/AvgGrade are exported for consistency with import; see {@link #exportStats}.)
      */
     public static void exportPlayers(Model model, Path out) throws IOException {
         requireNonNull(model);
-        List<String> lines = new ArrayList<>();
-        lines.add(PLAYERS_HEADER);
-
-        for (Person p : model.getAddressBook().getPersonList()) {
-            lines.add(String.join(",",
-                    csv(p.getName().toString()),
-                    csv(p.getRole().toString()),
-                    csv(p.getRank().toString()),
-                    csv(p.getChampion().toString()),
-                    csv(Integer.toString(p.getWins())),
-                    csv(Integer.toString(p.getLosses()))
-            ));
+        try (Writer writer = openWriter(out)) {
+            writer.write(PLAYERS_HEADER);
+            writer.write(System.lineSeparator());
+
+            for (Person p : model.getAddressBook().getPersonList()) {
+                writeRow(writer,
+                        p.getName().toString(),
+                        p.getRole().toString(),
+                        p.getRank().toString(),
+                        p.getChampion().toString(),
+                        Integer.toString(p.getWins()),
+                        Integer.toString(p.getLosses())
+                );
+            }
         }
-        write(out, lines);
     }
 
     /**
@@ -69,39 +86,81 @@ public final class CsvExporter {
      */
     public static void exportTeams(Model model, Path out) throws IOException {
         requireNonNull(model);
-        List<String> lines = new ArrayList<>();
-        lines.add(TEAMS_HEADER);
-
-        for (Team t : model.getAddressBook().getTeamList()) {
-            try {
-                Map<String, String> roleToName = t.getPersons().stream()
-                        .collect(Collectors.toMap(
-                                p -> normaliseRole(p.getRole().toString()),
-                                p -> p.getName().toString()
-                        ));
+        try (Writer writer = openWriter(out)) {
+            writer.write(TEAMS_HEADER);
+            writer.write(System.lineSeparator());
+
+            String[] row = new String[TEAM_ROLE_COLUMNS.length + 4];
+            for (Team t : model.getAddressBook().getTeamList()) {
+                row[0] = t.getId();
+                Arrays.fill(row, 1, TEAM_ROLE_COLUMNS.length + 1, "");
+                for (Person p : t.getPersons()) {
+                    int column = 1 + roleColumn(p.getRole().toString());
+                    if (column == 0) {
+                        continue;
+                    }
+                    if (!row[column].isEmpty()) {
+                        // should not happen if data integrity is maintained
+                        throw new IOException("Data integrity error: Team '" + t.getId()
+                                + "' has duplicate roles. This indicates corrupted data.");
+                    }
+                    row[column] = p.getName().toString();
+                }
 
                 int wins = t.getWins();
                 int losses = t.getLosses();
-                String winRate = formatWinRate(wins, wins + losses);
-
-                lines.add(joinCsv(
-                        t.getId(),
-                        roleToName.getOrDefault("Top", ""),
-                        roleToName.getOrDefault("Jungle", ""),
-                        roleToName.getOrDefault("Mid", ""),
-                        roleToName.getOrDefault("Adc", ""),
-                        roleToName.getOrDefault("Support", ""),
-                        Integer.toString(wins),
-                        Integer.toString(losses),
-                        winRate
-                ));
-            } catch (IllegalStateException e) {
-                // should not happen if data integrity is maintained
-                throw new IOException("Data integrity error: Team '" + t.getId()
-                        + "' has duplicate roles. This indicates corrupted data.", e);
+                row[TEAM_ROLE_COLUMNS.length + 1] = Integer.toString(wins);
+                row[TEAM_ROLE_COLUMNS.length + 2] = Integer.toString(losses);
+                row[TEAM_ROLE_COLUMNS.length + 3] = formatWinRate(wins, wins + losses);
+                writeRow(writer, row);
             }
         }
-        write(out, lines);
+    }
+
+    /**
+     * Exports the match history of every player in the model to a CSV file at the specified path, with one row
+     * per match in the order the matches were recorded:
+     * <pre>
+     * Player,CPM,GD15,KDA
+     * </pre>
+     * The file can be imported back with {@link MatchLogImporter}.
+     *
+     * @param model the {@link Model} containing the players to export
+     * @param out   the output file path; parent directories are created if missing
+     * @throws IOException if an I/O error occurs during writing
+     */
+    public static void exportStats(Model model, Path out) throws IOException {
+        requireNonNull(model);
+        try (Writer writer = openWriter(out)) {
+            writer.write(STATS_HEADER);
+            writer.write(System.lineSeparator());
+
+            for (Person p : model.getAddressBook().getPersonList()) {
+                String name = p.getName().toString();
+                Stats stats = p.getStats();
+                for (int i = 0; i < stats.getMatchCount(); i++) {
+                    writeRow(writer,
+                            name,
+                            Float.toString((float) stats.getMatchValue(Metric.CS_PER_MINUTE, i)),
+                            Integer.toString((int) stats.getMatchValue(Metric.GOLD_DIFF_AT_15, i)),
+                            Float.toString((float) stats.getMatchValue(Metric.KDA, i))
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the role in {@link #TEAM_ROLE_COLUMNS}, or -1 if it has no column.
+     */
+    private static int roleColumn(String role) {
+        String column = normaliseRole(role);
+        for (int i = 0; i < TEAM_ROLE_COLUMNS.length; i++) {
+            if (TEAM_ROLE_COLUMNS[i].equals(column)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -130,28 +189,34 @@ public final class CsvExporter {
     }
 
     /**
-     * Writes the given lines to the specified file path in UTF-8 encoding.
+     * Opens a buffered UTF-8 writer to the specified file path, gzip-compressed if the path ends with {@code .gz}.
      * Creates parent directories if necessary and truncates existing files.
      *
-     * @param out   output path
-     * @param lines lines of text to write
-     * @throws IOException if writing fails
+     * @param out output path
+     * @return a writer that must be closed to flush the file
+     * @throws IOException if the file cannot be opened
      */
-    private static void write(Path out, List<String> lines) throws IOException {
+    private static Writer openWriter(Path out) throws IOException {
         if (out.getParent() != null) {
             Files.createDirectories(out.getParent());
         }
-        Files.write(out, lines, StandardCharsets.UTF_8,
-                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        OutputStream stream = Files.newOutputStream(out,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        if (out.getFileName().toString().toLowerCase().endsWith(GZIP_SUFFIX)) {
+            stream = new GZIPOutputStream(stream, BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
     }
 
-    /** Escapes a value and joins as CSV. */
-    private static String joinCsv(String... values) {
-        List<String> escaped = new ArrayList<>(values.length);
-        for (String v : values) {
-            escaped.add(csv(v));
+    /** Escapes the values and writes them to {@code writer} as one CSV line. */
+    private static void writeRow(Writer writer, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csv(values[i]));
         }
-        return String.join(",", escaped);
+        writer.write(System.lineSeparator());
     }
 
     /**
@@ -4,15 +4,30 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
 
 import seedu.address.logic.csv.exceptions.InvalidCsvException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -31,13 +46,32 @@ import seedu.address.model.tag.Tag;
  *   <li>{@code Name,Role,Rank,Champion}</li>
  *   <li>{@code Name,Role,Rank,Champion,Wins,Losses}</li>
  * </ul>
- * <p>WinRate% is not supported and such files are rejected.</p>
+ * <p>WinRate% is not supported and such files are rejected. Files ending with {@code .gz} are read as gzip.</p>
+ * <p>Rows are imported in a pipeline: the calling thread reads lines in batches, a pool of parser threads splits
+ * and validates the batches in parallel, and the calling thread takes the parsed batches back in file order to
+ * detect duplicates and add the new players to the model in a single change. Large files are memory-mapped, and
+ * their batches are byte ranges of the mapping that the parsers scan in place (see {@link MappedCsvFile}).</p>
  */
 public final class CsvImporter {
 
     /** Max number of individual row errors shown in the import summary. */
     public static final int MAX_SAMPLE_ERRORS = 5;
 
+    /** Number of lines read before they are handed to a parser thread. */
+    static final int BATCH_SIZE = 2048;
+
+    /** Size from which uncompressed files are memory-mapped instead of decoded through a reader. */
+    static final long MAPPED_IMPORT_THRESHOLD = 1 << 20;
+    /** Approximate number of bytes of a memory-mapped file handed to a parser thread at a time. */
+    static final int MAPPED_BATCH_BYTES = 1 << 18;
+
+    private static final int PARSER_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    /** Bounds the lines held in memory when parsing runs ahead of inserting. */
+    private static final int MAX_BATCHES_IN_FLIGHT = 2 * PARSER_COUNT;
+    private static final String PARSER_THREAD_NAME = "CsvImporter-parser";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
     /**
      * Result summary for an import operation.
      */
@@ -68,6 +102,8 @@ public final class CsvImporter {
 
     /**
      * Imports players from the given CSV file path into the model.
+     * Uncompressed files of at least {@link #MAPPED_IMPORT_THRESHOLD} bytes are memory-mapped and parsed straight
+     * from their bytes; other files are decoded line by line.
      *
      * @param model the model to mutate
      * @param path  path to CSV file
@@ -81,12 +117,51 @@ public final class CsvImporter {
         requireNonNull(model);
         validateFileExists(path);
 
-        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-            HeaderType headerType = readAndValidateHeader(br);
-            Result result = processDataRows(model, br, headerType);
-            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-            return result;
+        Result result;
+        if (!isGzipped(path) && Files.size(path) >= MAPPED_IMPORT_THRESHOLD) {
+            result = importMappedPlayers(model, path, MappedCsvFile.DEFAULT_WINDOW_SIZE);
+        } else {
+            try (BufferedReader br = openReader(path)) {
+                HeaderType headerType = validateHeader(br.readLine());
+                result = processDataRows(model, lineBatches(br, headerType));
+            }
         }
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return result;
+    }
+
+    /**
+     * Imports players from the CSV file at {@code path} by memory-mapping it in windows of {@code windowSize} bytes.
+     */
+    static Result importMappedPlayers(Model model, Path path, int windowSize)
+            throws IOException, InvalidCsvException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedCsvFile file = new MappedCsvFile(channel, windowSize);
+            HeaderType headerType = validateHeader(file.readHeader());
+            return processDataRows(model, () -> {
+                ByteBuffer batch = file.nextBatch(MAPPED_BATCH_BYTES);
+                return batch == null ? null : () -> parseMappedBatch(batch, headerType);
+            });
+        }
+    }
+
+    /**
+     * Opens a buffered UTF-8 reader of the file at {@code path}, decompressing it if the path ends with
+     * {@code .gz}.
+     */
+    static BufferedReader openReader(Path path) throws IOException {
+        InputStream stream = Files.newInputStream(path);
+        if (isGzipped(path)) {
+            stream = new GZIPInputStream(stream, READ_BUFFER_SIZE);
+        }
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns true if the file at {@code path} is gzip-compressed, as shown by a {@code .gz} extension.
+     */
+    static boolean isGzipped(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(GZIP_SUFFIX);
     }
 
     private static void validateFileExists(Path path) throws NoSuchFileException {
@@ -95,9 +170,7 @@ public final class CsvImporter {
         }
     }
 
-    private static HeaderType readAndValidateHeader(BufferedReader br)
-            throws IOException, InvalidCsvException {
-        String header = br.readLine();
+    private static HeaderType validateHeader(String header) throws InvalidCsvException {
         if (header == null) {
             throw new InvalidCsvException("Empty CSV. Expected header: "
                     + "'Name,Role,Rank,Champion' or 'Name,Role,Rank,Champion,Wins,Losses'.");
@@ -124,51 +197,131 @@ public final class CsvImporter {
                 + "  - Name,Role,Rank,Champion,Wins,Losses";
     }
 
-    private static Result processDataRows(Model model, BufferedReader br, HeaderType headerType)
-            throws IOException {
-        int imported = 0;
-        int duplicates = 0;
-        int invalid = 0;
-        List<String> sampleErrors = new ArrayList<>();
-
-        int lineNo = 1;
-        String line;
-        while ((line = br.readLine()) != null) {
-            lineNo++;
-            if (line.isBlank()) {
-                continue;
+    /**
+     * The read stage of an import, which splits the data rows of a file into batches in file order.
+     */
+    @FunctionalInterface
+    private interface BatchSource {
+        /**
+         * Reads the next batch and returns a task that parses it, or returns {@code null} if there are no more rows.
+         */
+        Callable<ParsedBatch> next() throws IOException;
+    }
+
+    private static BatchSource lineBatches(BufferedReader br, HeaderType headerType) {
+        return () -> {
+            List<String> lines = new ArrayList<>(BATCH_SIZE);
+            String line;
+            while (lines.size() < BATCH_SIZE && (line = br.readLine()) != null) {
+                lines.add(line);
             }
+            return lines.isEmpty() ? null : () -> parseLineBatch(lines, headerType);
+        };
+    }
 
-            ImportOutcome outcome = processRow(model, line, lineNo, headerType);
-            imported += outcome.imported;
-            duplicates += outcome.duplicates;
-            invalid += outcome.invalid;
-            if (outcome.error != null && sampleErrors.size() < MAX_SAMPLE_ERRORS) {
-                sampleErrors.add(outcome.error);
+    private static Result processDataRows(Model model, BatchSource source) throws IOException {
+        ExecutorService parsers = Executors.newFixedThreadPool(PARSER_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, PARSER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Insertion insertion = new Insertion(model);
+            Deque<Future<ParsedBatch>> batchesInFlight = new ArrayDeque<>();
+            Callable<ParsedBatch> parseTask;
+            while ((parseTask = source.next()) != null) {
+                batchesInFlight.add(parsers.submit(parseTask));
+                if (batchesInFlight.size() >= MAX_BATCHES_IN_FLIGHT) {
+                    insertion.insertAll(awaitBatch(batchesInFlight.poll()));
+                }
+            }
+            while (!batchesInFlight.isEmpty()) {
+                insertion.insertAll(awaitBatch(batchesInFlight.poll()));
             }
-        }
 
-        return new Result(imported, duplicates, invalid, sampleErrors);
+            insertion.commit();
+            return insertion.toResult();
+        } finally {
+            parsers.shutdownNow();
+        }
     }
 
-    private static ImportOutcome processRow(Model model, String line, int lineNo, HeaderType headerType) {
+    private static ParsedBatch awaitBatch(Future<ParsedBatch> batch) throws IOException {
         try {
-            List<String> cols = parseCsvLine(line);
-            PlayerRow row = PlayerRow.parse(cols, headerType);
-            Person candidate = createPerson(row);
-            return addPersonToModel(model, candidate);
-        } catch (IllegalArgumentException iae) {
-            return ImportOutcome.invalid("line " + lineNo + ": " + iae.getMessage());
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while importing players", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
         }
     }
 
+    /**
+     * Parses and validates {@code lines}, skipping blank lines.
+     * Runs on a parser thread, so it must not touch the model.
+     */
+    private static ParsedBatch parseLineBatch(List<String> lines, HeaderType headerType) {
+        List<ParsedRow> rows = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                List<String> cols = parseCsvLine(line);
+                rows.add(ParsedRow.valid(createPerson(PlayerRow.parse(cols, headerType))));
+            } catch (IllegalArgumentException iae) {
+                rows.add(ParsedRow.invalid(i, iae.getMessage()));
+            }
+        }
+        return new ParsedBatch(rows, lines.size());
+    }
+
+    /**
+     * Parses and validates the whole lines in {@code bytes}, skipping blank lines. Fields are decoded into strings
+     * only once the row has the right number of columns and valid wins and losses.
+     * Runs on a parser thread, so it must not touch the model.
+     */
+    private static ParsedBatch parseMappedBatch(ByteBuffer bytes, HeaderType headerType) {
+        List<ParsedRow> rows = new ArrayList<>();
+        ByteCsvRecord record = new ByteCsvRecord();
+        int lineCount = 0;
+        int position = 0;
+        int limit = bytes.limit();
+        while (position < limit) {
+            int newline = MappedCsvFile.indexOfNewline(bytes, position, limit);
+            int lineEnd = newline < 0 ? limit : newline;
+            int contentEnd = lineEnd > position && bytes.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            if (!ByteCsvRecord.isBlank(bytes, position, contentEnd)) {
+                record.reset(bytes, position, contentEnd);
+                try {
+                    rows.add(ParsedRow.valid(createPerson(PlayerRow.parse(record, headerType))));
+                } catch (IllegalArgumentException iae) {
+                    rows.add(ParsedRow.invalid(lineCount, iae.getMessage()));
+                }
+            }
+            lineCount++;
+            position = lineEnd + 1;
+        }
+        return new ParsedBatch(rows, lineCount);
+    }
+
     private static Person createPerson(PlayerRow row) {
         return new Person(
                 UUID.randomUUID().toString(),
                 new Name(row.name),
-                new Role(row.role),
-                new Rank(row.rank),
-                new Champion(row.champion),
+                Role.of(row.role),
+                Rank.of(row.rank),
+                Champion.of(row.champion),
                 Collections.<Tag>emptySet(),
                 new Stats(),
                 row.wins,
@@ -176,40 +329,93 @@ public final class CsvImporter {
         );
     }
 
-    private static ImportOutcome addPersonToModel(Model model, Person candidate) {
-        if (model.hasPerson(candidate)) {
-            return ImportOutcome.duplicate();
+    /**
+     * The parsed rows of a batch of lines, in file order, and the number of lines in the batch including blank ones.
+     */
+    private static final class ParsedBatch {
+        final List<ParsedRow> rows;
+        final int lineCount;
+
+        ParsedBatch(List<ParsedRow> rows, int lineCount) {
+            this.rows = rows;
+            this.lineCount = lineCount;
         }
-        model.addPerson(candidate);
-        return ImportOutcome.imported();
     }
 
     /**
-     * Tracks the outcome of attempting to import a single row.
+     * A data row after parsing and validation: either the person it describes or the reason it is invalid.
+     * Invalid rows record their line as an index into their batch, as the batch does not know where it starts.
      */
-    private static final class ImportOutcome {
-        final int imported;
-        final int duplicates;
-        final int invalid;
+    private static final class ParsedRow {
+        final Person person;
+        final int lineIndex;
         final String error;
 
-        private ImportOutcome(int imported, int duplicates, int invalid, String error) {
-            this.imported = imported;
-            this.duplicates = duplicates;
-            this.invalid = invalid;
+        private ParsedRow(Person person, int lineIndex, String error) {
+            this.person = person;
+            this.lineIndex = lineIndex;
             this.error = error;
         }
 
-        static ImportOutcome imported() {
-            return new ImportOutcome(1, 0, 0, null);
+        static ParsedRow valid(Person person) {
+            return new ParsedRow(person, -1, null);
         }
 
-        static ImportOutcome duplicate() {
-            return new ImportOutcome(0, 1, 0, null);
+        static ParsedRow invalid(int lineIndex, String error) {
+            return new ParsedRow(null, lineIndex, error);
         }
+    }
 
-        static ImportOutcome invalid(String error) {
-            return new ImportOutcome(0, 0, 1, error);
+    /**
+     * The insert stage of an import. Takes parsed batches in file order on the calling thread, skips duplicates of
+     * existing or earlier rows, and adds the remaining persons to the model together once every row is taken.
+     */
+    private static final class Insertion {
+        private final Model model;
+        private final List<Person> personsToAdd = new ArrayList<>();
+        private final Set<Name> namesToAdd = new HashSet<>();
+        private final List<String> sampleErrors = new ArrayList<>();
+        /** Line number of the first line of the next batch; the header is line 1. */
+        private int nextLineNo = 2;
+        private int duplicates;
+        private int invalid;
+
+        Insertion(Model model) {
+            this.model = model;
+        }
+
+        void insertAll(ParsedBatch batch) {
+            for (ParsedRow row : batch.rows) {
+                insert(row);
+            }
+            nextLineNo += batch.lineCount;
+        }
+
+        private void insert(ParsedRow row) {
+            if (row.error != null) {
+                invalid++;
+                if (sampleErrors.size() < MAX_SAMPLE_ERRORS) {
+                    sampleErrors.add("line " + (nextLineNo + row.lineIndex) + ": " + row.error);
+                }
+                return;
+            }
+
+            // Persons are identified by name, so both checks are hash lookups.
+            if (model.hasPerson(row.person) || !namesToAdd.add(row.person.getName())) {
+                duplicates++;
+                return;
+            }
+            personsToAdd.add(row.person);
+        }
+
+        void commit() {
+            if (!personsToAdd.isEmpty()) {
+                model.batchUpdate(addressBook -> personsToAdd.forEach(addressBook::addPerson));
+            }
+        }
+
+        Result toResult() {
+            return new Result(personsToAdd.size(), duplicates, invalid, sampleErrors);
         }
     }
 
@@ -217,9 +423,17 @@ public final class CsvImporter {
      * Supported CSV header formats.
      */
     private enum HeaderType {
-        H4, // Name,Role,Rank,Champion
-        H6, // Name,Role,Rank,Champion,Wins,Losses
-        UNKNOWN;
+        H4(4, "Name,Role,Rank,Champion"),
+        H6(6, "Name,Role,Rank,Champion,Wins,Losses"),
+        UNKNOWN(0, "");
+
+        final int columnCount;
+        final String columns;
+
+        HeaderType(int columnCount, String columns) {
+            this.columnCount = columnCount;
+            this.columns = columns;
+        }
 
         static HeaderType from(String header) {
             if (header == null || header.isBlank()) {
@@ -262,41 +476,62 @@ public final class CsvImporter {
         }
 
         static PlayerRow parse(List<String> cols, HeaderType type) {
+            checkColumnCount(cols.size(), type);
+            int wins = 0;
+            int losses = 0;
+            if (type == HeaderType.H6) {
+                wins = parseNonNegativeInt(cols.get(4).trim(), "Wins");
+                losses = parseNonNegativeInt(cols.get(5).trim(), "Losses");
+            }
+            return of(type, cols.get(0).trim(), cols.get(1).trim(), cols.get(2).trim(), cols.get(3).trim(),
+                    wins, losses);
+        }
+
+        /**
+         * Parses {@code record} as {@link #parse(List, HeaderType)} would parse its decoded fields, without
+         * decoding any field of a row with the wrong number of columns or an invalid wins or losses count.
+         */
+        static PlayerRow parse(ByteCsvRecord record, HeaderType type) {
+            checkColumnCount(record.size(), type);
+            int wins = 0;
+            int losses = 0;
+            if (type == HeaderType.H6) {
+                wins = parseNonNegativeInt(record, 4, "Wins");
+                losses = parseNonNegativeInt(record, 5, "Losses");
+            }
+            return of(type, record.get(0), record.get(1), record.get(2), record.get(3), wins, losses);
+        }
+
+        private static PlayerRow of(HeaderType type, String name, String role, String rank, String champion,
+                int wins, int losses) {
             switch (type) {
             case H4:
-                if (cols.size() != 4) {
-                    throw new IllegalArgumentException(
-                            "Expected 4 columns (Name,Role,Rank,Champion) but found " + cols.size());
-                }
                 return new PlayerRow(
-                        validateNotEmpty(cols.get(0).trim(), "Name"),
-                        validateNotEmpty(cols.get(1).trim(), "Role"),
-                        validateNotEmpty(cols.get(2).trim(), "Rank"),
-                        validateNotEmpty(cols.get(3).trim(), "Champion"),
+                        validateNotEmpty(name, "Name"),
+                        validateNotEmpty(role, "Role"),
+                        validateNotEmpty(rank, "Rank"),
+                        validateNotEmpty(champion, "Champion"),
                         0,
                         0
                 );
             case H6:
-                if (cols.size() != 6) {
-                    throw new IllegalArgumentException(
-                            "Expected 6 columns (Name,Role,Rank,Champion,Wins,Losses) but found " + cols.size());
-                }
-                int wins = parseNonNegativeInt(cols.get(4).trim(), "Wins");
-                int losses = parseNonNegativeInt(cols.get(5).trim(), "Losses");
-                return new PlayerRow(
-                        cols.get(0).trim(),
-                        cols.get(1).trim(),
-                        cols.get(2).trim(),
-                        cols.get(3).trim(),
-                        wins,
-                        losses
-                );
+                return new PlayerRow(name, role, rank, champion, wins, losses);
 
             default:
                 throw new IllegalArgumentException("Unsupported header type");
             }
         }
 
+        private static void checkColumnCount(int found, HeaderType type) {
+            if (type == HeaderType.UNKNOWN) {
+                throw new IllegalArgumentException("Unsupported header type");
+            }
+            if (found != type.columnCount) {
+                throw new IllegalArgumentException("Expected " + type.columnCount + " columns ("
+                        + type.columns + ") but found " + found);
+            }
+        }
+
         private static String validateNotEmpty(String value, String fieldName) {
             if (value.isEmpty()) {
                 throw new IllegalArgumentException(fieldName + " cannot be empty");
@@ -304,6 +539,11 @@ public final class CsvImporter {
             return value;
         }
 
+        private static int parseNonNegativeInt(ByteCsvRecord record, int index, String colName) {
+            int digits = record.getDigits(index);
+            return digits >= 0 ? digits : parseNonNegativeInt(record.get(index), colName);
+        }
+
         private static int parseNonNegativeInt(String raw, String colName) {
             try {
                 int v = Integer.parseInt(raw);
@@ -0,0 +1,140 @@
+package seedu.address.logic.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A CSV file read through memory-mapped windows of its channel, so its bytes are never copied onto the heap.
+ * The file is handed out as byte batches that each end at the end of a line, so every batch holds whole lines and
+ * can be parsed independently of the others. Windows are at most {@code windowSize} bytes, which keeps files larger
+ * than 2 GiB readable; a line longer than a window cannot be read.
+ */
+final class MappedCsvFile {
+
+    /** Default size of the mapped windows. */
+    static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    /** Offset in the file of the first byte not yet handed out. */
+    private long position;
+
+    /**
+     * Creates a reader of the file open in {@code channel}, mapping at most {@code windowSize} bytes at a time.
+     */
+    MappedCsvFile(FileChannel channel, int windowSize) throws IOException {
+        requireNonNull(channel);
+        assert windowSize > 0;
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Reads the first line of the file, without its line terminator.
+     *
+     * @return the header line, or {@code null} if the file is empty
+     * @throws IOException if the file cannot be mapped or the line is longer than a window
+     */
+    String readHeader() throws IOException {
+        assert position == 0;
+        if (size == 0) {
+            return null;
+        }
+
+        mapFrom(0);
+        int newline = indexOfNewline(window, 0, window.limit());
+        if (newline < 0 && window.limit() < size) {
+            throw new IOException("The CSV header is longer than " + windowSize + " bytes");
+        }
+
+        int end = newline < 0 ? window.limit() : newline;
+        if (end > 0 && window.get(end - 1) == '\r') {
+            end--;
+        }
+        byte[] header = new byte[end];
+        window.get(0, header);
+        position = newline < 0 ? size : newline + 1;
+        return new String(header, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the next batch of whole lines, of about {@code targetSize} bytes, as a read-only view of the mapped
+     * file. The batch is longer than {@code targetSize} if that is needed to end it at the end of a line.
+     *
+     * @return the next batch, or {@code null} if the whole file has been handed out
+     * @throws IOException if the file cannot be mapped or a line is longer than a window
+     */
+    ByteBuffer nextBatch(int targetSize) throws IOException {
+        assert targetSize > 0;
+        if (position >= size) {
+            return null;
+        }
+        if (window == null || position >= windowStart + window.limit()) {
+            mapFrom(position);
+        }
+
+        int start = (int) (position - windowStart);
+        int limit = window.limit();
+        int end = (int) Math.min((long) start + targetSize, limit);
+        if (windowStart + end < size) {
+            int newline = indexOfNewline(window, end - 1, limit);
+            if (newline < 0) {
+                // The line at the cut continues past this window, so end the batch before that line instead.
+                newline = lastIndexOfNewline(window, start, end);
+            }
+            if (newline < 0) {
+                if (start == 0) {
+                    throw new IOException("A CSV line is longer than " + windowSize + " bytes");
+                }
+                // The first line of the batch continues past this window, so map a window starting at it.
+                mapFrom(position);
+                return nextBatch(targetSize);
+            }
+            end = newline + 1;
+        }
+
+        position = windowStart + end;
+        return window.slice(start, end - start).asReadOnlyBuffer();
+    }
+
+    private void mapFrom(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+    }
+
+    /**
+     * Returns the index of the first {@code '\n'} in {@code bytes} from {@code from} (inclusive) to {@code to}
+     * (exclusive), or -1 if there is none.
+     */
+    static int indexOfNewline(ByteBuffer bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last {@code '\n'} in {@code bytes} from {@code from} (inclusive) to {@code to}
+     * (exclusive), or -1 if there is none.
+     */
+    private static int lastIndexOfNewline(ByteBuffer bytes, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (bytes.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
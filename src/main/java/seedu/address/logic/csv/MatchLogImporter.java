@@ -0,0 +1,279 @@
+package seedu.address.logic.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.csv.exceptions.InvalidCsvException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stats;
+
+/**
+ * Importer for match logs, which record the stats of many players over many matches. Each row names a player by
+ * name or id and gives the CPM, GD15 and KDA of one match, in the order the matches were played.
+ * Supported formats, chosen by file extension:
+ * <ul>
+ *   <li>CSV, with header {@code Player,CPM,GD15,KDA}</li>
+ *   <li>JSON Lines ({@code .jsonl} or {@code .ndjson}), one object per line such as
+ *       {@code {"player": "Faker", "cpm": 9.5, "gd15": 800, "kda": 4.2}}</li>
+ * </ul>
+ * Either format may be gzip-compressed, with a further {@code .gz} extension.
+ * <p>The file is read one row at a time. All valid rows are applied to the model together once the file has been
+ * read, so the model changes (and is saved) once however many rows there are. Invalid rows are skipped and reported.
+ */
+public final class MatchLogImporter {
+
+    /** Max number of individual row errors shown in the import summary. */
+    public static final int MAX_SAMPLE_ERRORS = CsvImporter.MAX_SAMPLE_ERRORS;
+
+    public static final String MESSAGE_INVALID_HEADER = "Invalid header: '%s'.\nExpected: Player,CPM,GD15,KDA";
+    public static final String MESSAGE_UNKNOWN_PLAYER = "No player with name or id '%s'";
+
+    private static final List<String> CSV_HEADER = List.of("player", "cpm", "gd15", "kda");
+    private static final List<String> JSON_LINES_EXTENSIONS = List.of(".jsonl", ".ndjson");
+
+    /**
+     * Result summary for a match log import.
+     */
+    public static final class Result {
+        public final int recorded;
+        public final int players;
+        public final int invalid;
+        public final List<String> sampleErrors;
+
+        /**
+         * Constructs a result with counts.
+         *
+         * @param recorded number of rows whose match was recorded
+         * @param players  number of players with at least one match recorded
+         * @param invalid  number of rows that failed validation or named an unknown player
+         */
+        Result(int recorded, int players, int invalid, List<String> sampleErrors) {
+            this.recorded = recorded;
+            this.players = players;
+            this.invalid = invalid;
+            this.sampleErrors = sampleErrors;
+        }
+    }
+
+    private MatchLogImporter() {
+        // utility class
+    }
+
+    /**
+     * Records the matches in the match log at {@code path} in the model.
+     *
+     * @param model the model to mutate
+     * @param path  path to a CSV or JSON Lines match log
+     * @return a {@link Result} summary of the import
+     * @throws IOException         when IO fails (e.g., file missing)
+     * @throws InvalidCsvException when the CSV header is invalid
+     */
+    public static Result importMatches(Model model, Path path) throws IOException, InvalidCsvException {
+        requireNonNull(model);
+        requireNonNull(path);
+        if (!Files.exists(path)) {
+            throw new NoSuchFileException(path.toString());
+        }
+
+        Ingestion ingestion = new Ingestion(model.getAddressBook().getPersonList());
+        try (BufferedReader br = CsvImporter.openReader(path)) {
+            if (isJsonLines(path)) {
+                readJsonLines(br, ingestion);
+            } else {
+                readCsv(br, ingestion);
+            }
+        }
+
+        model.updatePersons(ingestion.editedPersons());
+        return ingestion.toResult();
+    }
+
+    private static boolean isJsonLines(Path path) {
+        String fileName = path.getFileName().toString().toLowerCase();
+        if (CsvImporter.isGzipped(path)) {
+            fileName = fileName.substring(0, fileName.lastIndexOf('.'));
+        }
+        return JSON_LINES_EXTENSIONS.stream().anyMatch(fileName::endsWith);
+    }
+
+    private static void readCsv(BufferedReader br, Ingestion ingestion) throws IOException, InvalidCsvException {
+        String header = br.readLine();
+        if (header == null || !isValidCsvHeader(header)) {
+            throw new InvalidCsvException(String.format(MESSAGE_INVALID_HEADER, header == null ? "" : header.trim()));
+        }
+
+        int lineNo = 1;
+        String line;
+        while ((line = br.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> cols = CsvImporter.parseCsvLine(line);
+            if (cols.size() != CSV_HEADER.size()) {
+                ingestion.reject(lineNo, "Expected 4 columns (Player,CPM,GD15,KDA) but found " + cols.size());
+                continue;
+            }
+            ingestion.record(lineNo, cols.get(0).trim(), cols.get(1).trim(), cols.get(2).trim(), cols.get(3).trim());
+        }
+    }
+
+    private static boolean isValidCsvHeader(String header) {
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        return Arrays.stream(header.split(",", -1))
+                .map(s -> s.trim().toLowerCase())
+                .toList()
+                .equals(CSV_HEADER);
+    }
+
+    private static void readJsonLines(BufferedReader br, Ingestion ingestion) throws IOException {
+        int lineNo = 0;
+        String line;
+        while ((line = br.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try (JsonParser parser = JsonUtil.createJsonParser(line)) {
+                readJsonRow(parser, lineNo, ingestion);
+            } catch (JsonProcessingException e) {
+                ingestion.reject(lineNo, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static void readJsonRow(JsonParser parser, int lineNo, Ingestion ingestion) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            ingestion.reject(lineNo, "Expected a JSON object");
+            return;
+        }
+
+        String player = null;
+        String cpm = null;
+        String gd15 = null;
+        String kda = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            String text = value == JsonToken.VALUE_NULL ? null : parser.getText().trim();
+            switch (fieldName.toLowerCase()) {
+            case "player":
+                player = text;
+                break;
+            case "cpm":
+                cpm = text;
+                break;
+            case "gd15":
+                gd15 = text;
+                break;
+            case "kda":
+                kda = text;
+                break;
+            default:
+                break;
+            }
+        }
+
+        if (player == null || cpm == null || gd15 == null || kda == null) {
+            ingestion.reject(lineNo, "Expected fields player, cpm, gd15 and kda");
+            return;
+        }
+        ingestion.record(lineNo, player, cpm, gd15, kda);
+    }
+
+    /**
+     * Accumulates the matches read so far against a fixed view of the players, without changing the model.
+     */
+    private static final class Ingestion {
+        private final Map<String, Person> personsById = new HashMap<>();
+        private final Map<String, Person> personsByName = new HashMap<>();
+        /** Latest stats of every player with a recorded match, keyed by id, in the order first recorded. */
+        private final Map<String, Stats> updatedStatsById = new LinkedHashMap<>();
+        private final List<String> sampleErrors = new ArrayList<>();
+        private int recorded;
+        private int invalid;
+
+        Ingestion(List<Person> persons) {
+            for (Person person : persons) {
+                personsById.put(person.getId(), person);
+                personsByName.put(person.getName().fullName, person);
+            }
+        }
+
+        /**
+         * Records a match of {@code player}, who is named by name or id, or rejects it if it is invalid.
+         */
+        void record(int lineNo, String player, String cpm, String gd15, String kda) {
+            Person person = personsByName.get(player);
+            if (person == null) {
+                person = personsById.get(player);
+            }
+            if (person == null) {
+                reject(lineNo, String.format(MESSAGE_UNKNOWN_PLAYER, player));
+                return;
+            }
+            if (!Stats.isValidStatsFormat(cpm, gd15, kda)) {
+                reject(lineNo, Stats.MESSAGE_CONSTRAINTS.replace('\n', ' '));
+                return;
+            }
+            // Each row is parsed and validated once, then recorded without validating it again.
+            float floatCpm = Float.parseFloat(cpm);
+            int intGd15 = Integer.parseInt(gd15);
+            float floatKda = Float.parseFloat(kda);
+            if (!Stats.isValidStats(floatCpm, intGd15, floatKda)) {
+                reject(lineNo, Stats.MESSAGE_CONSTRAINTS.replace('\n', ' '));
+                return;
+            }
+
+            Stats stats = updatedStatsById.getOrDefault(person.getId(), person.getStats());
+            updatedStatsById.put(person.getId(), stats.addLatestStats(floatCpm, intGd15, floatKda));
+            recorded++;
+        }
+
+        void reject(int lineNo, String error) {
+            invalid++;
+            if (sampleErrors.size() < MAX_SAMPLE_ERRORS) {
+                sampleErrors.add("line " + lineNo + ": " + error);
+            }
+        }
+
+        List<Person> editedPersons() {
+            List<Person> editedPersons = new ArrayList<>(updatedStatsById.size());
+            updatedStatsById.forEach((id, stats) -> {
+                Person person = personsById.get(id);
+                editedPersons.add(new Person(id, person.getName(), person.getRole(), person.getRank(),
+                        person.getChampion(), person.getTags(), person.getWins(), person.getLosses(), stats));
+            });
+            return editedPersons;
+        }
+
+        Result toResult() {
+            return new Result(recorded, updatedStatsById.size(), invalid, sampleErrors);
+        }
+    }
+}
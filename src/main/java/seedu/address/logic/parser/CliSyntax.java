@@ -15,4 +15,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_GD15 = new Prefix("gd15/");
     public static final Prefix PREFIX_KDA = new Prefix("kda/");
     public static final Prefix PREFIX_SCORE = new Prefix("s/");
+    public static final Prefix PREFIX_SCORE_MEASURE = new Prefix("by/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 }
@@ -15,6 +15,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
  *   <li>{@code export teams}</li>
  *   <li>{@code export players to data/players.csv}</li>
  *   <li>{@code export teams to data/teams.csv}</li>
+ *   <li>{@code export stats to data/stats.csv.gz}</li>
  * </ul>
  * If no {@code CUSTOM_PATH} is provided, a default path is used.
  */
@@ -22,6 +23,7 @@ public class ExportCommandParser implements Parser<ExportCommand> {
 
     private static final String PLAYERS_KEYWORD = "players";
     private static final String TEAMS_KEYWORD = "teams";
+    private static final String STATS_KEYWORD = "stats";
     private static final String TO_KEYWORD = "to";
 
     /**
@@ -44,6 +46,9 @@ public class ExportCommandParser implements Parser<ExportCommand> {
         } else if (trimmed.startsWith(TEAMS_KEYWORD)) {
             target = ExportCommand.Target.TEAMS;
             remainder = trimmed.substring(TEAMS_KEYWORD.length()).trim();
+        } else if (trimmed.startsWith(STATS_KEYWORD)) {
+            target = ExportCommand.Target.STATS;
+            remainder = trimmed.substring(STATS_KEYWORD.length()).trim();
         } else {
             throw new ParseException(ExportCommand.MESSAGE_USAGE);
         }
@@ -59,8 +64,8 @@ public class ExportCommandParser implements Parser<ExportCommand> {
             if (pathString.isEmpty()) {
                 throw new ParseException("File path cannot be empty after 'to'.");
             }
-            if (!pathString.endsWith(".csv")) {
-                throw new ParseException("File path must end with .csv");
+            if (!pathString.endsWith(".csv") && !pathString.endsWith(".csv.gz")) {
+                throw new ParseException("File path must end with .csv or .csv.gz");
             }
             customPath = Paths.get(pathString);
         }
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CHAMPION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE_MEASURE;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -28,12 +29,24 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns an FilterCommand object for execution.
+     * Arguments starting with {@code where} are parsed as a query by {@link FilterQueryParser}.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FilterCommand parse(String args) throws ParseException {
         requireNonNull(args);
+        String trimmedArgs = args.trim();
+        String[] keywordAndQuery = trimmedArgs.split("\\s+", 2);
+        if (keywordAndQuery[0].equalsIgnoreCase(FilterCommand.WHERE_KEYWORD)) {
+            if (keywordAndQuery.length < 2) {
+                throw new ParseException(String.format(
+                        MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+            }
+            return new FilterCommand(FilterQueryParser.parse(keywordAndQuery[1]));
+        }
+
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_ROLE, PREFIX_RANK, PREFIX_CHAMPION, PREFIX_SCORE);
+                ArgumentTokenizer.tokenize(args, PREFIX_ROLE, PREFIX_RANK, PREFIX_CHAMPION, PREFIX_SCORE,
+                        PREFIX_SCORE_MEASURE);
 
         // Reject any extraneous preamble or invalid fields
         if (!argMultimap.getPreamble().isEmpty()) {
@@ -61,6 +74,12 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         parseScoreForFilter(argMultimap.getAllValues(PREFIX_SCORE))
                 .ifPresent(filterPersonDescriptor::setScoreThreshold);
 
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SCORE_MEASURE);
+        if (argMultimap.getValue(PREFIX_SCORE_MEASURE).isPresent()) {
+            filterPersonDescriptor.setScoreMeasure(
+                    ParserUtil.parseScoreMeasure(argMultimap.getValue(PREFIX_SCORE_MEASURE).get()));
+        }
+
         if (!filterPersonDescriptor.isAnyFieldFiltered()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
@@ -73,7 +92,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      * Returns true if any prefix has empty values (i.e., user typed "rk/" without a value)
      */
     private boolean hasEmptyPrefixValue(ArgumentMultimap argMultimap) {
-        return Stream.of(PREFIX_RANK, PREFIX_ROLE, PREFIX_CHAMPION, PREFIX_SCORE)
+        return Stream.of(PREFIX_RANK, PREFIX_ROLE, PREFIX_CHAMPION, PREFIX_SCORE, PREFIX_SCORE_MEASURE)
                 .anyMatch(prefix ->
                         argMultimap.getAllValues(prefix).stream().anyMatch(String::isEmpty)
                 );
@@ -0,0 +1,254 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.CategoryQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.NumericField;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.RangeQuery;
+import seedu.address.model.query.RangeQuery.Comparison;
+
+/**
+ * Parses a filter query, such as {@code role:Mid AND (rank:Gold OR rank:Platinum) AND NOT tag:benched AND wins >= 10},
+ * into a {@link PersonQuery}.
+ *
+ * The grammar, with {@code AND}, {@code OR} and {@code NOT} in any case and {@code AND} optional between conditions:
+ * <pre>
+ *     query     := and (OR and)*
+ *     and       := unary ([AND] unary)*
+ *     unary     := NOT unary | '(' query ')' | condition
+ *     condition := (rank | role | champion | tag) ':' VALUE | NUMERIC_FIELD ('<' | '<=' | '=' | '>=' | '>') NUMBER
+ * </pre>
+ * A value containing spaces, such as a champion named {@code "Lee Sin"}, is written in double quotes.
+ */
+public class FilterQueryParser {
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid filter query: %1$s\n"
+            + "Conditions are FIELD:VALUE, with FIELD one of rank, role, champion and tag, or NUMERIC_FIELD "
+            + "followed by <, <=, =, >= or > and a number, and are combined with AND, OR, NOT and parentheses.\n"
+            + NumericField.MESSAGE_CONSTRAINTS;
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String COLON = ":";
+    private static final String OPERATOR_CHARACTERS = "<=>";
+    private static final String SPECIAL_CHARACTERS = "():\"" + OPERATOR_CHARACTERS;
+
+    private final List<Token> tokens;
+    private int position;
+
+    private FilterQueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into a {@code PersonQuery}.
+     *
+     * @throws ParseException if {@code query} is not a valid query, or names an invalid value.
+     */
+    public static PersonQuery parse(String query) throws ParseException {
+        requireNonNull(query);
+        FilterQueryParser parser = new FilterQueryParser(tokenize(query));
+        if (parser.tokens.isEmpty()) {
+            throw invalid("the query is empty");
+        }
+        PersonQuery parsed = parser.parseOr();
+        if (parser.hasNext()) {
+            throw invalid("unexpected '" + parser.peek().text + "'");
+        }
+        return parsed;
+    }
+
+    private PersonQuery parseOr() throws ParseException {
+        List<PersonQuery> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (nextIsKeyword(OR)) {
+            position++;
+            queries.add(parseAnd());
+        }
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    private PersonQuery parseAnd() throws ParseException {
+        List<PersonQuery> queries = new ArrayList<>();
+        queries.add(parseUnary());
+        while (hasNext() && !nextIsKeyword(OR) && !nextIs(CLOSE)) {
+            if (nextIsKeyword(AND)) {
+                position++;
+            }
+            queries.add(parseUnary());
+        }
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    private PersonQuery parseUnary() throws ParseException {
+        if (!hasNext()) {
+            throw invalid("a condition is missing at the end");
+        }
+        if (nextIsKeyword(NOT)) {
+            position++;
+            return new NotQuery(parseUnary());
+        }
+        if (nextIs(OPEN)) {
+            position++;
+            PersonQuery query = parseOr();
+            if (!nextIs(CLOSE)) {
+                throw invalid("a ')' is missing");
+            }
+            position++;
+            return query;
+        }
+        return parseCondition();
+    }
+
+    private PersonQuery parseCondition() throws ParseException {
+        Token field = next();
+        if (field.isSymbol()) {
+            throw invalid("expected a condition but found '" + field.text + "'");
+        }
+        if (!hasNext()) {
+            throw invalid("'" + field.text + "' is missing a ':' or a comparison");
+        }
+
+        Token operator = next();
+        if (operator.text.equals(COLON) && operator.isSymbol()) {
+            return parseCategory(field.text, nextValue(field.text));
+        }
+        Comparison comparison = operator.isSymbol() ? Comparison.fromSymbol(operator.text) : null;
+        if (comparison == null) {
+            throw invalid("'" + field.text + "' is missing a ':' or a comparison");
+        }
+        return parseRange(field.text, comparison, nextValue(field.text));
+    }
+
+    private static PersonQuery parseCategory(String field, String value) throws ParseException {
+        switch (field.toLowerCase()) {
+        case "rank":
+            return CategoryQuery.rank(ParserUtil.parseRank(value));
+        case "role":
+            return CategoryQuery.role(ParserUtil.parseRole(value));
+        case "champion":
+            return CategoryQuery.champion(ParserUtil.parseChampion(value));
+        case "tag":
+            return CategoryQuery.tag(ParserUtil.parseTag(value));
+        default:
+            throw invalid("'" + field + "' is not one of rank, role, champion and tag");
+        }
+    }
+
+    private static PersonQuery parseRange(String field, Comparison comparison, String value) throws ParseException {
+        if (!NumericField.isValidNumericField(field)) {
+            throw invalid("'" + field + "' is not a numeric field");
+        }
+        final double number;
+        try {
+            number = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw invalid("'" + value + "' is not a number");
+        }
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            throw invalid("'" + value + "' is not a number");
+        }
+        return new RangeQuery(NumericField.fromKeyword(field), comparison, number);
+    }
+
+    private String nextValue(String field) throws ParseException {
+        if (!hasNext() || peek().isSymbol()) {
+            throw invalid("'" + field + "' is missing a value");
+        }
+        return next().text;
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next() {
+        return tokens.get(position++);
+    }
+
+    private boolean nextIs(String symbol) {
+        return hasNext() && peek().isSymbol() && peek().text.equals(symbol);
+    }
+
+    private boolean nextIsKeyword(String keyword) {
+        return hasNext() && peek().kind == Token.Kind.WORD && peek().text.equalsIgnoreCase(keyword);
+    }
+
+    /**
+     * Splits {@code query} into words, quoted values, parentheses, colons and comparison operators.
+     */
+    private static List<Token> tokenize(String query) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw invalid("a closing '\"' is missing");
+                }
+                tokens.add(new Token(Token.Kind.QUOTED, query.substring(i + 1, end).trim()));
+                i = end + 1;
+            } else if (OPERATOR_CHARACTERS.indexOf(c) >= 0) {
+                int end = i + 1;
+                if (end < query.length() && query.charAt(end) == '=' && c != '=') {
+                    end++;
+                }
+                tokens.add(new Token(Token.Kind.SYMBOL, query.substring(i, end)));
+                i = end;
+            } else if (SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                tokens.add(new Token(Token.Kind.SYMBOL, String.valueOf(c)));
+                i++;
+            } else {
+                int end = i;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end))
+                        && SPECIAL_CHARACTERS.indexOf(query.charAt(end)) < 0) {
+                    end++;
+                }
+                tokens.add(new Token(Token.Kind.WORD, query.substring(i, end)));
+                i = end;
+            }
+        }
+        return tokens;
+    }
+
+    private static ParseException invalid(String reason) {
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, reason));
+    }
+
+    /**
+     * A word, quoted value or symbol of a query.
+     */
+    private static class Token {
+        private enum Kind { WORD, QUOTED, SYMBOL }
+
+        private final Kind kind;
+        private final String text;
+
+        private Token(Kind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+
+        private boolean isSymbol() {
+            return kind == Kind.SYMBOL;
+        }
+    }
+}
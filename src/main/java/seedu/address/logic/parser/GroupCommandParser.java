@@ -2,12 +2,17 @@ package seedu.address.logic.parser;
 
 import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.teammatcher.BalancedTeamMatcher;
+import seedu.address.logic.teammatcher.OptimalTeamMatcher;
+import seedu.address.logic.teammatcher.ParallelTeamMatcher;
 
 /**
  * Parses input arguments and creates a new GroupCommand object.
  */
 public class GroupCommandParser implements Parser<GroupCommand> {
 
+    public static final String MESSAGE_UNKNOWN_MODE = "Unknown grouping mode: %1$s";
+
     /**
      * Parses the given {@code String} of arguments in the context of the GroupCommand
      * and returns a GroupCommand object for execution.
@@ -16,11 +21,18 @@ public class GroupCommandParser implements Parser<GroupCommand> {
     public GroupCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
 
-        if (!trimmedArgs.isEmpty()) {
+        switch (trimmedArgs.toLowerCase()) {
+        case "":
+            return new GroupCommand();
+        case GroupCommand.MODE_OPTIMAL:
+            return new GroupCommand(new OptimalTeamMatcher());
+        case GroupCommand.MODE_BALANCED:
+            return new GroupCommand(new BalancedTeamMatcher());
+        case GroupCommand.MODE_PARALLEL:
+            return new GroupCommand(new ParallelTeamMatcher());
+        default:
             throw new ParseException(
-                    "The group command does not take any arguments.\n" + GroupCommand.MESSAGE_USAGE);
+                    String.format(MESSAGE_UNKNOWN_MODE, trimmedArgs) + "\n" + GroupCommand.MESSAGE_USAGE);
         }
-
-        return new GroupCommand();
     }
 }
@@ -12,6 +12,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Recognises commands of the form:
  * <ul>
  *   <li>{@code import players from data/players.csv}</li>
+ *   <li>{@code import stats from data/matches.csv}</li>
  * </ul>
  * Extracts the file path after the keyword {@code from} and constructs
  * an {@link ImportCommand} with that path.
@@ -19,12 +20,13 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class ImportCommandParser implements Parser<ImportCommand> {
 
     private static final String PLAYERS_KEYWORD = "players";
+    private static final String STATS_KEYWORD = "stats";
     private static final String FROM_KEYWORD = "from";
 
     /**
      * Parses the given user input and returns an {@link ImportCommand}.
      * <p>
-     * Expected format: {@code players from FILEPATH}.
+     * Expected format: {@code players from FILEPATH} or {@code stats from FILEPATH}.
      *
      * @param args full user input string (excluding the command word)
      * @return an {@link ImportCommand} that imports players from the specified file path
@@ -34,17 +36,23 @@ public class ImportCommandParser implements Parser<ImportCommand> {
     public ImportCommand parse(String args) throws ParseException {
         String trimmed = args.trim();
 
-        if (!trimmed.toLowerCase().startsWith(PLAYERS_KEYWORD)) {
+        final ImportCommand.Target target;
+        final String afterTarget;
+        if (trimmed.toLowerCase().startsWith(PLAYERS_KEYWORD)) {
+            target = ImportCommand.Target.PLAYERS;
+            afterTarget = trimmed.substring(PLAYERS_KEYWORD.length()).trim();
+        } else if (trimmed.toLowerCase().startsWith(STATS_KEYWORD)) {
+            target = ImportCommand.Target.STATS;
+            afterTarget = trimmed.substring(STATS_KEYWORD.length()).trim();
+        } else {
             throw new ParseException(ImportCommand.MESSAGE_USAGE);
         }
 
-        String afterPlayers = trimmed.substring(PLAYERS_KEYWORD.length()).trim();
-
-        if (!afterPlayers.toLowerCase().startsWith(FROM_KEYWORD)) {
+        if (!afterTarget.toLowerCase().startsWith(FROM_KEYWORD)) {
             throw new ParseException(ImportCommand.MESSAGE_USAGE);
         }
 
-        String pathString = afterPlayers.substring(FROM_KEYWORD.length()).trim();
+        String pathString = afterTarget.substring(FROM_KEYWORD.length()).trim();
 
         if (pathString.isEmpty()) {
             throw new ParseException("File path cannot be empty.\n" + ImportCommand.MESSAGE_USAGE);
@@ -52,7 +60,7 @@ public class ImportCommandParser implements Parser<ImportCommand> {
 
         try {
             Path path = Paths.get(pathString);
-            return new ImportCommand(path);
+            return new ImportCommand(target, path);
         } catch (Exception e) {
             throw new ParseException("Invalid file path: " + pathString);
         }
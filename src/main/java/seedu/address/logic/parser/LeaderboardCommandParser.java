@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE_MEASURE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.LeaderboardCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LeaderboardCommand object
+ */
+public class LeaderboardCommandParser implements Parser<LeaderboardCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "COUNT must be a positive integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LeaderboardCommand
+     * and returns a LeaderboardCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LeaderboardCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SCORE_MEASURE, PREFIX_ROLE, PREFIX_RANK, PREFIX_TOP);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeaderboardCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SCORE_MEASURE, PREFIX_TOP);
+
+        Optional<String> field = argMultimap.getValue(PREFIX_SCORE_MEASURE);
+        Optional<String> count = argMultimap.getValue(PREFIX_TOP);
+        return new LeaderboardCommand(
+                ParserUtil.parseRoles(argMultimap.getAllValues(PREFIX_ROLE)),
+                ParserUtil.parseRanks(argMultimap.getAllValues(PREFIX_RANK)),
+                field.isPresent() ? ParserUtil.parseNumericField(field.get()) : LeaderboardCommand.DEFAULT_FIELD,
+                count.isPresent() ? parseCount(count.get()) : LeaderboardCommand.DEFAULT_LIMIT);
+    }
+
+    private static int parseCount(String count) throws ParseException {
+        try {
+            return ParserUtil.parseIndex(count).getOneBased();
+        } catch (ParseException e) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+    }
+}
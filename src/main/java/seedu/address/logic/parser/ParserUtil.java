@@ -16,6 +16,8 @@ import seedu.address.model.person.Champion;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Rank;
 import seedu.address.model.person.Role;
+import seedu.address.model.person.ScoreMeasure;
+import seedu.address.model.query.NumericField;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -135,7 +137,7 @@ public class ParserUtil {
         if (!Champion.isValidChampion(trimmedChampion)) {
             throw new ParseException(Champion.MESSAGE_CONSTRAINTS);
         }
-        return new Champion(trimmedChampion);
+        return Champion.of(trimmedChampion);
     }
 
     /**
@@ -162,7 +164,7 @@ public class ParserUtil {
         if (!Rank.isValidRank(trimmedRank)) {
             throw new ParseException(Rank.MESSAGE_CONSTRAINTS);
         }
-        return new Rank(trimmedRank);
+        return Rank.of(trimmedRank);
     }
 
     /**
@@ -189,7 +191,7 @@ public class ParserUtil {
         if (!Role.isValidRole(trimmedRole)) {
             throw new ParseException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(trimmedRole);
+        return Role.of(trimmedRole);
     }
 
     /**
@@ -204,6 +206,36 @@ public class ParserUtil {
         return roleSet;
     }
 
+    /**
+     * Parses a {@code String measure} into a {@code ScoreMeasure}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code measure} does not name a score measure.
+     */
+    public static ScoreMeasure parseScoreMeasure(String measure) throws ParseException {
+        requireNonNull(measure);
+        String trimmedMeasure = measure.trim();
+        if (!ScoreMeasure.isValidScoreMeasure(trimmedMeasure)) {
+            throw new ParseException(ScoreMeasure.MESSAGE_CONSTRAINTS);
+        }
+        return ScoreMeasure.fromKeyword(trimmedMeasure);
+    }
+
+    /**
+     * Parses a {@code String field} into a {@code NumericField}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code field} does not name a numeric field.
+     */
+    public static NumericField parseNumericField(String field) throws ParseException {
+        requireNonNull(field);
+        String trimmedField = field.trim();
+        if (!NumericField.isValidNumericField(trimmedField)) {
+            throw new ParseException(NumericField.MESSAGE_CONSTRAINTS);
+        }
+        return NumericField.fromKeyword(trimmedField);
+    }
+
     /**
      * Parses a {@code String score} into a {@code Float}.
      * Leading and trailing whitespaces will be trimmed.
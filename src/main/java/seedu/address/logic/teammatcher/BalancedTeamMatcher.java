@@ -0,0 +1,151 @@
+package seedu.address.logic.teammatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateChampionException;
+import seedu.address.model.team.exceptions.MissingRolesException;
+
+/**
+ * A team matcher that spreads strong and weak players evenly instead of stacking the best players into Team 1.
+ *
+ * Algorithm:
+ * 1. Keeps the strongest players of every role, as many as the scarcest role allows teams, where strength combines
+ *    the rank tier with the average match score
+ * 2. Runs a snake draft: in each round every team picks the strongest remaining player for a role it still needs,
+ *    with the pick order reversed every round, so the team that picks first in one round picks last in the next
+ * 3. Skips players who would repeat a champion in the picking team, and fills any slot left open at the end with a
+ *    spare player of that role
+ * 4. Improves the draft with local search, swapping same-role players between a stronger and a weaker team
+ *    whenever that brings the two teams closer together
+ *
+ * Each pick looks at a bounded number of players per role, so the draft is linear after sorting and the mode stays
+ * fast on large pools.
+ */
+public class BalancedTeamMatcher extends TeamMatcher {
+
+    @Override
+    public List<Team> matchTeams(List<Person> unassignedPersons)
+            throws MissingRolesException, DuplicateChampionException {
+        Map<Role, List<Person>> personsByRole = groupByRole(unassignedPersons);
+        validateMinimumPersons(personsByRole);
+
+        List<Team> teams = draftTeams(personsByRole);
+        if (teams.isEmpty()) {
+            // Let the greedy matcher report which clash prevents even a single team.
+            return super.matchTeams(unassignedPersons);
+        }
+        return teams;
+    }
+
+    /**
+     * Drafts as many teams as possible from {@code personsByRole} and returns them, strongest first.
+     */
+    private List<Team> draftTeams(Map<Role, List<Person>> personsByRole) {
+        int teamCount = getMaximumTeamCount(personsByRole);
+        Roster roster = new Roster(teamCount);
+
+        List<List<Candidate>> pools = new ArrayList<>();
+        List<List<Candidate>> spares = new ArrayList<>();
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            List<Candidate> candidates = Candidate.strongestFirst(slot, personsByRole.get(REQUIRED_ROLES.get(slot)));
+            pools.add(candidates.subList(0, teamCount));
+            spares.add(new ArrayList<>(candidates.subList(teamCount, candidates.size())));
+        }
+
+        Draft draft = new Draft(pools);
+        for (int round = 0; round < TEAM_SIZE; round++) {
+            for (int pick = 0; pick < teamCount; pick++) {
+                int team = round % 2 == 0 ? pick : teamCount - 1 - pick;
+                draft.pickFor(roster, team);
+            }
+        }
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            spares.get(slot).addAll(draft.getUndrafted(slot));
+            spares.get(slot).sort(Candidate.STRONGEST_FIRST);
+        }
+
+        roster.fillOpenSlots(spares);
+        roster.rebalance();
+        return roster.toTeams();
+    }
+
+    @Override
+    public boolean isBalancing() {
+        return true;
+    }
+
+    /**
+     * The players still available in a draft, per slot and strongest first.
+     */
+    private static class Draft {
+        private final List<List<Candidate>> pools;
+        private final boolean[][] drafted;
+        private final int[] firstAvailable;
+
+        Draft(List<List<Candidate>> pools) {
+            this.pools = pools;
+            this.drafted = new boolean[TEAM_SIZE][];
+            this.firstAvailable = new int[TEAM_SIZE];
+            for (int slot = 0; slot < TEAM_SIZE; slot++) {
+                drafted[slot] = new boolean[pools.get(slot).size()];
+            }
+        }
+
+        /**
+         * Gives {@code team} the strongest available player, among the first few of each role it still needs, who
+         * does not repeat a champion in the team. Leaves the team as it is if there is no such player.
+         */
+        void pickFor(Roster roster, int team) {
+            int bestSlot = -1;
+            int bestIndex = -1;
+            for (int slot = 0; slot < TEAM_SIZE; slot++) {
+                if (roster.get(team, slot) != null) {
+                    continue;
+                }
+                int index = findPickable(roster, team, slot);
+                if (index != -1 && (bestSlot == -1
+                        || pools.get(slot).get(index).strength > pools.get(bestSlot).get(bestIndex).strength)) {
+                    bestSlot = slot;
+                    bestIndex = index;
+                }
+            }
+            if (bestSlot != -1) {
+                drafted[bestSlot][bestIndex] = true;
+                roster.assign(team, pools.get(bestSlot).get(bestIndex));
+            }
+        }
+
+        private int findPickable(Roster roster, int team, int slot) {
+            List<Candidate> pool = pools.get(slot);
+            while (firstAvailable[slot] < pool.size() && drafted[slot][firstAvailable[slot]]) {
+                firstAvailable[slot]++;
+            }
+            int tried = 0;
+            for (int index = firstAvailable[slot]; index < pool.size() && tried < Roster.SEARCH_WINDOW; index++) {
+                if (drafted[slot][index]) {
+                    continue;
+                }
+                if (!roster.hasClash(team, pool.get(index))) {
+                    return index;
+                }
+                tried++;
+            }
+            return -1;
+        }
+
+        List<Candidate> getUndrafted(int slot) {
+            List<Candidate> undrafted = new ArrayList<>();
+            for (int index = firstAvailable[slot]; index < drafted[slot].length; index++) {
+                if (!drafted[slot][index]) {
+                    undrafted.add(pools.get(slot).get(index));
+                }
+            }
+            return undrafted;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.teammatcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A player waiting for a team, together with the slot of their role and their strength, which is worked out once
+ * up front so that matchers can compare players cheaply.
+ */
+class Candidate {
+
+    static final Comparator<Candidate> STRONGEST_FIRST =
+            Comparator.comparingDouble((Candidate candidate) -> candidate.strength).reversed();
+
+    final int slot;
+    final Person person;
+    final double strength;
+
+    Candidate(int slot, Person person) {
+        this.slot = slot;
+        this.person = person;
+        this.strength = TeamMatcher.getStrength(person);
+    }
+
+    /**
+     * Returns {@code persons} as candidates for {@code slot}, strongest first.
+     */
+    static List<Candidate> strongestFirst(int slot, List<Person> persons) {
+        List<Candidate> candidates = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            candidates.add(new Candidate(slot, person));
+        }
+        candidates.sort(STRONGEST_FIRST);
+        return candidates;
+    }
+
+    /**
+     * Returns true if this player plays the same champion as {@code other}.
+     */
+    boolean hasSameChampion(Candidate other) {
+        return person.getChampion().equals(other.person.getChampion());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.teammatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateChampionException;
+import seedu.address.model.team.exceptions.MissingRolesException;
+
+/**
+ * A team matcher that treats team formation as an assignment of players to role slots.
+ *
+ * Algorithm:
+ * 1. Aims for as many teams as the scarcest role allows, keeping the strongest players of every role
+ * 2. Hands out players from strongest to weakest, each to the currently weakest team that still needs their role,
+ *    which keeps every team's strength close to the average (the longest-processing-time rule for balanced loads)
+ * 3. Skips over teams where the player would repeat a champion, and fills any slot left open at the end with a
+ *    spare player of that role, moving a player over from another team if needed, only giving up a team when
+ *    neither works
+ * 4. Narrows the remaining spread by trading same-role players between stronger and weaker teams
+ *
+ * Unlike {@link TeamMatcher}, a clash never stops the remaining teams from forming, and the resulting teams have
+ * close to equal strength. Every placement costs O(log n), so large pools are matched well within a second.
+ */
+public class OptimalTeamMatcher extends TeamMatcher {
+
+    @Override
+    public List<Team> matchTeams(List<Person> unassignedPersons)
+            throws MissingRolesException, DuplicateChampionException {
+        Map<Role, List<Person>> personsByRole = groupByRole(unassignedPersons);
+        validateMinimumPersons(personsByRole);
+
+        List<Team> teams = assignTeams(personsByRole);
+        if (teams.isEmpty()) {
+            // Let the greedy matcher report which clash prevents even a single team.
+            return super.matchTeams(unassignedPersons);
+        }
+        return teams;
+    }
+
+    /**
+     * Forms as many teams as possible from {@code personsByRole} and returns them, strongest first.
+     */
+    private List<Team> assignTeams(Map<Role, List<Person>> personsByRole) {
+        int teamCount = getMaximumTeamCount(personsByRole);
+        Roster roster = new Roster(teamCount);
+
+        List<Candidate> selected = new ArrayList<>();
+        List<List<Candidate>> spares = new ArrayList<>();
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            List<Candidate> candidates = Candidate.strongestFirst(slot, personsByRole.get(REQUIRED_ROLES.get(slot)));
+            selected.addAll(candidates.subList(0, teamCount));
+            spares.add(new ArrayList<>(candidates.subList(teamCount, candidates.size())));
+        }
+        selected.sort(Candidate.STRONGEST_FIRST);
+
+        for (Candidate candidate : selected) {
+            if (!roster.placeInWeakestOpenTeam(candidate)) {
+                spares.get(candidate.slot).add(candidate);
+            }
+        }
+        spares.forEach(slotSpares -> slotSpares.sort(Candidate.STRONGEST_FIRST));
+        roster.fillOpenSlots(spares);
+        roster.rebalance();
+        return roster.toTeams();
+    }
+
+    @Override
+    public boolean isBalancing() {
+        return true;
+    }
+}
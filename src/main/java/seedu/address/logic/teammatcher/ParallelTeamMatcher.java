@@ -0,0 +1,170 @@
+package seedu.address.logic.teammatcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateChampionException;
+import seedu.address.model.team.exceptions.MissingRolesException;
+
+/**
+ * A team matcher that forms exactly the same teams as {@link TeamMatcher}, in the same order, but splits large pools
+ * into rank bands that are matched in parallel.
+ *
+ * Algorithm:
+ * 1. Sorts each role group by rank (highest to lowest) in parallel
+ * 2. Cuts the front of every sorted role group into aligned rank bands of {@value #BAND_SIZE} players, one band per
+ *    core, so that band k holds the players of the next {@value #BAND_SIZE} teams the sequential matcher would form
+ *    if no player were skipped over for a champion conflict
+ * 3. Forms teams in each band independently on the common {@link ForkJoinPool}
+ * 4. Accepts the teams of the bands in rank order. A band that forms all {@value #BAND_SIZE} of its teams uses up all
+ *    its players, and its teams are those of the sequential matcher. At the first band that does not, the sequential
+ *    matcher would have looked past the band for a player: its teams so far are kept, its leftover players are put
+ *    back in front of the players after it, and the next team is selected from the whole remaining pool, as the
+ *    sequential matcher does, before banding again. Teams speculatively formed by later bands are discarded.
+ *
+ * Without champion conflicts no band falls short, so matching scales with the number of cores instead of the square
+ * of the pool size. Pools of fewer than two bands are matched sequentially.
+ */
+public class ParallelTeamMatcher extends TeamMatcher {
+
+    /** Number of teams formed per band. */
+    static final int BAND_SIZE = 128;
+
+    @Override
+    public List<Team> matchTeams(List<Person> unassignedPersons)
+            throws MissingRolesException, DuplicateChampionException {
+        Map<Role, List<Person>> personsByRole = groupByRole(unassignedPersons);
+        validateMinimumPersons(personsByRole);
+
+        if (getMaximumTeamCount(personsByRole) < 2 * BAND_SIZE) {
+            return super.matchTeams(unassignedPersons);
+        }
+
+        Map<Role, List<Person>> remaining = createParallelSortedCopy(personsByRole);
+        validateNoInitialConflict(remaining);
+
+        int bandsPerRound = Math.max(1, ForkJoinPool.commonPool().getParallelism());
+        List<Team> teams = new ArrayList<>();
+        while (true) {
+            int bandCount = Math.min(bandsPerRound, getMaximumTeamCount(remaining) / BAND_SIZE);
+            if (bandCount < 2) {
+                teams.addAll(formTeams(remaining));
+                return teams;
+            }
+
+            List<Map<Role, List<Person>>> bands = splitIntoBands(remaining, bandCount);
+            List<List<Team>> bandTeams = ForkJoinPool.commonPool().invoke(
+                    new FormBandTeamsTask(bands, 0, bandCount));
+
+            int band = 0;
+            while (band < bandCount && bandTeams.get(band).size() == BAND_SIZE) {
+                teams.addAll(bandTeams.get(band));
+                band++;
+            }
+            if (band == bandCount) {
+                remaining = dropBands(remaining, bandCount, Map.of());
+                continue;
+            }
+
+            // The band fell short: resume from its leftovers, as the sequential matcher would
+            Map<Role, List<Person>> shortBand = bands.get(band);
+            teams.addAll(bandTeams.get(band));
+            remaining = dropBands(remaining, band + 1, shortBand);
+            Optional<Team> nextTeam = formNextTeam(remaining);
+            if (nextTeam.isEmpty()) {
+                return teams;
+            }
+            teams.add(nextTeam.get());
+        }
+    }
+
+    /**
+     * Returns a copy of {@code personsByRole} with each role group sorted by rank (highest to lowest), keeping the
+     * order of equally ranked persons, like {@link #createSortedCopy}.
+     */
+    private Map<Role, List<Person>> createParallelSortedCopy(Map<Role, List<Person>> personsByRole) {
+        Comparator<Person> rankComparator = Comparator.comparing(Person::getRank).reversed();
+        return personsByRole.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().parallelStream()
+                        .sorted(rankComparator)
+                        .collect(Collectors.toCollection(ArrayList::new))));
+    }
+
+    /**
+     * Copies the first {@code bandCount} bands of {@code BAND_SIZE} persons off the front of every role group.
+     */
+    private List<Map<Role, List<Person>>> splitIntoBands(Map<Role, List<Person>> sortedPersonsByRole, int bandCount) {
+        List<Map<Role, List<Person>>> bands = new ArrayList<>(bandCount);
+        for (int band = 0; band < bandCount; band++) {
+            Map<Role, List<Person>> bandPersonsByRole = new HashMap<>();
+            for (Role role : REQUIRED_ROLES) {
+                List<Person> bandPersons = sortedPersonsByRole.get(role)
+                        .subList(band * BAND_SIZE, (band + 1) * BAND_SIZE);
+                bandPersonsByRole.put(role, new ArrayList<>(bandPersons));
+            }
+            bands.add(bandPersonsByRole);
+        }
+        return bands;
+    }
+
+    /**
+     * Returns the persons of {@code sortedPersonsByRole} after its first {@code bandCount} bands, each role group
+     * preceded by the persons of that role in {@code leftoversByRole}.
+     */
+    private Map<Role, List<Person>> dropBands(Map<Role, List<Person>> sortedPersonsByRole, int bandCount,
+                                              Map<Role, List<Person>> leftoversByRole) {
+        Map<Role, List<Person>> remaining = new HashMap<>();
+        for (Role role : REQUIRED_ROLES) {
+            List<Person> persons = sortedPersonsByRole.get(role);
+            List<Person> rest = new ArrayList<>(leftoversByRole.getOrDefault(role, List.of()));
+            rest.addAll(persons.subList(bandCount * BAND_SIZE, persons.size()));
+            remaining.put(role, rest);
+        }
+        return remaining;
+    }
+
+    /**
+     * Forms the teams of a range of bands, splitting the range in half until a single band is left.
+     * Each band's role groups are consumed as its teams are formed, leaving only the persons it could not place.
+     * Returns the teams of each band, in the order of the bands.
+     */
+    private class FormBandTeamsTask extends RecursiveTask<List<List<Team>>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Map<Role, List<Person>>> bands;
+        private final int from;
+        private final int to;
+
+        FormBandTeamsTask(List<Map<Role, List<Person>>> bands, int from, int to) {
+            this.bands = bands;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<List<Team>> compute() {
+            if (to - from == 1) {
+                List<List<Team>> teams = new ArrayList<>();
+                teams.add(formTeams(bands.get(from)));
+                return teams;
+            }
+            int middle = (from + to) >>> 1;
+            FormBandTeamsTask stronger = new FormBandTeamsTask(bands, from, middle);
+            stronger.fork();
+            List<List<Team>> weakerTeams = new FormBandTeamsTask(bands, middle, to).compute();
+            List<List<Team>> teams = stronger.join();
+            teams.addAll(weakerTeams);
+            return teams;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.logic.teammatcher;
+
+import static seedu.address.logic.teammatcher.TeamMatcher.TEAM_SIZE;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Teams under construction by a matcher, with their running strength totals and, per slot, the teams whose slot is
+ * still open ordered from weakest to strongest.
+ *
+ * Besides placing players, the roster can repair open slots from spare players and narrow the spread in team
+ * strength by trading players between teams, so different matchers only need to differ in their first placement.
+ */
+class Roster {
+
+    /** How many teams or spares are tried before a placement is given up on, and how many partners a trade tries. */
+    static final int SEARCH_WINDOW = 32;
+
+    /** Upper bound on the rebalancing passes made by {@link #rebalance()}. */
+    static final int MAX_REBALANCE_PASSES = 50;
+
+    private final Candidate[][] members;
+    private final double[] totals;
+    private final boolean[] abandoned;
+    private final List<TreeSet<Integer>> openTeams = new ArrayList<>();
+
+    Roster(int teamCount) {
+        members = new Candidate[teamCount][TEAM_SIZE];
+        totals = new double[teamCount];
+        abandoned = new boolean[teamCount];
+
+        Comparator<Integer> weakestFirst = Comparator.<Integer>comparingDouble(team -> totals[team])
+                .thenComparingInt(team -> team);
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            TreeSet<Integer> open = new TreeSet<>(weakestFirst);
+            IntStream.range(0, teamCount).forEach(open::add);
+            openTeams.add(open);
+        }
+    }
+
+    int getTeamCount() {
+        return members.length;
+    }
+
+    Candidate get(int team, int slot) {
+        return members[team][slot];
+    }
+
+    double getTotal(int team) {
+        return totals[team];
+    }
+
+    boolean isViable(int team) {
+        return !abandoned[team];
+    }
+
+    void abandon(int team) {
+        abandoned[team] = true;
+    }
+
+    /**
+     * Puts {@code candidate} in the weakest of the first few teams with their slot open where they cause no clash.
+     *
+     * @return false if no such team was found.
+     */
+    boolean placeInWeakestOpenTeam(Candidate candidate) {
+        Iterator<Integer> open = openTeams.get(candidate.slot).iterator();
+        for (int tried = 0; tried < SEARCH_WINDOW && open.hasNext(); tried++) {
+            int team = open.next();
+            if (!hasClash(team, candidate)) {
+                assign(team, candidate);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Puts {@code candidate} in their slot of {@code team}, replacing whoever was there.
+     */
+    void assign(int team, Candidate candidate) {
+        // The open sets are ordered by total, so the team has to leave them while its total changes.
+        updateOpenTeams(team, TreeSet::remove);
+        Candidate replaced = members[team][candidate.slot];
+        if (replaced != null) {
+            totals[team] -= replaced.strength;
+        }
+        members[team][candidate.slot] = candidate;
+        totals[team] += candidate.strength;
+        updateOpenTeams(team, TreeSet::add);
+    }
+
+    private void updateOpenTeams(int team, BiConsumer<TreeSet<Integer>, Integer> update) {
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            if (members[team][slot] == null) {
+                update.accept(openTeams.get(slot), team);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code candidate} plays a champion already taken by another filled slot of {@code team}.
+     */
+    boolean hasClash(int team, Candidate candidate) {
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            Candidate member = members[team][slot];
+            if (slot != candidate.slot && member != null && member.hasSameChampion(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fills every slot that is still open with a spare player of that role, moving a player over from another team
+     * if no spare fits directly, and abandons the teams where neither works.
+     *
+     * @param spares Spare players of each slot, strongest first. Used players are removed.
+     */
+    void fillOpenSlots(List<List<Candidate>> spares) {
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            List<Candidate> slotSpares = spares.get(slot);
+            for (int team : new ArrayList<>(openTeams.get(slot))) {
+                if (isViable(team) && !trySpare(team, slotSpares) && !tryDisplace(slot, team, slotSpares)) {
+                    abandon(team);
+                }
+            }
+        }
+    }
+
+    private boolean trySpare(int team, List<Candidate> spares) {
+        for (int i = 0; i < spares.size(); i++) {
+            Candidate spare = spares.get(i);
+            if (!hasClash(team, spare)) {
+                spares.remove(i);
+                assign(team, spare);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fills the open {@code slot} of {@code team} with a player moved over from another team, who is in turn
+     * replaced there by a spare player.
+     */
+    private boolean tryDisplace(int slot, int team, List<Candidate> spares) {
+        for (int i = 0; i < Math.min(spares.size(), SEARCH_WINDOW); i++) {
+            Candidate spare = spares.get(i);
+            for (int other = 0; other < members.length; other++) {
+                Candidate moved = members[other][slot];
+                if (isViable(other) && moved != null && !hasClash(team, moved) && !hasClash(other, spare)) {
+                    spares.remove(i);
+                    assign(other, spare);
+                    assign(team, moved);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Narrows the spread in team strength by trading same-role players between stronger and weaker teams, pass after
+     * pass, until a pass makes no trade.
+     */
+    void rebalance() {
+        for (int pass = 0; pass < MAX_REBALANCE_PASSES && rebalanceOnce(); pass++) {
+            // keep narrowing the spread until a pass makes no trade
+        }
+    }
+
+    /**
+     * Walks the stronger half of the teams, strongest first, and lets each trade one player with one of the weakest
+     * teams.
+     *
+     * @return true if any trade was made.
+     */
+    private boolean rebalanceOnce() {
+        int[] weakestFirst = viableTeamsWeakestFirst();
+        boolean isImproved = false;
+        for (int k = weakestFirst.length - 1; k >= weakestFirst.length / 2; k--) {
+            for (int j = 0; j < Math.min(k, SEARCH_WINDOW); j++) {
+                if (tryTrade(weakestFirst[k], weakestFirst[j])) {
+                    isImproved = true;
+                    break;
+                }
+            }
+        }
+        return isImproved;
+    }
+
+    /**
+     * Swaps the same-role pair of players between {@code strong} and {@code weak} that brings their totals closest
+     * together, if any such swap narrows the gap without causing a champion clash. Since the players' strengths
+     * differ by less than the gap, both totals move towards each other and the spread can only shrink.
+     */
+    private boolean tryTrade(int strong, int weak) {
+        double gap = totals[strong] - totals[weak];
+        int bestSlot = -1;
+        double bestGap = gap;
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            Candidate strongPlayer = members[strong][slot];
+            Candidate weakPlayer = members[weak][slot];
+            double newGap = Math.abs(gap - 2 * (strongPlayer.strength - weakPlayer.strength));
+            if (newGap < bestGap && !hasClash(weak, strongPlayer) && !hasClash(strong, weakPlayer)) {
+                bestSlot = slot;
+                bestGap = newGap;
+            }
+        }
+        if (bestSlot == -1) {
+            return false;
+        }
+        Candidate strongPlayer = members[strong][bestSlot];
+        assign(strong, members[weak][bestSlot]);
+        assign(weak, strongPlayer);
+        return true;
+    }
+
+    int[] viableTeamsWeakestFirst() {
+        return IntStream.range(0, members.length)
+                .filter(this::isViable)
+                .boxed()
+                .sorted(Comparator.comparingDouble(team -> totals[team]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Returns the completed teams, strongest first.
+     */
+    List<Team> toTeams() {
+        int[] weakestFirst = viableTeamsWeakestFirst();
+        List<Team> teams = new ArrayList<>(weakestFirst.length);
+        for (int i = weakestFirst.length - 1; i >= 0; i--) {
+            List<Person> persons = new ArrayList<>(TEAM_SIZE);
+            for (Candidate member : members[weakestFirst[i]]) {
+                persons.add(member.person);
+            }
+            teams.add(new Team(persons));
+        }
+        return teams;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.teammatcher;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.stream.Collectors;
 
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Role;
+import seedu.address.model.person.Stats;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.exceptions.DuplicateChampionException;
 import seedu.address.model.team.exceptions.MissingRolesException;
@@ -22,13 +24,13 @@ import seedu.address.model.team.exceptions.MissingRolesException;
  */
 public class TeamMatcher {
 
-    private static final int TEAM_SIZE = 5;
-    private static final List<Role> REQUIRED_ROLES = List.of(
-        new Role("Top"),
-        new Role("Jungle"),
-        new Role("Mid"),
-        new Role("Adc"),
-        new Role("Support")
+    static final int TEAM_SIZE = 5;
+    static final List<Role> REQUIRED_ROLES = List.of(
+        Role.of("Top"),
+        Role.of("Jungle"),
+        Role.of("Mid"),
+        Role.of("Adc"),
+        Role.of("Support")
     );
 
     /**
@@ -76,7 +78,7 @@ public class TeamMatcher {
      *
      * @throws MissingRolesException if any role is missing.
      */
-    private void validateMinimumPersons(Map<Role, List<Person>> personsByRole)
+    void validateMinimumPersons(Map<Role, List<Person>> personsByRole)
             throws MissingRolesException {
         List<Role> missingRoles = REQUIRED_ROLES.stream()
                 .filter(role -> !personsByRole.containsKey(role) || personsByRole.get(role).isEmpty())
@@ -87,12 +89,22 @@ public class TeamMatcher {
         }
     }
 
+    /**
+     * Returns how many teams the scarcest role allows.
+     */
+    int getMaximumTeamCount(Map<Role, List<Person>> personsByRole) {
+        return REQUIRED_ROLES.stream()
+                .mapToInt(role -> personsByRole.get(role).size())
+                .min()
+                .orElse(0);
+    }
+
     /**
      * Validates that at least one conflict-free team can be formed.
      *
      * @throws DuplicateChampionException if it's impossible to form even a single team.
      */
-    private void validateNoInitialConflict(Map<Role, List<Person>> personsByRole) throws DuplicateChampionException {
+    void validateNoInitialConflict(Map<Role, List<Person>> personsByRole) throws DuplicateChampionException {
         if (trySelectTeamMembers(personsByRole).isEmpty()) {
             Person[] conflict = findConflictingPersons(personsByRole);
             throw new DuplicateChampionException(conflict[0], conflict[1]);
@@ -128,26 +140,42 @@ public class TeamMatcher {
      * @param personsByRole Map of roles to lists of persons (will be modified).
      * @return List of teams formed from the persons.
      */
-    private List<Team> formTeams(Map<Role, List<Person>> personsByRole) {
+    List<Team> formTeams(Map<Role, List<Person>> personsByRole) {
         List<Team> teams = new ArrayList<>();
 
-        while (canFormTeam(personsByRole)) {
-            Optional<List<Person>> teamMembers = trySelectTeamMembers(personsByRole);
+        Optional<Team> team = formNextTeam(personsByRole);
+        while (team.isPresent()) {
+            teams.add(team.get());
+            team = formNextTeam(personsByRole);
+        }
 
-            if (teamMembers.isEmpty()) {
-                break;
-            }
+        return teams;
+    }
 
-            List<Person> members = teamMembers.get();
-            teams.add(new Team(members));
+    /**
+     * Forms the next team from the sorted role groups, as {@link #formTeams} does, and removes its members from their
+     * role groups.
+     *
+     * @param personsByRole Map of roles to lists of persons (will be modified).
+     * @return The team formed, or Optional.empty() if no more teams can be formed.
+     */
+    Optional<Team> formNextTeam(Map<Role, List<Person>> personsByRole) {
+        if (!canFormTeam(personsByRole)) {
+            return Optional.empty();
+        }
 
-            // Remove selected persons from their role pools
-            for (Person member : members) {
-                personsByRole.get(member.getRole()).remove(member);
-            }
+        Optional<List<Person>> teamMembers = trySelectTeamMembers(personsByRole);
+        if (teamMembers.isEmpty()) {
+            return Optional.empty();
         }
 
-        return teams;
+        List<Person> members = teamMembers.get();
+
+        // Remove selected persons from their role pools
+        for (Person member : members) {
+            personsByRole.get(member.getRole()).remove(member);
+        }
+        return Optional.of(new Team(members));
     }
 
     /**
@@ -229,6 +257,35 @@ public class TeamMatcher {
         return Optional.empty();
     }
 
+    /**
+     * Returns the playing strength of {@code person} used to balance teams.
+     * The rank tier dominates; the average match score (0 to 10) shifts a player by at most one tier.
+     */
+    static double getStrength(Person person) {
+        Stats stats = person.getStats();
+        double score = stats == null ? 0.0 : stats.getValue();
+        return person.getRank().getRankOrder() + score / 10.0;
+    }
+
+    /**
+     * Returns the variance of the total strengths of {@code teams}, where 0 means every team is equally strong.
+     */
+    public static double getStrengthVariance(List<Team> teams) {
+        double[] totals = teams.stream()
+                .mapToDouble(team -> team.getPersons().stream().mapToDouble(TeamMatcher::getStrength).sum())
+                .toArray();
+        double mean = Arrays.stream(totals).average().orElse(0.0);
+        return Arrays.stream(totals).map(total -> (total - mean) * (total - mean)).average().orElse(0.0);
+    }
+
+    /**
+     * Returns true if this matcher aims for teams of equal strength, in which case the variance it achieves is
+     * worth reporting.
+     */
+    public boolean isBalancing() {
+        return false;
+    }
+
     /**
      * Checks if a candidate has a champion conflict with any of the selected members.
      */
@@ -242,13 +299,13 @@ public class TeamMatcher {
         if (other == this) {
             return true;
         }
-        // All TeamMatcher instances are equal since they have no state
-        return other instanceof TeamMatcher;
+        // All instances of the same matcher are equal since they have no state
+        return other != null && other.getClass() == getClass();
     }
 
     @Override
     public int hashCode() {
-        // All instances return the same hash code since they're stateless
-        return TeamMatcher.class.hashCode();
+        // All instances of the same matcher return the same hash code since they're stateless
+        return getClass().hashCode();
     }
 }
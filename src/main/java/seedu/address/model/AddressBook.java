@@ -2,8 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -72,6 +76,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         setTeams(newData.getTeamList());
     }
 
+    /**
+     * Applies {@code edits} to this {@code AddressBook}, notifying listeners of the person and team lists once each
+     * when all the edits are done. Each change names only the persons and teams that were set, added or removed, and
+     * a list that is not edited fires no change.
+     * If any edit throws, the edits already made are undone before the exception is rethrown.
+     */
+    public void batch(Consumer<AddressBook> edits) {
+        requireNonNull(edits);
+
+        persons.beginBatch();
+        teams.beginBatch();
+        try {
+            edits.accept(this);
+        } catch (RuntimeException e) {
+            teams.rollbackBatch();
+            persons.rollbackBatch();
+            throw e;
+        } finally {
+            persons.endBatch();
+            teams.endBatch();
+        }
+    }
+
     //// person-level operations
 
     /**
@@ -124,6 +151,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces every person with the same id as one of {@code editedPersons} with that edited person, and updates
+     * the teams they are in to match. Only the edited persons and their teams are replaced, and the person and team
+     * lists each fire them as one change.
+     * Nothing is changed if an edited person has an unknown id, or if the edits would make two persons the same.
+     */
+    public void updatePersons(Collection<Person> editedPersons) {
+        requireNonNull(editedPersons);
+        Map<String, Person> editedPersonsById = new HashMap<>();
+        for (Person editedPerson : editedPersons) {
+            editedPersonsById.put(editedPerson.getId(), editedPerson);
+        }
+        if (editedPersonsById.isEmpty()) {
+            return;
+        }
+
+        batch(addressBook -> {
+            persons.updatePersons(editedPersonsById);
+            teams.updatePersons(editedPersonsById);
+        });
+    }
+
     /**
      * Returns an {@code Optional<Person>} containing the person with the given {@code Name}, if present
      * in the address book.
@@ -133,10 +182,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Optional<Person> findPersonByName(Name name) {
         requireNonNull(name);
-        return persons.asUnmodifiableObservableList()
-                .stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst();
+        return persons.findByName(name);
     }
 
     /**
@@ -185,15 +231,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         return teams.asUnmodifiableObservableList();
     }
 
-    /**
-     * Returns an observable list of persons who are not currently in any team.
-     * @return Observable list of unassigned persons.
-     */
-    public ObservableList<Person> getUnassignedPersonList() {
-        return persons.asUnmodifiableObservableList()
-                .filtered(person -> !teams.isPersonInAnyTeam(person));
-    }
-
 
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A point-in-time copy of the persons and teams of an address book.
+ * Persons and teams are immutable, so copying the two lists is enough for the snapshot to stay unchanged while the
+ * original address book keeps being edited, e.g. so that it can be written to storage on another thread.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Team> teams;
+
+    /**
+     * Creates a snapshot of the current contents of {@code addressBook}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        teams = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getTeamList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Team> getTeamList() {
+        return teams;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("teams", teams)
+                .toString();
+    }
+}
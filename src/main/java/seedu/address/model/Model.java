@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.query.NumericField;
+import seedu.address.model.query.PersonQuery;
 import seedu.address.model.team.Team;
 
 /**
@@ -18,6 +24,9 @@ public interface Model {
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
     Predicate<Team> PREDICATE_SHOW_ALL_TEAMS = unused -> true;
 
+    /** The most persons shown by {@link #findPersonsBySimilarName(NameSimilarToKeywordsPredicate)}. */
+    int FUZZY_FIND_LIMIT = 10;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -117,6 +126,21 @@ public interface Model {
      */
     void setTeam(Team target, Team editedTeam);
 
+    /**
+     * Replaces every person with the same id as one of {@code editedPersons} with that edited person, including in
+     * the teams they are in. The person and team lists each change once, however many persons are edited.
+     * Every edited person must have the id of an existing person, and the edits must not make two persons the same.
+     */
+    void updatePersons(Collection<Person> editedPersons);
+
+    /**
+     * Applies {@code edits} to the address book. Each list fires at most one change, however many edits are made, and
+     * that change names only the persons and teams that were set, added or removed.
+     * If any edit throws, the edits already made are undone, so the address book is left unchanged, and the exception
+     * is rethrown.
+     */
+    void batchUpdate(Consumer<AddressBook> edits);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -132,6 +156,37 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filtered person list to show the persons matching {@code predicate}, most relevant first.
+     * The matches are looked up in a search index instead of testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPersons(PersonContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filtered person list to show the persons matching {@code predicate} whose names are closest to its
+     * keywords, closest first. At most {@code FUZZY_FIND_LIMIT} persons are shown.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPersonsBySimilarName(NameSimilarToKeywordsPredicate predicate);
+
+    /**
+     * Updates the filtered person list to show the persons matching {@code query}.
+     * The query is answered from attribute indexes, so showing the persons costs a bit test each.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void filterPersons(PersonQuery query);
+
+    /**
+     * Updates the filtered person list to show the at most {@code limit} persons matching {@code scope} with the
+     * highest {@code field}, highest first.
+     * The persons are picked from the attribute indexes, without sorting every person matching {@code scope}, and are
+     * picked again whenever a person who may be among them is added, edited or removed, until the list is next
+     * filtered.
+     * @throws NullPointerException if {@code scope} or {@code field} is null.
+     */
+    void showLeaderboard(PersonQuery scope, NumericField field, int limit);
+
     /**
      * Updates the filter of the filtered team list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -4,16 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.query.AttributeIndex;
+import seedu.address.model.query.NumericField;
+import seedu.address.model.query.PersonQuery;
 import seedu.address.model.team.Team;
 
 /**
@@ -24,8 +35,14 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final AttributeIndex attributeIndex;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Team> filteredTeams;
+    private final UnassignedPersonList unassignedPersons;
+    private final PersonSearchIndex searchIndex;
+    private final NameTrigramIndex trigramIndex;
+    private Leaderboard leaderboard;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,8 +54,16 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // Created before the filtered list, so that it has indexed each change before the list tests the persons.
+        attributeIndex = new AttributeIndex(this.addressBook.getPersonList());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        // Added after the filtered list, so that a leaderboard is refreshed once the list has applied each change.
+        this.addressBook.getPersonList().addListener(this::refreshLeaderboard);
         filteredTeams = new FilteredList<>(this.addressBook.getTeamList());
+        unassignedPersons = new UnassignedPersonList(this.addressBook);
+        searchIndex = new PersonSearchIndex(this.addressBook.getPersonList());
+        trigramIndex = new NameTrigramIndex(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -163,6 +188,20 @@ public class ModelManager implements Model {
         addressBook.setTeam(target, editedTeam);
     }
 
+    @Override
+    public void updatePersons(Collection<Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        addressBook.updatePersons(editedPersons);
+    }
+
+    @Override
+    public void batchUpdate(Consumer<AddressBook> edits) {
+        requireNonNull(edits);
+
+        addressBook.batch(edits);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -171,13 +210,64 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        leaderboard = null;
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void findPersons(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        leaderboard = null;
+        PersonSearchIndex.Result result = searchIndex.search(predicate.getKeywords());
+        filteredPersons.setPredicate(result);
+        sortedPersons.setComparator(result.byRelevance());
+    }
+
+    @Override
+    public void findPersonsBySimilarName(NameSimilarToKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        leaderboard = null;
+        NameTrigramIndex.Result result = trigramIndex.search(predicate.getKeywords(), FUZZY_FIND_LIMIT);
+        filteredPersons.setPredicate(result);
+        sortedPersons.setComparator(result.byDistance());
+    }
+
+    @Override
+    public void filterPersons(PersonQuery query) {
+        requireNonNull(query);
+        leaderboard = null;
+        filteredPersons.setPredicate(attributeIndex.select(query));
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void showLeaderboard(PersonQuery scope, NumericField field, int limit) {
+        requireAllNonNull(scope, field);
+        leaderboard = new Leaderboard(scope, field, limit);
+        filteredPersons.setPredicate(leaderboard.pickTop());
+        sortedPersons.setComparator(field.highestFirst());
+    }
+
+    /**
+     * Picks the players of the leaderboard shown again if {@code change} added or removed a person that may be among
+     * them, so that it keeps showing the highest {@code field} in its scope as the persons are edited.
+     */
+    private void refreshLeaderboard(ListChangeListener.Change<? extends Person> change) {
+        if (leaderboard == null || !leaderboard.isAffectedBy(change)) {
+            return;
+        }
+        Set<String> previousIds = leaderboard.ids;
+        Predicate<Person> top = leaderboard.pickTop();
+        if (!leaderboard.ids.equals(previousIds)) {
+            filteredPersons.setPredicate(top);
+        }
     }
 
     //=========== Filtered Team List Accessors ===============================================================
@@ -200,12 +290,12 @@ public class ModelManager implements Model {
     //=========== Unassigned Person List Accessors ===============================================================
 
     /**
-     * Returns an unmodifiable view of the list of unassigned {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * Returns an unmodifiable view of the list of unassigned {@code Person}.
+     * The view is maintained incrementally as persons and teams change, so repeated calls are free.
      */
     @Override
     public ObservableList<Person> getUnassignedPersonList() {
-        return addressBook.getUnassignedPersonList();
+        return unassignedPersons.asUnmodifiableObservableList();
     }
 
     //=========== Equals ======================================================================================
@@ -223,7 +313,48 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && filteredTeams.equals(otherModelManager.filteredTeams);
     }
+
+    /**
+     * The scope, field and size of the leaderboard shown in the filtered person list, and the ids of its players.
+     */
+    private class Leaderboard {
+        private final PersonQuery scope;
+        private final NumericField field;
+        private final int limit;
+        private Set<String> ids = Set.of();
+
+        Leaderboard(PersonQuery scope, NumericField field, int limit) {
+            this.scope = scope;
+            this.field = field;
+            this.limit = limit;
+        }
+
+        /**
+         * Picks the players with the highest {@code field} in the scope, and returns a predicate true for them.
+         */
+        Predicate<Person> pickTop() {
+            Set<String> topIds = attributeIndex.top(field, scope.evaluate(attributeIndex), limit).stream()
+                    .map(Person::getId).collect(Collectors.toSet());
+            ids = topIds;
+            return person -> topIds.contains(person.getId());
+        }
+
+        /**
+         * Returns true if {@code change} removed one of the players, or added a person in the scope, who could
+         * displace one of them or fill a place left by another.
+         */
+        boolean isAffectedBy(ListChangeListener.Change<? extends Person> change) {
+            change.reset();
+            while (change.next()) {
+                if (change.getRemoved().stream().anyMatch(person -> ids.contains(person.getId()))
+                        || change.getAddedSubList().stream().anyMatch(scope)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
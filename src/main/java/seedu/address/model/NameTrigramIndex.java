@@ -0,0 +1,214 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * An index from the character trigrams of each person's name to the persons whose names contain them, used to find
+ * the names closest to a mistyped keyword.
+ *
+ * Names are padded with two spaces on each side, so a name of n characters has n + 2 trigrams, and one typo changes
+ * at most 3 of them. A name within edit distance d of a keyword of n characters therefore shares at least
+ * n + 2 - 3d trigrams with it, which bounds the distance of every name from below by its shared trigram count.
+ * A search counts the shared trigrams of the names found in the keyword's posting lists, then computes the edit
+ * distance of the candidates from the most to the least shared, stopping once no remaining name can be closer than
+ * the matches already kept.
+ *
+ * Like {@link PersonSearchIndex}, the index listens to the person list and only re-indexes the persons named in each
+ * change.
+ */
+class NameTrigramIndex {
+
+    private static final String PADDING = "  ";
+
+    /** Maps each trigram to the ids of the persons whose names contain it, and how many times. */
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<String, String> namesById = new HashMap<>();
+
+    /**
+     * Creates an index over {@code persons} that stays in step with the list.
+     */
+    NameTrigramIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            add(person);
+        }
+        persons.addListener(this::onPersonListChanged);
+    }
+
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                remove(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                add(added);
+            }
+        }
+    }
+
+    private void add(Person person) {
+        String name = person.getName().fullName;
+        namesById.put(person.getId(), name);
+        trigramsOf(name).forEach((trigram, count) ->
+                postings.computeIfAbsent(trigram, unused -> new HashMap<>()).put(person.getId(), count));
+    }
+
+    private void remove(Person person) {
+        namesById.remove(person.getId());
+        for (String trigram : trigramsOf(person.getName().fullName).keySet()) {
+            Map<String, Integer> posting = postings.get(trigram);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person.getId());
+            if (posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, padded and in lower case, with the number of times each occurs.
+     */
+    private static Map<String, Integer> trigramsOf(String word) {
+        String padded = PADDING + word.toLowerCase() + PADDING;
+        Map<String, Integer> trigrams = new HashMap<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.merge(padded.substring(i, i + 3), 1, Integer::sum);
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose names are similar to any of {@code keywords}, as defined by
+     * {@link NameSimilarToKeywordsPredicate}, keeping the closest ones.
+     */
+    Result search(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        assert limit > 0;
+
+        Map<String, Integer> distancesById = new HashMap<>();
+        for (String keyword : keywords) {
+            if (keyword.isBlank()) {
+                continue;
+            }
+            for (Match match : closestMatches(keyword.trim(), limit)) {
+                distancesById.merge(match.id, match.distance, Math::min);
+            }
+        }
+
+        Result result = new Result(distancesById, namesById);
+        if (distancesById.size() > limit) {
+            List<String> ids = new ArrayList<>(distancesById.keySet());
+            ids.sort(result.comparator);
+            Map<String, Integer> closest = new HashMap<>();
+            for (String id : ids.subList(0, limit)) {
+                closest.put(id, distancesById.get(id));
+            }
+            result = new Result(closest, namesById);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the at most {@code limit} names closest to {@code keyword}, within its maximum distance.
+     */
+    private List<Match> closestMatches(String keyword, int limit) {
+        int maxDistance = NameSimilarToKeywordsPredicate.maxDistanceFor(keyword);
+        int trigramCount = keyword.length() + 2;
+
+        Map<String, Integer> sharedById = new HashMap<>();
+        trigramsOf(keyword).forEach((trigram, count) -> postings.getOrDefault(trigram, Map.of())
+                .forEach((id, nameCount) -> sharedById.merge(id, Math.min(count, nameCount), Integer::sum)));
+
+        // Bucket the candidates by how many trigrams they share, dropping those too far from the keyword.
+        int minShared = Math.max(1, trigramCount - 3 * maxDistance);
+        List<List<String>> idsByShared = new ArrayList<>();
+        for (int shared = 0; shared <= trigramCount; shared++) {
+            idsByShared.add(new ArrayList<>());
+        }
+        sharedById.forEach((id, shared) -> {
+            if (shared >= minShared) {
+                idsByShared.get(Math.min(shared, trigramCount)).add(id);
+            }
+        });
+
+        Comparator<Match> farthestFirst = Comparator.<Match>comparingInt(match -> match.distance)
+                .thenComparing(match -> namesById.get(match.id), String.CASE_INSENSITIVE_ORDER).reversed();
+        PriorityQueue<Match> closest = new PriorityQueue<>(farthestFirst);
+        for (int shared = trigramCount; shared >= minShared; shared--) {
+            int lowerBound = (trigramCount - shared + 2) / 3;
+            int bound = closest.size() < limit ? maxDistance : closest.peek().distance;
+            if (lowerBound > bound) {
+                break;
+            }
+            for (String id : idsByShared.get(shared)) {
+                bound = closest.size() < limit ? maxDistance : closest.peek().distance;
+                int distance = StringUtil.boundedEditDistanceIgnoreCase(namesById.get(id), keyword, bound);
+                if (distance > bound) {
+                    continue;
+                }
+                closest.add(new Match(id, distance));
+                if (closest.size() > limit) {
+                    closest.poll();
+                }
+            }
+        }
+        return new ArrayList<>(closest);
+    }
+
+    /**
+     * A person whose name is within the maximum distance of a keyword.
+     */
+    private static class Match {
+        private final String id;
+        private final int distance;
+
+        private Match(String id, int distance) {
+            this.id = id;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * The persons found by a search. The result is fixed when the search runs, and identifies persons by id so that
+     * an edited person stays in the result.
+     */
+    static class Result implements Predicate<Person> {
+        private final Map<String, Integer> distancesById;
+        private final Comparator<String> comparator;
+
+        private Result(Map<String, Integer> distancesById, Map<String, String> namesById) {
+            this.distancesById = distancesById;
+            this.comparator = Comparator.<String>comparingInt(distancesById::get)
+                    .thenComparing(namesById::get, String.CASE_INSENSITIVE_ORDER);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return distancesById.containsKey(person.getId());
+        }
+
+        /**
+         * Returns a comparator that orders the persons found from the closest to the farthest name.
+         */
+        Comparator<Person> byDistance() {
+            return Comparator.<Person>comparingInt(person -> distancesById.get(person.getId()))
+                    .thenComparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+        }
+    }
+}
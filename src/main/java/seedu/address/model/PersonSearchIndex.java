@@ -0,0 +1,166 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words of each person's name, champion and tags to the persons that contain them.
+ *
+ * The index listens to the person list it is built over and only re-indexes the persons named in each change, so it
+ * never has to be rebuilt. A search looks up one posting list per keyword instead of testing every person, and ranks
+ * the persons it finds by how many keywords they contain and in which fields.
+ */
+class PersonSearchIndex {
+
+    /** Field flags stored in the postings, with the more relevant fields in the higher bits. */
+    private static final int TAG = 1;
+    private static final int CHAMPION = 1 << 1;
+    private static final int NAME = 1 << 2;
+
+    /** Maps each word to the ids of the persons containing it, and the fields it occurs in for each of them. */
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+
+    /**
+     * Creates an index over {@code persons} that stays in step with the list.
+     */
+    PersonSearchIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            add(person);
+        }
+        persons.addListener(this::onPersonListChanged);
+    }
+
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                remove(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                add(added);
+            }
+        }
+    }
+
+    private void add(Person person) {
+        tokensOf(person).forEach((token, fields) -> postings.computeIfAbsent(token, unused -> new HashMap<>())
+                .merge(person.getId(), fields, (first, second) -> first | second));
+    }
+
+    private void remove(Person person) {
+        for (String token : tokensOf(person).keySet()) {
+            Map<String, Integer> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person.getId());
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Returns the words of {@code person}'s name, champion and tags, each with the fields it occurs in.
+     */
+    private static Map<String, Integer> tokensOf(Person person) {
+        Map<String, Integer> tokens = new HashMap<>();
+        addWords(tokens, person.getName().fullName, NAME);
+        addWords(tokens, person.getChampion().value, CHAMPION);
+        for (Tag tag : person.getTags()) {
+            tokens.merge(normalize(tag.tagName), TAG, (first, second) -> first | second);
+        }
+        return tokens;
+    }
+
+    private static void addWords(Map<String, Integer> tokens, String text, int field) {
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.merge(normalize(word), field, (first, second) -> first | second);
+            }
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase();
+    }
+
+    /**
+     * Returns the persons containing any of {@code keywords} as a whole word of their name, champion or tags,
+     * ignoring case. Blank keywords match nothing.
+     */
+    Result search(List<String> keywords) {
+        requireNonNull(keywords);
+
+        Set<String> distinctKeywords = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            String trimmed = keyword.trim();
+            if (!trimmed.isEmpty()) {
+                distinctKeywords.add(normalize(trimmed));
+            }
+        }
+
+        Map<String, Score> scores = new HashMap<>();
+        for (String keyword : distinctKeywords) {
+            postings.getOrDefault(keyword, Map.of())
+                    .forEach((id, fields) -> scores.computeIfAbsent(id, unused -> new Score()).add(fields));
+        }
+        return new Result(scores);
+    }
+
+    /**
+     * The relevance of a person to a search: the number of keywords it contains, then the sum of the most relevant
+     * field each of those keywords was found in.
+     */
+    private static class Score implements Comparable<Score> {
+        private int keywordCount;
+        private int fieldWeight;
+
+        private void add(int fields) {
+            keywordCount++;
+            fieldWeight += Integer.highestOneBit(fields);
+        }
+
+        @Override
+        public int compareTo(Score other) {
+            int byKeywordCount = Integer.compare(keywordCount, other.keywordCount);
+            return byKeywordCount != 0 ? byKeywordCount : Integer.compare(fieldWeight, other.fieldWeight);
+        }
+    }
+
+    /**
+     * The persons found by a search. The result is fixed when the search runs, and identifies persons by id so that
+     * an edited person stays in the result.
+     */
+    static class Result implements Predicate<Person> {
+        private final Map<String, Score> scores;
+
+        private Result(Map<String, Score> scores) {
+            this.scores = scores;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return scores.containsKey(person.getId());
+        }
+
+        /**
+         * Returns a comparator that orders the persons found from the most to the least relevant.
+         */
+        Comparator<Person> byRelevance() {
+            return (first, second) -> scores.get(second.getId()).compareTo(scores.get(first.getId()));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A live view of the persons in an {@code AddressBook} who are not in any team, in the order of the person list.
+ *
+ * The view listens to the person and team lists of the address book and only touches the persons named in each
+ * change, instead of rescanning every person. Each person is numbered in the order of the person list, and the view
+ * is kept sorted by that number, so a person's place in the view is found with a binary search. Persons are almost
+ * always appended to the person list and just take the next number; the persons are only renumbered when some are
+ * inserted before others.
+ */
+class UnassignedPersonList {
+
+    private final AddressBook addressBook;
+    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Person> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Long> sequencesById = new HashMap<>();
+    private final Map<String, Person> personsById = new HashMap<>();
+    private long nextSequence;
+
+    /**
+     * Creates a view over {@code addressBook} that stays in step with its person and team lists.
+     */
+    UnassignedPersonList(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+
+        for (Person person : addressBook.getPersonList()) {
+            onPersonAdded(person);
+        }
+        addressBook.getPersonList().addListener(this::onPersonListChanged);
+        addressBook.getTeamList().addListener(this::onTeamListChanged);
+    }
+
+    /**
+     * Returns the view as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Person> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        boolean isRenumberingNeeded = false;
+        while (change.next()) {
+            if (isPairwiseReplacement(change)) {
+                for (int i = 0; i < change.getRemovedSize(); i++) {
+                    onPersonReplaced(change.getRemoved().get(i), change.getAddedSubList().get(i));
+                }
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                onPersonRemoved(removed);
+            }
+            isRenumberingNeeded |= change.wasAdded() && change.getTo() != change.getList().size();
+            for (Person added : change.getAddedSubList()) {
+                onPersonAdded(added);
+            }
+        }
+        if (isRenumberingNeeded) {
+            renumber();
+        }
+    }
+
+    /**
+     * Returns true if {@code change} replaces a single person, or replaces a range of persons with persons of the same
+     * ids in the same order, as a batch of adjacent edits does. Each removed person can then be replaced in the view
+     * by the added person at the same place.
+     */
+    private static boolean isPairwiseReplacement(ListChangeListener.Change<? extends Person> change) {
+        if (!change.wasReplaced() || change.getRemovedSize() != change.getAddedSize()) {
+            return false;
+        }
+        if (change.getRemovedSize() == 1) {
+            return true;
+        }
+        for (int i = 0; i < change.getRemovedSize(); i++) {
+            if (!change.getRemoved().get(i).getId().equals(change.getAddedSubList().get(i).getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void onTeamListChanged(ListChangeListener.Change<? extends Team> change) {
+        while (change.next()) {
+            for (Team removed : change.getRemoved()) {
+                for (Person member : removed.getPersons()) {
+                    Person current = personsById.get(member.getId());
+                    if (current != null && !addressBook.isPersonInAnyTeam(current)) {
+                        show(current);
+                    }
+                }
+            }
+            for (Team added : change.getAddedSubList()) {
+                for (Person member : added.getPersons()) {
+                    hide(member.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Numbers {@code person} after every person before it, and shows it unless it is in a team.
+     */
+    private void onPersonAdded(Person person) {
+        personsById.put(person.getId(), person);
+        sequencesById.put(person.getId(), nextSequence++);
+        if (!addressBook.isPersonInAnyTeam(person)) {
+            show(person);
+        }
+    }
+
+    private void onPersonRemoved(Person person) {
+        hide(person.getId());
+        personsById.remove(person.getId());
+        sequencesById.remove(person.getId());
+    }
+
+    private void onPersonReplaced(Person target, Person editedPerson) {
+        Long sequence = sequencesById.get(target.getId());
+        int position = sequence == null ? -1 : positionOf(sequence);
+        if (position < 0 || !target.getId().equals(editedPerson.getId())
+                || addressBook.isPersonInAnyTeam(editedPerson)) {
+            // The edited person takes the place of the target in the person list
+            onPersonRemoved(target);
+            personsById.put(editedPerson.getId(), editedPerson);
+            sequencesById.put(editedPerson.getId(), sequence != null ? sequence : nextSequence++);
+            if (!addressBook.isPersonInAnyTeam(editedPerson)) {
+                show(editedPerson);
+            }
+            return;
+        }
+        personsById.put(editedPerson.getId(), editedPerson);
+        internalList.set(position, editedPerson);
+    }
+
+    /**
+     * Numbers every person again in the order of the person list, and sorts the view by the new numbers.
+     */
+    private void renumber() {
+        nextSequence = 0;
+        for (Person person : addressBook.getPersonList()) {
+            sequencesById.put(person.getId(), nextSequence++);
+        }
+        internalList.sort(Comparator.comparingLong(person -> sequencesById.get(person.getId())));
+    }
+
+    /**
+     * Inserts {@code person} into the view at its place in the person list, unless it is already shown.
+     */
+    private void show(Person person) {
+        int position = positionOf(sequencesById.get(person.getId()));
+        if (position >= 0) {
+            return;
+        }
+        internalList.add(-(position + 1), person);
+    }
+
+    /**
+     * Removes the person with {@code id} from the view, if shown.
+     */
+    private void hide(String id) {
+        Long sequence = sequencesById.get(id);
+        if (sequence == null) {
+            return;
+        }
+        int position = positionOf(sequence);
+        if (position >= 0) {
+            internalList.remove(position);
+        }
+    }
+
+    /**
+     * Returns the position in the view of the person numbered {@code sequence} if shown, or otherwise
+     * {@code -(insertion point) - 1}, as {@link java.util.Collections#binarySearch} does.
+     */
+    private int positionOf(long sequence) {
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleSequence = sequencesById.get(internalList.get(middle).getId());
+            if (middleSequence < sequence) {
+                low = middle + 1;
+            } else if (middleSequence > sequence) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
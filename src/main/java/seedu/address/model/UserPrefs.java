@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.RecentForm;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "summonersbook.json");
+    private int recentFormWindowSize = RecentForm.DEFAULT_WINDOW_SIZE;
+    private double recentFormSmoothingFactor = RecentForm.DEFAULT_SMOOTHING_FACTOR;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setRecentFormWindowSize(newUserPrefs.getRecentFormWindowSize());
+        setRecentFormSmoothingFactor(newUserPrefs.getRecentFormSmoothingFactor());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getRecentFormWindowSize() {
+        return recentFormWindowSize;
+    }
+
+    public void setRecentFormWindowSize(int recentFormWindowSize) {
+        checkArgument(RecentForm.isValidWindowSize(recentFormWindowSize), RecentForm.MESSAGE_CONSTRAINTS);
+        this.recentFormWindowSize = recentFormWindowSize;
+    }
+
+    public double getRecentFormSmoothingFactor() {
+        return recentFormSmoothingFactor;
+    }
+
+    public void setRecentFormSmoothingFactor(double recentFormSmoothingFactor) {
+        checkArgument(RecentForm.isValidSmoothingFactor(recentFormSmoothingFactor), RecentForm.MESSAGE_CONSTRAINTS);
+        this.recentFormSmoothingFactor = recentFormSmoothingFactor;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +93,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && recentFormWindowSize == otherUserPrefs.recentFormWindowSize
+                && Double.compare(recentFormSmoothingFactor, otherUserPrefs.recentFormSmoothingFactor) == 0;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, recentFormWindowSize, recentFormSmoothingFactor);
     }
 
     @Override
@@ -82,6 +108,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nRecent form : latest " + recentFormWindowSize + " matches, smoothing factor "
+                + recentFormSmoothingFactor);
         return sb.toString();
     }
 
@@ -8,12 +8,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Represents a Person's champion in the address book.
  * Guarantees: immutable; valid if the name exists in champions.txt.
+ * There is one instance of each champion, obtained with {@link #of(String)}, so equal champions are the same object.
  */
 public class Champion {
 
@@ -23,21 +26,30 @@ public class Champion {
     /** Path to the champions list file in resources. */
     private static final String CHAMPION_FILE = "/champions/champions.txt";
 
-    /** Stores all valid champions loaded from the file. */
-    private static final Set<String> VALID_CHAMPIONS = loadChampions();
+    /** The instance of each champion loaded from the file, keyed by its lower-case name. */
+    private static final Map<String, Champion> CHAMPIONS_BY_NAME = new HashMap<>();
+
+    static {
+        for (String name : loadChampions()) {
+            CHAMPIONS_BY_NAME.put(name, new Champion(name));
+        }
+    }
 
     public final String value;
 
+    private Champion(String lowerCaseName) {
+        this.value = lowerCaseName.substring(0, 1).toUpperCase() + lowerCaseName.substring(1);
+    }
+
     /**
-     * Constructs a {@code Champion}.
+     * Returns the {@code Champion} named {@code champion}, ignoring case and surrounding whitespace.
      *
      * @param champion A valid champion name.
      */
-    public Champion(String champion) {
+    public static Champion of(String champion) {
         requireNonNull(champion);
         checkArgument(isValidChampion(champion), MESSAGE_CONSTRAINTS);
-        this.value = champion.trim().substring(0, 1).toUpperCase()
-                + champion.trim().substring(1).toLowerCase();;
+        return CHAMPIONS_BY_NAME.get(champion.toLowerCase().trim());
     }
 
     /**
@@ -71,28 +83,11 @@ public class Champion {
      * Returns true if the given string matches one of the champions loaded from the file.
      */
     public static boolean isValidChampion(String test) {
-        return VALID_CHAMPIONS.contains(test.toLowerCase().trim());
+        return CHAMPIONS_BY_NAME.containsKey(test.toLowerCase().trim());
     }
 
     @Override
     public String toString() {
         return value;
     }
-
-    @Override
-    public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-        if (!(other instanceof Champion)) {
-            return false;
-        }
-        Champion otherChampion = (Champion) other;
-        return value.equalsIgnoreCase(otherChampion.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return value.toLowerCase().hashCode();
-    }
 }
@@ -0,0 +1,271 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only match history of a player, stored as one primitive array per statistic.
+ *
+ * <p>A {@code MatchColumns} is shared by every {@link Stats} built from the same history, each of which only reads
+ * a prefix of it. Matches already written are never changed, so appending in place after the last match is
+ * invisible to the {@code Stats} that share it. Appending after an earlier match (e.g. once the latest one has been
+ * deleted) copies that prefix into new columns instead.
+ *
+ * <p>Next to each match, the columns also keep the running aggregates of every metric over the matches up to and
+ * including it: the sum, the sum of squared deviations, the best and worst values, the sum of the recent-form window
+ * and the EWMA. The {@link MetricSummary} and {@link RecentForm} of any prefix of the history are built from these
+ * in constant time. The aggregate columns hold one value per metric per match, at {@code index * METRIC_COUNT +
+ * metric.ordinal()}. Every history in the same columns has the same recent-form window size and smoothing factor.
+ *
+ * <p>Access is synchronized, as a {@code Stats} may be read by another thread (e.g. while being saved) while a
+ * newer version of it appends to the same columns.
+ */
+final class MatchColumns {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final Metric[] METRICS = Metric.values();
+    private static final int METRIC_COUNT = METRICS.length;
+
+    /** Form over no matches, with the window size and smoothing factor of every history in these columns. */
+    private final RecentForm emptyRecentForm;
+
+    private float[] csPerMinute;
+    private int[] goldDiffAt15;
+    private float[] kdaScores;
+    private double[] scores;
+
+    private double[] sums;
+    private double[] squaredDeviations;
+    private double[] bests;
+    private double[] worsts;
+    private double[] windowSums;
+    private double[] ewmas;
+
+    /** Number of matches written so far. */
+    private int size;
+
+    /**
+     * Creates empty columns with room for {@code capacity} matches before they have to grow, whose histories start
+     * with {@code emptyRecentForm}.
+     */
+    MatchColumns(int capacity, RecentForm emptyRecentForm) {
+        this.emptyRecentForm = emptyRecentForm;
+        csPerMinute = new float[capacity];
+        goldDiffAt15 = new int[capacity];
+        kdaScores = new float[capacity];
+        scores = new double[capacity];
+        sums = new double[capacity * METRIC_COUNT];
+        squaredDeviations = new double[capacity * METRIC_COUNT];
+        bests = new double[capacity * METRIC_COUNT];
+        worsts = new double[capacity * METRIC_COUNT];
+        windowSums = new double[capacity * METRIC_COUNT];
+        ewmas = new double[capacity * METRIC_COUNT];
+    }
+
+    /**
+     * Returns columns holding the given series, which must all have the same length, whose histories start with
+     * {@code emptyRecentForm}.
+     */
+    static MatchColumns of(List<Float> csPerMinute, List<Integer> goldDiffAt15, List<Float> kdaScores,
+                           List<Double> scores, RecentForm emptyRecentForm) {
+        requireAllNonNull(csPerMinute, goldDiffAt15, kdaScores, scores, emptyRecentForm);
+        int size = scores.size();
+        checkArgument(csPerMinute.size() == size && goldDiffAt15.size() == size && kdaScores.size() == size,
+                "All statistics series must have the same length");
+
+        MatchColumns columns = new MatchColumns(size, emptyRecentForm);
+        for (int i = 0; i < size; i++) {
+            columns.write(i, csPerMinute.get(i), goldDiffAt15.get(i), kdaScores.get(i), scores.get(i));
+        }
+        return columns;
+    }
+
+    /**
+     * Returns columns whose first {@code count} matches are the first {@code count} matches of these columns,
+     * followed by the given match. These columns are returned if the match can be written into them.
+     */
+    synchronized MatchColumns append(int count, float cpm, int gd15, float kda, double score) {
+        assert count <= size;
+        MatchColumns target = this;
+        if (count < size) {
+            target = new MatchColumns(grownCapacity(count), emptyRecentForm);
+            target.copyFrom(this, count);
+        } else if (count == scores.length) {
+            grow(grownCapacity(count));
+        }
+        target.write(count, cpm, gd15, kda, score);
+        return target;
+    }
+
+    /**
+     * Writes the match at {@code index}, which must directly follow the matches written so far, and the aggregates
+     * of every metric up to it.
+     */
+    private void write(int index, float cpm, int gd15, float kda, double score) {
+        csPerMinute[index] = cpm;
+        goldDiffAt15[index] = gd15;
+        kdaScores[index] = kda;
+        scores[index] = score;
+        size = index + 1;
+        for (Metric metric : METRICS) {
+            double value = get(metric, index);
+            int leavingIndex = index - emptyRecentForm.getWindowSize();
+            double leavingValue = leavingIndex >= 0 ? get(metric, leavingIndex) : Double.NaN;
+            MetricSummary summary = getSummary(metric, index).with(value);
+            RecentForm recentForm = getRecentForm(metric, index).with(value, leavingValue);
+
+            int slot = index * METRIC_COUNT + metric.ordinal();
+            sums[slot] = summary.getSum();
+            squaredDeviations[slot] = summary.getSquaredDeviations();
+            bests[slot] = summary.getBest();
+            worsts[slot] = summary.getWorst();
+            windowSums[slot] = recentForm.getWindowSum();
+            ewmas[slot] = recentForm.getEwma();
+        }
+    }
+
+    private void copyFrom(MatchColumns source, int count) {
+        System.arraycopy(source.csPerMinute, 0, csPerMinute, 0, count);
+        System.arraycopy(source.goldDiffAt15, 0, goldDiffAt15, 0, count);
+        System.arraycopy(source.kdaScores, 0, kdaScores, 0, count);
+        System.arraycopy(source.scores, 0, scores, 0, count);
+        int slots = count * METRIC_COUNT;
+        System.arraycopy(source.sums, 0, sums, 0, slots);
+        System.arraycopy(source.squaredDeviations, 0, squaredDeviations, 0, slots);
+        System.arraycopy(source.bests, 0, bests, 0, slots);
+        System.arraycopy(source.worsts, 0, worsts, 0, slots);
+        System.arraycopy(source.windowSums, 0, windowSums, 0, slots);
+        System.arraycopy(source.ewmas, 0, ewmas, 0, slots);
+        size = count;
+    }
+
+    private void grow(int capacity) {
+        csPerMinute = Arrays.copyOf(csPerMinute, capacity);
+        goldDiffAt15 = Arrays.copyOf(goldDiffAt15, capacity);
+        kdaScores = Arrays.copyOf(kdaScores, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+        int slots = capacity * METRIC_COUNT;
+        sums = Arrays.copyOf(sums, slots);
+        squaredDeviations = Arrays.copyOf(squaredDeviations, slots);
+        bests = Arrays.copyOf(bests, slots);
+        worsts = Arrays.copyOf(worsts, slots);
+        windowSums = Arrays.copyOf(windowSums, slots);
+        ewmas = Arrays.copyOf(ewmas, slots);
+    }
+
+    private static int grownCapacity(int count) {
+        return Math.max(MIN_CAPACITY, count + (count >> 1) + 1);
+    }
+
+    /**
+     * Returns the value of {@code metric} in the match at {@code index}.
+     */
+    synchronized double get(Metric metric, int index) {
+        assert index < size;
+        switch (metric) {
+        case CS_PER_MINUTE:
+            return csPerMinute[index];
+        case GOLD_DIFF_AT_15:
+            return goldDiffAt15[index];
+        case KDA:
+            return kdaScores[index];
+        case SCORE:
+            return scores[index];
+        default:
+            throw new AssertionError("Unknown metric: " + metric);
+        }
+    }
+
+    /**
+     * Returns the summary of {@code metric} over the first {@code count} matches.
+     */
+    synchronized MetricSummary getSummary(Metric metric, int count) {
+        assert count <= size;
+        if (count == 0) {
+            return MetricSummary.EMPTY;
+        }
+        int slot = (count - 1) * METRIC_COUNT + metric.ordinal();
+        return new MetricSummary(count, sums[slot], squaredDeviations[slot], bests[slot], worsts[slot]);
+    }
+
+    /**
+     * Returns the sum of the values of {@code metric} in the first {@code count} matches.
+     */
+    synchronized double getSum(Metric metric, int count) {
+        assert count <= size;
+        return count == 0 ? 0.0 : sums[(count - 1) * METRIC_COUNT + metric.ordinal()];
+    }
+
+    /**
+     * Returns the recent form in {@code metric} after the first {@code count} matches.
+     */
+    synchronized RecentForm getRecentForm(Metric metric, int count) {
+        assert count <= size;
+        if (count == 0) {
+            return emptyRecentForm;
+        }
+        int slot = (count - 1) * METRIC_COUNT + metric.ordinal();
+        int windowSize = emptyRecentForm.getWindowSize();
+        return new RecentForm(windowSize, emptyRecentForm.getSmoothingFactor(), Math.min(count, windowSize),
+                windowSums[slot], ewmas[slot]);
+    }
+
+    synchronized ArrayList<Float> getCsPerMinute(int count) {
+        ArrayList<Float> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(csPerMinute[i]);
+        }
+        return list;
+    }
+
+    synchronized ArrayList<Integer> getGoldDiffAt15(int count) {
+        ArrayList<Integer> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(goldDiffAt15[i]);
+        }
+        return list;
+    }
+
+    synchronized ArrayList<Float> getKdaScores(int count) {
+        ArrayList<Float> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(kdaScores[i]);
+        }
+        return list;
+    }
+
+    synchronized ArrayList<Double> getScores(int count) {
+        ArrayList<Double> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(scores[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Returns true if the first {@code count} CPM, GD15 and KDA values of {@code first} and {@code second} are
+     * equal, comparing floats as {@link Float#equals(Object)} does.
+     */
+    static boolean haveEqualMatches(MatchColumns first, MatchColumns second, int count) {
+        if (first == second) {
+            return true;
+        }
+        float[] firstCs;
+        int[] firstGd;
+        float[] firstKda;
+        synchronized (first) {
+            firstCs = Arrays.copyOf(first.csPerMinute, count);
+            firstGd = Arrays.copyOf(first.goldDiffAt15, count);
+            firstKda = Arrays.copyOf(first.kdaScores, count);
+        }
+        synchronized (second) {
+            return Arrays.equals(firstCs, 0, count, second.csPerMinute, 0, count)
+                    && Arrays.equals(firstGd, 0, count, second.goldDiffAt15, 0, count)
+                    && Arrays.equals(firstKda, 0, count, second.kdaScores, 0, count);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.model.person;
+
+/**
+ * The per-match statistics recorded in a player's {@link Stats}. For every metric a higher value is better.
+ */
+public enum Metric {
+    CS_PER_MINUTE("CPM"),
+    GOLD_DIFF_AT_15("GD15"),
+    KDA("KDA"),
+    SCORE("Score");
+
+    private final String label;
+
+    Metric(String label) {
+        this.label = label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
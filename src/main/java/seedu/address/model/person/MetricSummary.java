@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Immutable running summary of one statistic over a player's match history: the number of matches, their sum,
+ * mean, variance, best and worst values. A summary with one more value is derived in constant time, so summary
+ * values never require iterating the history. For every tracked statistic a higher value is better.
+ */
+public final class MetricSummary {
+
+    /** Summary of no matches. */
+    public static final MetricSummary EMPTY = new MetricSummary(0, 0.0, 0.0, Double.NaN, Double.NaN);
+
+    private final int count;
+    private final double sum;
+    /** Sum of squared differences from the mean, kept with Welford's method for numerical stability. */
+    private final double squaredDeviations;
+    private final double best;
+    private final double worst;
+
+    /**
+     * Creates the summary with the given aggregates, e.g. as recorded in {@link MatchColumns}.
+     */
+    MetricSummary(int count, double sum, double squaredDeviations, double best, double worst) {
+        this.count = count;
+        this.sum = sum;
+        this.squaredDeviations = squaredDeviations;
+        this.best = best;
+        this.worst = worst;
+    }
+
+    /**
+     * Returns the summary of the values in this summary followed by {@code value}.
+     */
+    public MetricSummary with(double value) {
+        int newCount = count + 1;
+        double newSum = sum + value;
+        double newSquaredDeviations = squaredDeviations + (value - getMean()) * (value - newSum / newCount);
+        double newBest = count == 0 ? value : Math.max(best, value);
+        double newWorst = count == 0 ? value : Math.min(worst, value);
+        return new MetricSummary(newCount, newSum, newSquaredDeviations, newBest, newWorst);
+    }
+
+    /** Returns the number of matches summarised. */
+    public int getCount() {
+        return count;
+    }
+
+    /** Returns the sum of the values, added up in chronological order. */
+    public double getSum() {
+        return sum;
+    }
+
+    /** Returns the arithmetic mean of the values, or {@code 0} if there are none. */
+    public double getMean() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    /** Returns the population variance of the values, or {@code 0} if there are none. */
+    public double getVariance() {
+        return count == 0 ? 0.0 : squaredDeviations / count;
+    }
+
+    /** Returns the sum of squared differences of the values from their mean. */
+    double getSquaredDeviations() {
+        return squaredDeviations;
+    }
+
+    /** Returns the population standard deviation of the values, or {@code 0} if there are none. */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /** Returns the highest value, or {@code NaN} if there are none. */
+    public double getBest() {
+        return best;
+    }
+
+    /** Returns the lowest value, or {@code NaN} if there are none. */
+    public double getWorst() {
+        return worst;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof MetricSummary)) {
+            return false;
+        }
+
+        MetricSummary otherSummary = (MetricSummary) other;
+        return count == otherSummary.count
+                && Double.compare(sum, otherSummary.sum) == 0
+                && Double.compare(squaredDeviations, otherSummary.squaredDeviations) == 0
+                && Double.compare(best, otherSummary.best) == 0
+                && Double.compare(worst, otherSummary.worst) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, sum, squaredDeviations, best, worst);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("mean", getMean())
+                .add("variance", getVariance())
+                .add("best", best)
+                .add("worst", worst)
+                .toString();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} is within a few typos of any of the keywords given, ignoring case.
+ * The number of typos allowed grows with the length of the keyword, as given by {@link #maxDistanceFor(String)}.
+ */
+public class NameSimilarToKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the largest edit distance at which a name is still similar to {@code keyword}: none for keywords of up
+     * to 2 characters, 1 for keywords of up to 5 characters, and 2 for longer keywords.
+     */
+    public static int maxDistanceFor(String keyword) {
+        int length = keyword.trim().length();
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return keywords.stream().anyMatch(keyword -> !keyword.isBlank()
+                && StringUtil.boundedEditDistanceIgnoreCase(person.getName().fullName, keyword.trim(),
+                        maxDistanceFor(keyword)) <= maxDistanceFor(keyword));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherPredicate = (NameSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
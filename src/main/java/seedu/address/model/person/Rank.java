@@ -3,10 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Represents a Person's rank in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRank(String)}
  * Implements Comparable to allow natural ordering from lowest (Iron) to highest (Challenger).
+ * There is one instance of each rank, obtained with {@link #of(String)}, so equal ranks are the same object.
  */
 public class Rank implements Comparable<Rank> {
 
@@ -42,29 +46,40 @@ public class Rank implements Comparable<Rank> {
     public static final String MESSAGE_CONSTRAINTS = "Rank must be one of the following: Iron, Bronze, Silver, Gold, "
             + "Platinum, Emerald, Diamond, Master, Grandmaster, Challenger.";
 
+    /** The instance of each rank, keyed by its lower-case name. */
+    private static final Map<String, Rank> RANKS_BY_NAME = new HashMap<>();
+
+    static {
+        for (RankName rankName : RankName.values()) {
+            RANKS_BY_NAME.put(rankName.getName(), new Rank(rankName));
+        }
+    }
+
     public final String value;
+    private final int order;
+
+    private Rank(RankName rankName) {
+        String name = rankName.getName();
+        this.value = name.substring(0, 1).toUpperCase() + name.substring(1);
+        this.order = rankName.getOrder();
+    }
 
     /**
-     * Constructs a {@code Rank }.
+     * Returns the {@code Rank} named {@code rank}, ignoring case.
      *
      * @param rank A valid rank.
      */
-    public Rank(String rank) {
+    public static Rank of(String rank) {
         requireNonNull(rank);
         checkArgument(isValidRank(rank), MESSAGE_CONSTRAINTS);
-        this.value = rank.substring(0, 1).toUpperCase() + rank.substring(1).toLowerCase();
+        return RANKS_BY_NAME.get(rank.toLowerCase());
     }
 
     /**
      * Returns true if a given string is a valid RankName.
      */
     public static boolean isValidRank(String test) {
-        for (RankName r : RankName.values()) {
-            if (r.getName().equalsIgnoreCase(test)) {
-                return true;
-            }
-        }
-        return false;
+        return RANKS_BY_NAME.containsKey(test.toLowerCase());
     }
 
 
@@ -73,26 +88,6 @@ public class Rank implements Comparable<Rank> {
         return value;
     }
 
-    @Override
-    public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof Rank)) {
-            return false;
-        }
-
-        Rank otherRank = (Rank) other;
-        return value.equals(otherRank.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return value.hashCode();
-    }
-
     /**
      * Compares this rank with another rank for order.
      * Returns a negative integer, zero, or a positive integer as this rank is
@@ -104,20 +99,15 @@ public class Rank implements Comparable<Rank> {
      */
     @Override
     public int compareTo(Rank other) {
-        return Integer.compare(getRankOrder(), other.getRankOrder());
+        return Integer.compare(order, other.order);
     }
 
     /**
      * Returns the ordinal value of this rank (0 for Iron, 9 for Challenger).
      * Used for comparison purposes.
      */
-    private int getRankOrder() {
-        for (RankName rankName : RankName.values()) {
-            if (rankName.getName().equalsIgnoreCase(this.value)) {
-                return rankName.getOrder();
-            }
-        }
-        throw new AssertionError("Valid rank should always be found in RankName enum");
+    public int getRankOrder() {
+        return order;
     }
 
 }
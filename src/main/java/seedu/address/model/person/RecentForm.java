@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Immutable measure of a player's recent form in one statistic: the mean of the last few matches, and an
+ * exponentially weighted moving average (EWMA) of all matches that favours recent ones.
+ * Both are updated in constant time when a match is recorded, given the value that leaves the window.
+ */
+public final class RecentForm {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Window size must be positive and smoothing factor must be greater than 0 and at most 1";
+
+    /** Number of latest matches averaged by {@link #DEFAULT}. */
+    public static final int DEFAULT_WINDOW_SIZE = 5;
+
+    /** Weight given to the latest match by the EWMA of {@link #DEFAULT}. */
+    public static final double DEFAULT_SMOOTHING_FACTOR = 0.3;
+
+    /** Form over no matches, with the default window size and smoothing factor. */
+    public static final RecentForm DEFAULT = empty(DEFAULT_WINDOW_SIZE, DEFAULT_SMOOTHING_FACTOR);
+
+    /** Form over no matches with which new match histories start. */
+    private static volatile RecentForm initial = DEFAULT;
+
+    private final int windowSize;
+    private final double smoothingFactor;
+    private final int windowCount;
+    private final double windowSum;
+    private final double ewma;
+
+    /**
+     * Creates the form with the given state, e.g. as recorded in {@link MatchColumns}.
+     */
+    RecentForm(int windowSize, double smoothingFactor, int windowCount, double windowSum, double ewma) {
+        this.windowSize = windowSize;
+        this.smoothingFactor = smoothingFactor;
+        this.windowCount = windowCount;
+        this.windowSum = windowSum;
+        this.ewma = ewma;
+    }
+
+    /**
+     * Returns the form over no matches that averages the last {@code windowSize} matches, and gives the latest
+     * match a weight of {@code smoothingFactor} in its EWMA.
+     */
+    public static RecentForm empty(int windowSize, double smoothingFactor) {
+        checkArgument(isValidWindowSize(windowSize) && isValidSmoothingFactor(smoothingFactor), MESSAGE_CONSTRAINTS);
+        return new RecentForm(windowSize, smoothingFactor, 0, 0.0, 0.0);
+    }
+
+    /**
+     * Sets the window size and smoothing factor of the form of match histories started from now on.
+     * Histories that already exist keep their own, so this should be called before any are loaded.
+     */
+    public static void init(int windowSize, double smoothingFactor) {
+        initial = empty(windowSize, smoothingFactor);
+    }
+
+    /**
+     * Returns the form over no matches with which new match histories start, as set by {@link #init}.
+     */
+    public static RecentForm initial() {
+        return initial;
+    }
+
+    /** Returns true if {@code windowSize} is a valid number of latest matches to average. */
+    public static boolean isValidWindowSize(int windowSize) {
+        return windowSize > 0;
+    }
+
+    /** Returns true if {@code smoothingFactor} is a valid weight for the latest match in the EWMA. */
+    public static boolean isValidSmoothingFactor(double smoothingFactor) {
+        return smoothingFactor > 0 && smoothingFactor <= 1;
+    }
+
+    /**
+     * Returns the form after one more match with {@code value}.
+     *
+     * @param leavingValue the value of the match that drops out of the window, which is the match
+     *     {@link #getWindowSize()} matches before the new one. It is ignored while the window is not yet full.
+     */
+    public RecentForm with(double value, double leavingValue) {
+        if (windowCount == 0) {
+            return new RecentForm(windowSize, smoothingFactor, 1, value, value);
+        }
+        double newEwma = smoothingFactor * value + (1 - smoothingFactor) * ewma;
+        if (windowCount < windowSize) {
+            return new RecentForm(windowSize, smoothingFactor, windowCount + 1, windowSum + value, newEwma);
+        }
+        return new RecentForm(windowSize, smoothingFactor, windowCount, windowSum - leavingValue + value, newEwma);
+    }
+
+    /** Returns the number of latest matches averaged by {@link #getWindowMean()}. */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /** Returns the weight given to the latest match by {@link #getEwma()}. */
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /** Returns the mean of the latest matches, or {@code 0} if there are none. */
+    public double getWindowMean() {
+        return windowCount == 0 ? 0.0 : windowSum / windowCount;
+    }
+
+    /** Returns the sum of the latest matches averaged by {@link #getWindowMean()}. */
+    double getWindowSum() {
+        return windowSum;
+    }
+
+    /** Returns the exponentially weighted moving average of all matches, or {@code 0} if there are none. */
+    public double getEwma() {
+        return ewma;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RecentForm)) {
+            return false;
+        }
+
+        RecentForm otherForm = (RecentForm) other;
+        return windowSize == otherForm.windowSize
+                && Double.compare(smoothingFactor, otherForm.smoothingFactor) == 0
+                && windowCount == otherForm.windowCount
+                && Double.compare(windowSum, otherForm.windowSum) == 0
+                && Double.compare(ewma, otherForm.ewma) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(windowSize, smoothingFactor, windowCount, windowSum, ewma);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("windowSize", windowSize)
+                .add("windowMean", getWindowMean())
+                .add("ewma", ewma)
+                .toString();
+    }
+}
@@ -3,9 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Represents a Person's role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
+ * There is one instance of each role, obtained with {@link #of(String)}, so equal roles are the same object.
  */
 public class Role {
 
@@ -30,29 +34,38 @@ public class Role {
     public static final String MESSAGE_CONSTRAINTS =
             "Role must be one of the following: Top, Jungle, Mid, Adc, Support.";
 
+    /** The instance of each role, keyed by its upper-case name. */
+    private static final Map<String, Role> ROLES_BY_NAME = new HashMap<>();
+
+    static {
+        for (RoleName roleName : RoleName.values()) {
+            ROLES_BY_NAME.put(roleName.getName(), new Role(roleName));
+        }
+    }
+
     public final String value;
 
+    private Role(RoleName roleName) {
+        String name = roleName.getName();
+        this.value = name.substring(0, 1) + name.substring(1).toLowerCase();
+    }
+
     /**
-     * Constructs a {@code Role}.
+     * Returns the {@code Role} named {@code role}, ignoring case.
      *
      * @param role A valid role.
      */
-    public Role(String role) {
+    public static Role of(String role) {
         requireNonNull(role);
         checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
-        this.value = role.substring(0, 1).toUpperCase() + role.substring(1).toLowerCase();
+        return ROLES_BY_NAME.get(role.toUpperCase());
     }
 
     /**
      * Returns true if a given string is a valid RoleName.
      */
     public static boolean isValidRole(String test) {
-        for (RoleName r : RoleName.values()) {
-            if (r.getName().equalsIgnoreCase(test)) {
-                return true;
-            }
-        }
-        return false;
+        return ROLES_BY_NAME.containsKey(test.toUpperCase());
     }
 
 
@@ -61,24 +74,4 @@ public class Role {
         return value;
     }
 
-    @Override
-    public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof Role)) {
-            return false;
-        }
-
-        Role otherRole = (Role) other;
-        return value.equals(otherRole.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return value.hashCode();
-    }
-
 }
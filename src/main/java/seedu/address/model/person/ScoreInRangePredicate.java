@@ -1,23 +1,36 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code score} is greater than or equal to the given threshold.
+ * Tests that a {@code Person}'s {@code score}, by the given {@code ScoreMeasure}, is greater than or equal to the
+ * given threshold.
  */
 public class ScoreInRangePredicate implements Predicate<Person> {
 
     private final Float threshold;
+    private final ScoreMeasure measure;
 
     public ScoreInRangePredicate(float threshold) {
+        this(threshold, ScoreMeasure.AVERAGE);
+    }
+
+    /**
+     * Creates a predicate that compares the score of a person by {@code measure} against {@code threshold}.
+     */
+    public ScoreInRangePredicate(float threshold, ScoreMeasure measure) {
+        requireNonNull(measure);
         this.threshold = threshold;
+        this.measure = measure;
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getStats().value >= threshold;
+        return measure.getScore(person.getStats()) >= threshold;
     }
 
     @Override
@@ -31,13 +44,15 @@ public class ScoreInRangePredicate implements Predicate<Person> {
         }
 
         ScoreInRangePredicate otherPredicate = (ScoreInRangePredicate) other;
-        return Double.compare(threshold, otherPredicate.threshold) == 0;
+        return Double.compare(threshold, otherPredicate.threshold) == 0
+                && measure == otherPredicate.measure;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("threshold", threshold)
+                .add("measure", measure)
                 .toString();
     }
 }
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The figure used to judge a player's performance score: the all-time average, the mean of the latest few matches,
+ * or the exponentially weighted moving average that favours recent matches.
+ */
+public enum ScoreMeasure {
+    AVERAGE("all"),
+    RECENT("recent"),
+    TREND("trend");
+
+    public static final String MESSAGE_CONSTRAINTS = "Score measure must be one of: all, recent, trend";
+
+    private final String keyword;
+
+    ScoreMeasure(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the performance score of {@code stats} by this measure, in the range 0 to 10.
+     */
+    public double getScore(Stats stats) {
+        requireNonNull(stats);
+        switch (this) {
+        case AVERAGE:
+            return stats.getValue();
+        case RECENT:
+            return stats.getRecentForm(Metric.SCORE).getWindowMean();
+        case TREND:
+            return stats.getRecentForm(Metric.SCORE).getEwma();
+        default:
+            throw new AssertionError("Unknown score measure: " + this);
+        }
+    }
+
+    /**
+     * Returns true if {@code keyword} names a score measure, ignoring case.
+     */
+    public static boolean isValidScoreMeasure(String keyword) {
+        for (ScoreMeasure measure : values()) {
+            if (measure.keyword.equalsIgnoreCase(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the score measure named by {@code keyword}, ignoring case.
+     *
+     * @throws IllegalArgumentException if {@code keyword} does not name a score measure.
+     */
+    public static ScoreMeasure fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (ScoreMeasure measure : values()) {
+            if (measure.keyword.equalsIgnoreCase(keyword)) {
+                return measure;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
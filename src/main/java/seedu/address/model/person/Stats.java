@@ -1,9 +1,11 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 
@@ -12,15 +14,16 @@ import seedu.address.logic.commands.exceptions.CommandException;
  *
  * <p>Each {@code Stats} instance holds historical series for:
  * <ul>
- *   <li>CS per minute (CPM) — {@code List<Float>}</li>
- *   <li>Gold difference at 15:00 (GD15) — {@code List<Integer>}</li>
- *   <li>KDA ratio — {@code List<Float>}</li>
- *   <li>Per-match composite scores (0–10) — {@code List<Double>}</li>
+ *   <li>CS per minute (CPM) — {@code float}</li>
+ *   <li>Gold difference at 15:00 (GD15) — {@code int}</li>
+ *   <li>KDA ratio — {@code float}</li>
+ *   <li>Per-match composite scores (0–10) — {@code double}</li>
  * </ul>
  *
  * <p>Instances are treated as immutable from the outside: mutating operations (e.g. adding/removing
- * the latest record) return a <em>new</em> {@code Stats} with defensively-copied lists
- * and a recomputed average {@link #value}.
+ * the latest record) return a <em>new</em> {@code Stats} with a recomputed average {@link #value}.
+ * The series are kept in primitive {@link MatchColumns} that successive versions of a history share,
+ * so recording a match takes amortised constant time instead of copying the whole history.
  */
 public class Stats {
 
@@ -57,35 +60,32 @@ public class Stats {
      */
     public static final String INT_VALIDATION_REGEX = "^-?\\d{1,6}$";
 
-    /** Average of {@link #scores}, rounded to 1 decimal place. */
-    public final float value;
-
-    /** Historical CS per minute values (chronological). */
-    public final ArrayList<Float> csPerMinute;
+    /** Compiled once, as every recorded or loaded match is validated against them. */
+    private static final Pattern FLOAT_VALIDATION_PATTERN = Pattern.compile(FLOAT_VALIDATION_REGEX);
+    private static final Pattern INT_VALIDATION_PATTERN = Pattern.compile(INT_VALIDATION_REGEX);
 
-    /** Historical gold difference at 15:00 values (chronological). */
-    public final ArrayList<Integer> goldDiffAt15;
+    /** Average of the composite scores, rounded to 1 decimal place. */
+    public final float value;
 
-    /** Historical KDA values (chronological). */
-    public final ArrayList<Float> kdaScores;
+    /**
+     * Columns holding the match history. They may be shared with other {@code Stats}, and may hold more matches
+     * than this instance, but only the first {@link #matchCount} matches belong to it.
+     */
+    private final MatchColumns columns;
 
-    /** Historical per-match composite scores in [0, 10] (chronological). */
-    public final ArrayList<Double> scores;
+    /** Number of matches in this history. */
+    private final int matchCount;
 
     /**
      * Creates an empty {@code Stats} with no history; {@link #value} is {@code 0.0F}.
      */
     public Stats() {
-        this.csPerMinute = new ArrayList<>();
-        this.goldDiffAt15 = new ArrayList<>();
-        this.kdaScores = new ArrayList<>();
-        this.scores = new ArrayList<>();
-        this.value = calculateAverageScore();
+        this(new MatchColumns(0, RecentForm.initial()), 0);
     }
 
     /**
-     * Internal constructor used by "mutators" to produce a new immutable snapshot.
-     * All lists are assumed to be new defensive copies owned by this instance.
+     * Creates a {@code Stats} holding the given series, which must all have the same length.
+     * The lists are copied, so later changes to them do not affect this instance.
      *
      * @param csPerMinute historical CPM values
      * @param goldDiffAt15 historical GD15 values
@@ -96,15 +96,22 @@ public class Stats {
                  ArrayList<Integer> goldDiffAt15,
                  ArrayList<Float> kdaScores,
                  ArrayList<Double> scores) {
-        this.csPerMinute = csPerMinute;
-        this.goldDiffAt15 = goldDiffAt15;
-        this.kdaScores = kdaScores;
-        this.scores = scores;
+        this(MatchColumns.of(csPerMinute, goldDiffAt15, kdaScores, scores, RecentForm.initial()), scores.size());
+    }
+
+    /**
+     * Creates a {@code Stats} holding the first {@code matchCount} matches of {@code columns}.
+     */
+    private Stats(MatchColumns columns, int matchCount) {
+        this.columns = columns;
+        this.matchCount = matchCount;
         this.value = calculateAverageScore();
     }
 
     /**
      * Returns a new {@code Stats} with one more match appended to all series.
+     * The new match is written into the columns of this instance when no other {@code Stats} has appended to them
+     * yet, so a history that only grows is never copied; otherwise the columns are copied first.
      *
      * <p>Validation occurs in two layers:
      * <ol>
@@ -125,73 +132,112 @@ public class Stats {
         checkArgument(isValidStats(cpm, gd15, kda), MESSAGE_CONSTRAINTS);
 
         // Safe to parse after validation.
-        float floatCpm = Float.parseFloat(cpm);
-        int intGd15 = Integer.parseInt(gd15);
-        float floatKda = Float.parseFloat(kda);
-        double newScore = calculateScore(floatCpm, intGd15, floatKda);
-
-        var cs = new ArrayList<>(this.csPerMinute);
-        var gd = new ArrayList<>(this.goldDiffAt15);
-        var kd = new ArrayList<>(this.kdaScores);
-        var sc = new ArrayList<>(this.scores);
-
-        cs.add(floatCpm);
-        gd.add(intGd15);
-        kd.add(floatKda);
-        sc.add(newScore);
-
-        return new Stats(cs, gd, kd, sc);
+        return addLatestStats(Float.parseFloat(cpm), Integer.parseInt(gd15), Float.parseFloat(kda));
+    }
+
+    /**
+     * Returns a new {@code Stats} with one more match of already validated values appended to all series, e.g.
+     * values parsed from inputs accepted by {@link #isValidStatsFormat} and {@link #isValidStats(float, int, float)}.
+     * Callers that validate each match themselves use this to avoid validating it again.
+     */
+    public Stats addLatestStats(float cpm, int gd15, float kda) {
+        assert isValidStats(cpm, gd15, kda) : "Match values must be validated before they are recorded";
+        double newScore = calculateScore(cpm, gd15, kda);
+
+        MatchColumns appended = columns.append(matchCount, cpm, gd15, kda, newScore);
+        return new Stats(appended, matchCount + 1);
     }
 
     /**
      * Returns a new {@code Stats} with the most recent (last) entry removed from all series.
+     * The returned instance shares the columns of this one, whose aggregates up to the new latest match give its
+     * summaries and recent forms, so deleting takes constant time however long the history is.
      *
      * @return a new {@code Stats} reflecting the removal
      * @throws CommandException if there is no entry to remove (all lists are empty)
      */
     public Stats deleteLatestStats() throws CommandException {
-        var cs = new ArrayList<>(this.csPerMinute);
-        var gd = new ArrayList<>(this.goldDiffAt15);
-        var kd = new ArrayList<>(this.kdaScores);
-        var sc = new ArrayList<>(this.scores);
-
-        if (cs.isEmpty()) {
+        if (matchCount == 0) {
             throw new CommandException(NOT_DELETED_MESSAGE);
         }
 
-        cs.remove(cs.size() - 1);
-        gd.remove(gd.size() - 1);
-        kd.remove(kd.size() - 1);
-        sc.remove(sc.size() - 1);
-
-        return new Stats(cs, gd, kd, sc);
+        return new Stats(columns, matchCount - 1);
     }
 
     /**
-     * Returns the current average composite score of {@link #scores}, rounded to 1 decimal place.
+     * Returns the current average composite score, rounded to 1 decimal place.
      */
     public float getValue() {
         return this.value;
     }
 
+    /** Returns the number of matches recorded. */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /** Returns the summary of the history of {@code metric}. */
+    public MetricSummary getSummary(Metric metric) {
+        requireNonNull(metric);
+        return columns.getSummary(metric, matchCount);
+    }
+
+    /** Returns the recent form in {@code metric}. */
+    public RecentForm getRecentForm(Metric metric) {
+        requireNonNull(metric);
+        return columns.getRecentForm(metric, matchCount);
+    }
+
+    /**
+     * Returns the value of {@code metric} in the match at {@code index}, counting from the earliest match.
+     * GD15 values are whole numbers and CPM and KDA values are exactly representable as floats.
+     */
+    public double getMatchValue(Metric metric, int index) {
+        requireNonNull(metric);
+        if (index < 0 || index >= matchCount) {
+            throw new IndexOutOfBoundsException("Match " + index + " of " + matchCount);
+        }
+        return columns.get(metric, index);
+    }
+
+    /** Returns the summary of the CPM history. */
+    public MetricSummary getCsPerMinuteSummary() {
+        return getSummary(Metric.CS_PER_MINUTE);
+    }
+
+    /** Returns the summary of the GD15 history. */
+    public MetricSummary getGoldDiffAt15Summary() {
+        return getSummary(Metric.GOLD_DIFF_AT_15);
+    }
+
+    /** Returns the summary of the KDA history. */
+    public MetricSummary getKdaSummary() {
+        return getSummary(Metric.KDA);
+    }
+
+    /** Returns the summary of the composite score history. */
+    public MetricSummary getScoreSummary() {
+        return getSummary(Metric.SCORE);
+    }
+
     /** @return a defensive copy of the CPM history (chronological). */
     public ArrayList<Float> getCsPerMinute() {
-        return new ArrayList<>(csPerMinute);
+        return columns.getCsPerMinute(matchCount);
     }
 
     /** @return a defensive copy of the GD15 history (chronological). */
     public ArrayList<Integer> getGoldDiffAt15() {
-        return new ArrayList<>(goldDiffAt15);
+        return columns.getGoldDiffAt15(matchCount);
     }
 
     /** @return a defensive copy of the KDA history (chronological). */
     public ArrayList<Float> getKdaScores() {
-        return new ArrayList<>(kdaScores);
+        return columns.getKdaScores(matchCount);
     }
 
     /** @return a defensive copy of the composite score history (chronological). */
     public ArrayList<Double> getScores() {
-        return new ArrayList<>(scores);
+        return columns.getScores(matchCount);
     }
 
     /**
@@ -203,9 +249,7 @@ public class Stats {
      * @return {@code true} if all three values match the required regex patterns and semantic ranges
      */
     public static boolean isValidStats(String cpm, String gd15, String kda) {
-        if (!cpm.matches(FLOAT_VALIDATION_REGEX)
-                || !kda.matches(FLOAT_VALIDATION_REGEX)
-                || !gd15.matches(INT_VALIDATION_REGEX)) {
+        if (!isValidStatsFormat(cpm, gd15, kda)) {
             return false;
         }
         float x;
@@ -219,17 +263,27 @@ public class Stats {
             return false;
         }
 
-        if (x < MIN_CPM || x > MAX_CPM) {
-            return false;
-        }
-        if (y < MIN_GD15 || y > MAX_GD15) {
-            return false;
-        }
-        if (z < MIN_KDA || z > MAX_KDA) {
-            return false;
-        }
+        return isValidStats(x, y, z);
+    }
 
-        return true;
+    /**
+     * Returns true if the parsed values of a single match are within the semantic ranges.
+     */
+    public static boolean isValidStats(float cpm, int gd15, float kda) {
+        return cpm >= MIN_CPM && cpm <= MAX_CPM
+                && gd15 >= MIN_GD15 && gd15 <= MAX_GD15
+                && kda >= MIN_KDA && kda <= MAX_KDA;
+    }
+
+    /**
+     * Returns true if the textual inputs for a single match have the shape required by
+     * {@link #FLOAT_VALIDATION_REGEX} and {@link #INT_VALIDATION_REGEX}. Inputs of that shape can be parsed with
+     * {@link Float#parseFloat(String)} and {@link Integer#parseInt(String)}.
+     */
+    public static boolean isValidStatsFormat(String cpm, String gd15, String kda) {
+        return FLOAT_VALIDATION_PATTERN.matcher(cpm).matches()
+                && FLOAT_VALIDATION_PATTERN.matcher(kda).matches()
+                && INT_VALIDATION_PATTERN.matcher(gd15).matches();
     }
 
     /**
@@ -255,10 +309,9 @@ public class Stats {
         }
 
         Stats otherStats = (Stats) other;
-        return csPerMinute.equals(otherStats.csPerMinute)
-                && goldDiffAt15.equals(otherStats.goldDiffAt15)
-                && kdaScores.equals(otherStats.kdaScores)
-                && Float.compare(value, otherStats.value) == 0;
+        return matchCount == otherStats.matchCount
+                && Float.compare(value, otherStats.value) == 0
+                && MatchColumns.haveEqualMatches(columns, otherStats.columns, matchCount);
     }
 
     /**
@@ -295,15 +348,14 @@ public class Stats {
     }
 
     /**
-     * Computes the arithmetic mean of {@link #scores} rounded to one decimal place.
+     * Computes the arithmetic mean of the composite scores rounded to one decimal place.
      * Returns {@code 0.0F} when there is no history.
      */
     private float calculateAverageScore() {
-        if (scores.isEmpty()) {
+        if (matchCount == 0) {
             return 0.0F;
         }
-        double total = scores.stream().reduce(0.0, Double::sum);
-        double avg = total / scores.size();
+        double avg = columns.getSum(Metric.SCORE, matchCount) / matchCount;
         return (float) (Math.round(avg * 10.0) / 10.0);
     }
 }
@@ -3,11 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,20 +26,33 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A name-keyed index is kept in step with the backing list so that identity checks and name lookups run in
+ * constant time. The index is only ever updated alongside the backing list, so the {@code ObservableList}
+ * exposed to the UI behaves exactly as before.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Person> internalList = new BatchableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, if any.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
     }
 
     /**
@@ -45,6 +64,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,8 +76,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByName.get(target.getName()))) {
             throw new PersonNotFoundException();
         }
 
@@ -65,22 +84,63 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = internalList.indexOf(target);
+        assert index != -1 : "Indexed person should be present in the backing list";
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces every person with the same id as one of the values of {@code editedPersonsById} with that edited
+     * person, in one pass over the list. Each replaced person is a separate modification of the list, so wrap the call
+     * in a batch to fire them as one change, and to undo the persons already replaced if this throws.
+     *
+     * @throws PersonNotFoundException if an edited person has an id that is not in the list.
+     * @throws DuplicatePersonException if an edited person would be the same as another person in the list.
+     */
+    public void updatePersons(Map<String, Person> editedPersonsById) {
+        requireNonNull(editedPersonsById);
+        int replacedCount = 0;
+        for (int i = 0; i < internalList.size() && replacedCount < editedPersonsById.size(); i++) {
+            Person target = internalList.get(i);
+            Person editedPerson = editedPersonsById.get(target.getId());
+            if (editedPerson == null) {
+                continue;
+            }
+            if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+            personsByName.remove(target.getName());
+            personsByName.put(editedPerson.getName(), editedPerson);
+            internalList.set(i, editedPerson);
+            replacedCount++;
+        }
+        if (replacedCount != editedPersonsById.size()) {
+            throw new PersonNotFoundException();
+        }
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(personsByName.get(toRemove.getName()))) {
             throw new PersonNotFoundException();
         }
+        personsByName.remove(toRemove.getName());
+        internalList.remove(toRemove);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,9 +154,38 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        personsByName.clear();
+        for (Person person : persons) {
+            personsByName.put(person.getName(), person);
+        }
         internalList.setAll(persons);
     }
 
+    /**
+     * Starts gathering the modifications of this list into one change, fired by the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Undoes every modification made since the matching {@link #beginBatch()}. The batch must still be ended.
+     */
+    public void rollbackBatch() {
+        internalList.rollbackBatch();
+        personsByName.clear();
+        for (Person person : internalList) {
+            personsByName.put(person.getName(), person);
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -138,11 +227,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
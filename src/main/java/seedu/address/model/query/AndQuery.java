@@ -0,0 +1,119 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches every one of a list of queries.
+ *
+ * The conditions are planned against the index: they are evaluated from the most to the least selective, by the
+ * estimated number of matches of each. Each condition after the first only narrows the persons matching the ones
+ * before it, either by intersecting its own index lookup with them or, when fewer persons are left than the condition
+ * would look up, by testing those persons directly.
+ */
+public class AndQuery implements PersonQuery {
+
+    private final List<PersonQuery> queries;
+
+    /**
+     * Creates a query for the persons matching all of {@code queries}, of which there must be at least one.
+     */
+    public AndQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        assert !queries.isEmpty();
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return queries.stream().allMatch(query -> query.test(person));
+    }
+
+    @Override
+    public BitSet evaluate(AttributeIndex index) {
+        List<Planned> plan = plan(index);
+        BitSet matches = plan.get(0).query.evaluate(index);
+        return narrow(index, matches, plan.subList(1, plan.size()));
+    }
+
+    @Override
+    public BitSet evaluateWithin(AttributeIndex index, BitSet candidates) {
+        return narrow(index, (BitSet) candidates.clone(), plan(index));
+    }
+
+    @Override
+    public int estimateCount(AttributeIndex index) {
+        return plan(index).get(0).estimatedCount;
+    }
+
+    /**
+     * Returns the queries with their estimated number of matches, the most selective first.
+     */
+    private List<Planned> plan(AttributeIndex index) {
+        List<Planned> plan = new ArrayList<>();
+        for (PersonQuery query : queries) {
+            plan.add(new Planned(query, query.estimateCount(index)));
+        }
+        plan.sort(Comparator.comparingInt(planned -> planned.estimatedCount));
+        return plan;
+    }
+
+    private static BitSet narrow(AttributeIndex index, BitSet matches, List<Planned> plan) {
+        for (Planned planned : plan) {
+            int remaining = matches.cardinality();
+            if (remaining == 0) {
+                break;
+            }
+            if (remaining < planned.estimatedCount) {
+                matches = planned.query.evaluateWithin(index, matches);
+            } else {
+                matches.and(planned.query.evaluate(index));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A query and its estimated number of matches.
+     */
+    private static class Planned {
+        private final PersonQuery query;
+        private final int estimatedCount;
+
+        private Planned(PersonQuery query, int estimatedCount) {
+            this.query = query;
+            this.estimatedCount = estimatedCount;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        return queries.equals(((AndQuery) other).queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(PersonQuery::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Champion;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.ScoreMeasure;
+
+/**
+ * Tests that a {@code Person} holds any of the given ranks, plays any of the given roles and any of the given
+ * champions, and has a score by the given {@code ScoreMeasure} of at least the given threshold.
+ * An empty set of ranks, roles or champions places no condition on that attribute.
+ */
+public class AttributeFilter implements PersonQuery {
+
+    private final Set<Rank> ranks;
+    private final Set<Role> roles;
+    private final Set<Champion> champions;
+    private final double scoreThreshold;
+    private final ScoreMeasure scoreMeasure;
+
+    /**
+     * Creates a filter on the given attribute values and score threshold.
+     */
+    public AttributeFilter(Set<Rank> ranks, Set<Role> roles, Set<Champion> champions, double scoreThreshold,
+                           ScoreMeasure scoreMeasure) {
+        requireAllNonNull(ranks, roles, champions, scoreMeasure);
+        this.ranks = Set.copyOf(ranks);
+        this.roles = Set.copyOf(roles);
+        this.champions = Set.copyOf(champions);
+        this.scoreThreshold = scoreThreshold;
+        this.scoreMeasure = scoreMeasure;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        return (ranks.isEmpty() || ranks.contains(person.getRank()))
+                && (roles.isEmpty() || roles.contains(person.getRole()))
+                && (champions.isEmpty() || champions.contains(person.getChampion()))
+                && scoreMeasure.getScore(person.getStats()) >= scoreThreshold;
+    }
+
+    @Override
+    public BitSet evaluate(AttributeIndex index) {
+        BitSet matches = index.withScoreAtLeast(scoreMeasure, scoreThreshold);
+        if (!ranks.isEmpty()) {
+            matches.and(index.withRanks(ranks));
+        }
+        if (!roles.isEmpty()) {
+            matches.and(index.withRoles(roles));
+        }
+        if (!champions.isEmpty()) {
+            matches.and(index.withChampions(champions));
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttributeFilter)) {
+            return false;
+        }
+
+        AttributeFilter otherFilter = (AttributeFilter) other;
+        return ranks.equals(otherFilter.ranks)
+                && roles.equals(otherFilter.roles)
+                && champions.equals(otherFilter.champions)
+                && Double.compare(scoreThreshold, otherFilter.scoreThreshold) == 0
+                && scoreMeasure == otherFilter.scoreMeasure;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("ranks", ranks)
+                .add("roles", roles)
+                .add("champions", champions)
+                .add("scoreThreshold", scoreThreshold)
+                .add("scoreMeasure", scoreMeasure)
+                .toString();
+    }
+}
@@ -0,0 +1,440 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Champion;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.ScoreMeasure;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Bitmap indexes over the rank, role, champion and tags of the persons in a list, and sorted indexes over the
+ * {@link NumericField}s, such as their scores and wins, that have been queried.
+ *
+ * Each person is given a slot, a small integer that stays the same while the person is edited, and each rank, role,
+ * champion and tag has the set of slots of the persons holding it. A filter over these attributes is then answered
+ * with bitwise ANDs and ORs of a few sets, and a threshold with a range scan of a sorted index, instead of testing
+ * every person, and a leaderboard by walking a sorted index down from its highest value. The slots of removed persons
+ * are reused by the persons added next. A sorted index is a pair of primitive arrays, the values of the field in
+ * ascending order and the slots holding them, and is only built the first time its field is queried.
+ *
+ * The index listens to the person list it is built over, and only updates the slots named in each change. Since
+ * Rank, Role and Champion instances are interned, the bitmaps are keyed by identity.
+ */
+public class AttributeIndex {
+
+    /** Beyond this many persons replaced in one change, the sorted indexes are built again rather than updated. */
+    private static final int MAX_INCREMENTAL_CHANGES = 256;
+
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet occupiedSlots = new BitSet();
+    private Person[] personsBySlot = new Person[16];
+    private int slotCount;
+
+    private final Map<Rank, BitSet> slotsByRank = new HashMap<>();
+    private final Map<Role, BitSet> slotsByRole = new HashMap<>();
+    private final Map<Champion, BitSet> slotsByChampion = new HashMap<>();
+    private final Map<Tag, BitSet> slotsByTag = new HashMap<>();
+    private final Map<NumericField, SortedColumn> sortedColumns = new EnumMap<>(NumericField.class);
+
+    /** The number of changes indexed so far, and the change at which each slot last changed. */
+    private long version;
+    private long[] slotVersions = new long[16];
+
+    /**
+     * Creates an index over {@code persons} that stays in step with the list.
+     * It should be created before any other listener of the list that selects persons with it, so that the index is
+     * up to date when those listeners run.
+     */
+    public AttributeIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            add(person);
+        }
+        persons.addListener(this::onPersonListChanged);
+    }
+
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+        }
+        if (changedCount > MAX_INCREMENTAL_CHANGES) {
+            // Shifting the sorted columns once per person costs more than sorting them again when next queried
+            sortedColumns.clear();
+        }
+
+        change.reset();
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                remove(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                add(added);
+            }
+        }
+    }
+
+    private void add(Person person) {
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+        slotsById.put(person.getId(), slot);
+        occupiedSlots.set(slot);
+        markChanged(slot);
+        personsBySlot[slot] = person;
+
+        slotsByRank.computeIfAbsent(person.getRank(), unused -> new BitSet()).set(slot);
+        slotsByRole.computeIfAbsent(person.getRole(), unused -> new BitSet()).set(slot);
+        slotsByChampion.computeIfAbsent(person.getChampion(), unused -> new BitSet()).set(slot);
+        for (Tag tag : person.getTags()) {
+            slotsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+        sortedColumns.forEach((field, column) -> column.insert(field.getValue(person), slot));
+    }
+
+    private void remove(Person person) {
+        Integer slot = slotsById.remove(person.getId());
+        if (slot == null) {
+            return;
+        }
+        occupiedSlots.clear(slot);
+        freeSlots.push(slot);
+        markChanged(slot);
+        personsBySlot[slot] = null;
+
+        slotsByRank.get(person.getRank()).clear(slot);
+        slotsByRole.get(person.getRole()).clear(slot);
+        slotsByChampion.get(person.getChampion()).clear(slot);
+        for (Tag tag : person.getTags()) {
+            slotsByTag.get(tag).clear(slot);
+        }
+        sortedColumns.forEach((field, column) -> column.delete(field.getValue(person), slot));
+    }
+
+    private void markChanged(int slot) {
+        if (slot >= slotVersions.length) {
+            slotVersions = Arrays.copyOf(slotVersions, Math.max(slot + 1, slotVersions.length * 2));
+            personsBySlot = Arrays.copyOf(personsBySlot, slotVersions.length);
+        }
+        slotVersions[slot] = ++version;
+    }
+
+    /**
+     * Returns the number of persons indexed.
+     */
+    public int size() {
+        return slotsById.size();
+    }
+
+    /**
+     * Returns the slots of all persons.
+     */
+    public BitSet all() {
+        return (BitSet) occupiedSlots.clone();
+    }
+
+    /**
+     * Returns the slots of the persons holding any of {@code ranks}.
+     */
+    public BitSet withRanks(Collection<Rank> ranks) {
+        return union(slotsByRank, ranks);
+    }
+
+    /**
+     * Returns the slots of the persons playing any of {@code roles}.
+     */
+    public BitSet withRoles(Collection<Role> roles) {
+        return union(slotsByRole, roles);
+    }
+
+    /**
+     * Returns the slots of the persons playing any of {@code champions}.
+     */
+    public BitSet withChampions(Collection<Champion> champions) {
+        return union(slotsByChampion, champions);
+    }
+
+    /**
+     * Returns the slots of the persons with any of {@code tags}.
+     */
+    public BitSet withTags(Collection<Tag> tags) {
+        return union(slotsByTag, tags);
+    }
+
+    private static <T> BitSet union(Map<T, BitSet> slotsByValue, Collection<T> values) {
+        requireNonNull(values);
+        BitSet slots = new BitSet();
+        for (T value : values) {
+            BitSet valueSlots = slotsByValue.get(value);
+            if (valueSlots != null) {
+                slots.or(valueSlots);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the slots of the persons whose score by {@code measure} is at least {@code threshold}.
+     */
+    public BitSet withScoreAtLeast(ScoreMeasure measure, double threshold) {
+        requireNonNull(measure);
+        return withValueIn(NumericField.of(measure), threshold, true, Double.POSITIVE_INFINITY, true);
+    }
+
+    /**
+     * Returns the slots of the persons whose {@code field} lies between {@code from} and {@code to}, each bound
+     * included if so flagged.
+     */
+    public BitSet withValueIn(NumericField field, double from, boolean isFromIncluded, double to,
+                              boolean isToIncluded) {
+        SortedColumn column = getSortedColumn(field);
+        int start = column.startOf(from, isFromIncluded);
+        int end = column.endOf(to, isToIncluded);
+        if (start == 0 && end == column.size) {
+            return all();
+        }
+
+        BitSet slots = new BitSet();
+        for (int i = start; i < end; i++) {
+            slots.set(column.slots[i]);
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the number of persons whose {@code field} lies between {@code from} and {@code to}, counting no further
+     * than {@code limit}.
+     */
+    public int countWithValueIn(NumericField field, double from, boolean isFromIncluded, double to,
+                                boolean isToIncluded, int limit) {
+        SortedColumn column = getSortedColumn(field);
+        int count = column.endOf(to, isToIncluded) - column.startOf(from, isFromIncluded);
+        return Math.max(0, Math.min(count, limit));
+    }
+
+    /**
+     * Returns the sorted index of {@code field}, building it if it has not been queried since it was last dropped.
+     */
+    private SortedColumn getSortedColumn(NumericField field) {
+        requireNonNull(field);
+        return sortedColumns.computeIfAbsent(field, this::buildSortedColumn);
+    }
+
+    private SortedColumn buildSortedColumn(NumericField field) {
+        double[] valuesBySlot = new double[slotCount];
+        for (int slot = occupiedSlots.nextSetBit(0); slot >= 0; slot = occupiedSlots.nextSetBit(slot + 1)) {
+            valuesBySlot[slot] = field.getValue(personsBySlot[slot]);
+        }
+        // A stable sort of the slots in ascending order, so that equal values are ordered by slot
+        int[] slots = occupiedSlots.stream().boxed()
+                .sorted(Comparator.comparingDouble(slot -> valuesBySlot[slot]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        double[] values = new double[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            values[i] = valuesBySlot[slots[i]];
+        }
+        return new SortedColumn(values, slots);
+    }
+
+    /**
+     * Returns the slots among {@code candidates} of the persons matching {@code query}, testing each of them.
+     */
+    public BitSet filter(BitSet candidates, Predicate<Person> query) {
+        requireNonNull(query);
+        BitSet matches = new BitSet();
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (personsBySlot[slot] != null && query.test(personsBySlot[slot])) {
+                matches.set(slot);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the at most {@code limit} persons among {@code candidates} with the highest {@code field}, in the order
+     * of {@link NumericField#highestFirst()}.
+     *
+     * The persons are picked from whichever is cheaper: the candidates, through a heap that only ever holds the best
+     * {@code limit} seen so far, or the sorted index of the field, walked from its highest value until enough
+     * candidates are found. With c candidates out of n persons, the walk visits about {@code limit * n / c} persons,
+     * so it is taken when that is fewer than c.
+     */
+    public List<Person> top(NumericField field, BitSet candidates, int limit) {
+        requireNonNull(field);
+        requireNonNull(candidates);
+        assert limit > 0;
+
+        int candidateCount = candidates.cardinality();
+        if ((long) limit * size() < (long) candidateCount * candidateCount) {
+            return topFromSortedIndex(field, candidates, limit);
+        }
+        return topFromHeap(field, candidates, limit);
+    }
+
+    private List<Person> topFromHeap(NumericField field, BitSet candidates, int limit) {
+        Comparator<Person> highestFirst = field.highestFirst();
+        PriorityQueue<Person> best = new PriorityQueue<>(highestFirst.reversed());
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            Person person = personsBySlot[slot];
+            if (person == null) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(person);
+            } else if (highestFirst.compare(person, best.peek()) < 0) {
+                best.poll();
+                best.add(person);
+            }
+        }
+        List<Person> top = new ArrayList<>(best);
+        top.sort(highestFirst);
+        return top;
+    }
+
+    private List<Person> topFromSortedIndex(NumericField field, BitSet candidates, int limit) {
+        Comparator<Person> highestFirst = field.highestFirst();
+        SortedColumn column = getSortedColumn(field);
+        List<Person> top = new ArrayList<>();
+        int i = column.size - 1;
+        while (i >= 0 && top.size() < limit) {
+            double value = column.values[i];
+            List<Person> tied = new ArrayList<>();
+            for (; i >= 0 && Double.compare(column.values[i], value) == 0; i--) {
+                if (candidates.get(column.slots[i])) {
+                    tied.add(personsBySlot[column.slots[i]]);
+                }
+            }
+            tied.sort(highestFirst);
+            top.addAll(tied.subList(0, Math.min(tied.size(), limit - top.size())));
+        }
+        return top;
+    }
+
+    /**
+     * Returns a predicate that is true for the persons matching {@code query}, evaluating the query once against this
+     * index so that testing a person is a bit lookup. Persons added or edited after this call are tested with the
+     * query itself instead.
+     */
+    public Predicate<Person> select(PersonQuery query) {
+        requireNonNull(query);
+        BitSet matches = query.evaluate(this);
+        long selectedAt = version;
+        return person -> {
+            Integer slot = slotsById.get(person.getId());
+            if (slot == null || slotVersions[slot] > selectedAt) {
+                return query.test(person);
+            }
+            return matches.get(slot);
+        };
+    }
+
+    /**
+     * The values of one field of every indexed person in ascending order, each beside the slot of the person holding
+     * it, with equal values ordered by slot. Values are compared as by {@link Double#compare(double, double)}.
+     */
+    private static class SortedColumn {
+        private double[] values;
+        private int[] slots;
+        private int size;
+
+        SortedColumn(double[] values, int[] slots) {
+            assert values.length == slots.length;
+            this.values = values;
+            this.slots = slots;
+            this.size = values.length;
+        }
+
+        void insert(double value, int slot) {
+            int position = positionOf(value, slot);
+            if (size == values.length) {
+                int capacity = Math.max(16, size * 2);
+                values = Arrays.copyOf(values, capacity);
+                slots = Arrays.copyOf(slots, capacity);
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            System.arraycopy(slots, position, slots, position + 1, size - position);
+            values[position] = value;
+            slots[position] = slot;
+            size++;
+        }
+
+        void delete(double value, int slot) {
+            int position = positionOf(value, slot);
+            assert position < size && slots[position] == slot : "Deleted slot should be in the column";
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+        }
+
+        /**
+         * Returns the position of the first entry not ordered before {@code value} held by {@code slot}.
+         */
+        private int positionOf(double value, int slot) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int comparison = Double.compare(values[mid], value);
+                if (comparison == 0) {
+                    comparison = Integer.compare(slots[mid], slot);
+                }
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the position of the first value above {@code from}, or equal to it if {@code isIncluded}.
+         */
+        int startOf(double from, boolean isIncluded) {
+            return firstAbove(from, isIncluded ? -1 : 0);
+        }
+
+        /**
+         * Returns the position after the last value below {@code to}, or equal to it if {@code isIncluded}.
+         */
+        int endOf(double to, boolean isIncluded) {
+            return firstAbove(to, isIncluded ? 0 : -1);
+        }
+
+        /**
+         * Returns the position of the first value that compares to {@code bound} above {@code minComparison}.
+         */
+        private int firstAbove(double bound, int minComparison) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (Double.compare(values[mid], bound) > minComparison) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
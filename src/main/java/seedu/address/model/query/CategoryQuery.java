@@ -0,0 +1,112 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Champion;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has a given rank, role, champion or tag. Answered from the bitmap of that value.
+ */
+public class CategoryQuery implements PersonQuery {
+
+    private final String field;
+    private final Object value;
+    private final String displayedValue;
+    private final Predicate<Person> test;
+    private final Function<AttributeIndex, BitSet> lookup;
+
+    private CategoryQuery(String field, Object value, String displayedValue, Predicate<Person> test,
+                          Function<AttributeIndex, BitSet> lookup) {
+        this.field = field;
+        this.value = value;
+        this.displayedValue = displayedValue;
+        this.test = test;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Returns a query for the persons with {@code rank}.
+     */
+    public static CategoryQuery rank(Rank rank) {
+        requireNonNull(rank);
+        return new CategoryQuery("rank", rank, rank.value, person -> person.getRank().equals(rank),
+                index -> index.withRanks(List.of(rank)));
+    }
+
+    /**
+     * Returns a query for the persons playing {@code role}.
+     */
+    public static CategoryQuery role(Role role) {
+        requireNonNull(role);
+        return new CategoryQuery("role", role, role.value, person -> person.getRole().equals(role),
+                index -> index.withRoles(List.of(role)));
+    }
+
+    /**
+     * Returns a query for the persons playing {@code champion}.
+     */
+    public static CategoryQuery champion(Champion champion) {
+        requireNonNull(champion);
+        return new CategoryQuery("champion", champion, champion.value,
+                person -> person.getChampion().equals(champion),
+                index -> index.withChampions(List.of(champion)));
+    }
+
+    /**
+     * Returns a query for the persons tagged with {@code tag}.
+     */
+    public static CategoryQuery tag(Tag tag) {
+        requireNonNull(tag);
+        return new CategoryQuery("tag", tag, tag.tagName, person -> person.getTags().contains(tag),
+                index -> index.withTags(List.of(tag)));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return test.test(person);
+    }
+
+    @Override
+    public BitSet evaluate(AttributeIndex index) {
+        return lookup.apply(index);
+    }
+
+    @Override
+    public int estimateCount(AttributeIndex index) {
+        return lookup.apply(index).cardinality();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CategoryQuery)) {
+            return false;
+        }
+
+        CategoryQuery otherQuery = (CategoryQuery) other;
+        return field.equals(otherQuery.field) && value.equals(otherQuery.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field + ":" + displayedValue;
+    }
+}
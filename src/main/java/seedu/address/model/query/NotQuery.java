@@ -0,0 +1,71 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not match a query. Answered with the complement of its matches.
+ */
+public class NotQuery implements PersonQuery {
+
+    private final PersonQuery query;
+
+    /**
+     * Creates a query for the persons not matching {@code query}.
+     */
+    public NotQuery(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !query.test(person);
+    }
+
+    @Override
+    public BitSet evaluate(AttributeIndex index) {
+        BitSet matches = index.all();
+        matches.andNot(query.evaluate(index));
+        return matches;
+    }
+
+    @Override
+    public BitSet evaluateWithin(AttributeIndex index, BitSet candidates) {
+        BitSet matches = (BitSet) candidates.clone();
+        matches.andNot(query.evaluateWithin(index, candidates));
+        return matches;
+    }
+
+    @Override
+    public int estimateCount(AttributeIndex index) {
+        return index.size() - query.estimateCount(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        return query.equals(((NotQuery) other).query);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + query;
+    }
+}
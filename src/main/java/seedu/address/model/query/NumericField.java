@@ -0,0 +1,115 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.person.Metric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ScoreMeasure;
+
+/**
+ * A number describing a player that queries can compare against, such as wins, win rate or a recent-form metric.
+ * Once queried, a field has a sorted index in {@link AttributeIndex}, so a range over it is answered with a range scan.
+ */
+public enum NumericField {
+    WINS("wins", person -> person.getWins()),
+    LOSSES("losses", person -> person.getLosses()),
+    WIN_RATE("winrate", NumericField::getWinRate),
+    SCORE("score", person -> ScoreMeasure.AVERAGE.getScore(person.getStats())),
+    RECENT_SCORE("recent", person -> ScoreMeasure.RECENT.getScore(person.getStats())),
+    TREND_SCORE("trend", person -> ScoreMeasure.TREND.getScore(person.getStats())),
+    RECENT_CPM("cpm", person -> person.getStats().getRecentForm(Metric.CS_PER_MINUTE).getWindowMean()),
+    RECENT_GD15("gd15", person -> person.getStats().getRecentForm(Metric.GOLD_DIFF_AT_15).getWindowMean()),
+    RECENT_KDA("kda", person -> person.getStats().getRecentForm(Metric.KDA).getWindowMean()),
+    TREND_CPM("cpmtrend", person -> person.getStats().getRecentForm(Metric.CS_PER_MINUTE).getEwma()),
+    TREND_GD15("gd15trend", person -> person.getStats().getRecentForm(Metric.GOLD_DIFF_AT_15).getEwma()),
+    TREND_KDA("kdatrend", person -> person.getStats().getRecentForm(Metric.KDA).getEwma());
+
+    public static final String MESSAGE_CONSTRAINTS = "Numeric fields are: wins, losses, winrate (percentage of "
+            + "games won), score, recent, trend (score by each measure), cpm, gd15, kda (mean of the latest "
+            + "matches), and cpmtrend, gd15trend, kdatrend (moving average favouring the latest matches)";
+
+    private final String keyword;
+    private final ToDoubleFunction<Person> value;
+
+    NumericField(String keyword, ToDoubleFunction<Person> value) {
+        this.keyword = keyword;
+        this.value = value;
+    }
+
+    /**
+     * Returns the value of this field for {@code person}.
+     */
+    public double getValue(Person person) {
+        requireNonNull(person);
+        return value.applyAsDouble(person);
+    }
+
+    /**
+     * Returns a comparator that orders persons from the highest to the lowest value of this field, breaking ties by
+     * name.
+     */
+    public Comparator<Person> highestFirst() {
+        return Comparator.comparingDouble(this::getValue).reversed()
+                .thenComparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Returns the percentage of games {@code person} has won, or 0 if they have not played any.
+     */
+    private static double getWinRate(Person person) {
+        int games = person.getWins() + person.getLosses();
+        return games == 0 ? 0 : 100.0 * person.getWins() / games;
+    }
+
+    /**
+     * Returns the field holding the score by {@code measure}.
+     */
+    public static NumericField of(ScoreMeasure measure) {
+        requireNonNull(measure);
+        switch (measure) {
+        case AVERAGE:
+            return SCORE;
+        case RECENT:
+            return RECENT_SCORE;
+        case TREND:
+            return TREND_SCORE;
+        default:
+            throw new AssertionError("Unknown score measure: " + measure);
+        }
+    }
+
+    /**
+     * Returns true if {@code keyword} names a numeric field, ignoring case.
+     */
+    public static boolean isValidNumericField(String keyword) {
+        for (NumericField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the numeric field named by {@code keyword}, ignoring case.
+     *
+     * @throws IllegalArgumentException if {@code keyword} does not name a numeric field.
+     */
+    public static NumericField fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (NumericField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches any of a list of queries. Answered with the union of their matches.
+ */
+public class OrQuery implements PersonQuery {
+
+    private final List<PersonQuery> queries;
+
+    /**
+     * Creates a query for the persons matching any of {@code queries}, of which there must be at least one.
+     */
+    public OrQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        assert !queries.isEmpty();
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return queries.stream().anyMatch(query -> query.test(person));
+    }
+
+    @Override
+    public BitSet evaluate(AttributeIndex index) {
+        BitSet matches = new BitSet();
+        for (PersonQuery query : queries) {
+            matches.or(query.evaluate(index));
+        }
+        return matches;
+    }
+
+    @Override
+    public BitSet evaluateWithin(AttributeIndex index, BitSet candidates) {
+        BitSet matches = new BitSet();
+        BitSet remaining = (BitSet) candidates.clone();
+        for (PersonQuery query : queries) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            BitSet queryMatches = query.evaluateWithin(index, remaining);
+            matches.or(queryMatches);
+            remaining.andNot(queryMatches);
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateCount(AttributeIndex index) {
+        long sum = 0;
+        for (PersonQuery query : queries) {
+            sum += query.estimateCount(index);
+        }
+        return (int) Math.min(sum, index.size());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        return queries.equals(((OrQuery) other).queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(PersonQuery::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
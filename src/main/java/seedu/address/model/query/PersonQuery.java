@@ -0,0 +1,52 @@
+package seedu.address.model.query;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A condition on persons that can be answered from an {@link AttributeIndex} as well as tested on a single person.
+ */
+public interface PersonQuery extends Predicate<Person> {
+
+    /** A query matched by every person. */
+    PersonQuery ALL = new PersonQuery() {
+        @Override
+        public boolean test(Person person) {
+            return true;
+        }
+
+        @Override
+        public BitSet evaluate(AttributeIndex index) {
+            return index.all();
+        }
+
+        @Override
+        public String toString() {
+            return "all";
+        }
+    };
+
+    /**
+     * Returns the slots in {@code index} of the persons matching this query. The returned set may be modified by the
+     * caller.
+     */
+    BitSet evaluate(AttributeIndex index);
+
+    /**
+     * Returns the slots among {@code candidates} of the persons matching this query. By default each candidate is
+     * tested, which is cheaper than {@link #evaluate(AttributeIndex)} when there are few candidates.
+     */
+    default BitSet evaluateWithin(AttributeIndex index, BitSet candidates) {
+        return index.filter(candidates, this);
+    }
+
+    /**
+     * Returns an estimate of the number of persons in {@code index} matching this query, used to evaluate the most
+     * selective conditions first. By default every person is assumed to match.
+     */
+    default int estimateCount(AttributeIndex index) {
+        return index.size();
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code NumericField} of a {@code Person} compares with a given value, e.g. {@code wins >= 10}.
+ * Answered with a range scan of the sorted index of the field.
+ */
+public class RangeQuery implements PersonQuery {
+
+    /**
+     * A comparison of a field against the value of a query.
+     */
+    public enum Comparison {
+        LESS("<"),
+        AT_MOST("<="),
+        EQUAL("="),
+        AT_LEAST(">="),
+        GREATER(">");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns the comparison written as {@code symbol}, or null if there is none.
+         */
+        public static Comparison fromSymbol(String symbol) {
+            for (Comparison comparison : values()) {
+                if (comparison.symbol.equals(symbol)) {
+                    return comparison;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+
+    private final NumericField field;
+    private final Comparison comparison;
+    private final double value;
+
+    /**
+     * Creates a query for the persons whose {@code field} compares with {@code value} by {@code comparison}.
+     */
+    public RangeQuery(NumericField field, Comparison comparison, double value) {
+        requireNonNull(field);
+        requireNonNull(comparison);
+        this.field = field;
+        this.comparison = comparison;
+        this.value = value;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        double fieldValue = field.getValue(person);
+        switch (comparison) {
+        case LESS:
+            return fieldValue < value;
+        case AT_MOST:
+            return fieldValue <= value;
+        case EQUAL:
+            return fieldValue == value;
+        case AT_LEAST:
+            return fieldValue >= value;
+        case GREATER:
+            return fieldValue > value;
+        default:
+            throw new AssertionError("Unknown comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public BitSet evaluate(AttributeIndex index) {
+        return index.withValueIn(field, lowerBound(), isLowerBoundIncluded(), upperBound(), isUpperBoundIncluded());
+    }
+
+    @Override
+    public int estimateCount(AttributeIndex index) {
+        return index.countWithValueIn(field, lowerBound(), isLowerBoundIncluded(), upperBound(),
+                isUpperBoundIncluded(), index.size());
+    }
+
+    private double lowerBound() {
+        boolean hasLowerBound = comparison == Comparison.EQUAL || comparison == Comparison.AT_LEAST
+                || comparison == Comparison.GREATER;
+        return hasLowerBound ? value : Double.NEGATIVE_INFINITY;
+    }
+
+    private boolean isLowerBoundIncluded() {
+        return comparison != Comparison.GREATER;
+    }
+
+    private double upperBound() {
+        boolean hasUpperBound = comparison == Comparison.EQUAL || comparison == Comparison.AT_MOST
+                || comparison == Comparison.LESS;
+        return hasUpperBound ? value : Double.POSITIVE_INFINITY;
+    }
+
+    private boolean isUpperBoundIncluded() {
+        return comparison != Comparison.LESS;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RangeQuery)) {
+            return false;
+        }
+
+        RangeQuery otherQuery = (RangeQuery) other;
+        return field == otherQuery.field && comparison == otherQuery.comparison
+                && Double.compare(value, otherQuery.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, comparison, value);
+    }
+
+    @Override
+    public String toString() {
+        return field + " " + comparison + " " + value;
+    }
+}
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -161,6 +162,24 @@ public class Team {
         return losses;
     }
 
+    /**
+     * Returns a team with the same id and record as this one, in which every member with the id of a person in
+     * {@code editedPersonsById} is replaced by that person. Returns this team if none of its members are replaced.
+     *
+     * @throws DuplicateRoleException if the replaced members no longer have unique roles.
+     * @throws DuplicateChampionException if the replaced members no longer have unique champions.
+     */
+    public Team withUpdatedPersons(Map<String, Person> editedPersonsById) {
+        List<Person> updatedPersons = new ArrayList<>(persons.size());
+        boolean isAnyPersonUpdated = false;
+        for (Person person : persons) {
+            Person editedPerson = editedPersonsById.get(person.getId());
+            isAnyPersonUpdated |= editedPerson != null;
+            updatedPersons.add(editedPerson != null ? editedPerson : person);
+        }
+        return isAnyPersonUpdated ? new Team(id, updatedPersons, wins, losses) : this;
+    }
+
     /**
      * Returns a formatted string representation of the team for display purposes.
      * Shows team members in the format: Name1 (Role1), Name2 (Role2), ...
@@ -3,13 +3,17 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.PersonAlreadyInTeamException;
@@ -24,20 +28,25 @@ import seedu.address.model.team.exceptions.TeamNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A hash set of the teams, and a reverse index from person id to the team containing that person, are kept in step
+ * with the backing list, so duplicate checks and membership queries do not need to scan every team.
+ *
  * @see Team#isSameTeam(Team)
  */
 public class UniqueTeamList implements Iterable<Team> {
 
-    private final ObservableList<Team> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Team> internalList = new BatchableObservableList<>();
     private final ObservableList<Team> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Team> teamsByPersonId = new HashMap<>();
+    private final Set<Team> teamSet = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent team as the given argument.
      */
     public boolean contains(Team toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTeam);
+        return teamSet.contains(toCheck);
     }
 
     /**
@@ -60,6 +69,7 @@ public class UniqueTeamList implements Iterable<Team> {
             }
         }
 
+        indexTeam(toAdd);
         internalList.add(toAdd);
     }
 
@@ -80,22 +90,55 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
 
+        unindexTeam(internalList.get(index));
+        indexTeam(editedTeam);
         internalList.set(index, editedTeam);
     }
 
+    /**
+     * Replaces every team containing a person with the same id as one of the values of {@code editedPersonsById}
+     * with a copy holding the edited persons. Teams without such a person are left untouched.
+     */
+    public void updatePersons(Map<String, Person> editedPersonsById) {
+        requireNonNull(editedPersonsById);
+        Set<Team> affectedTeams = new LinkedHashSet<>();
+        for (String personId : editedPersonsById.keySet()) {
+            Team team = teamsByPersonId.get(personId);
+            if (team != null) {
+                affectedTeams.add(team);
+            }
+        }
+        for (Team team : affectedTeams) {
+            Team updatedTeam = team.withUpdatedPersons(editedPersonsById);
+            if (updatedTeam != team) {
+                setTeam(team, updatedTeam);
+            }
+        }
+    }
+
     /**
      * Removes the equivalent team from the list.
      * The team must exist in the list.
      */
     public void remove(Team toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TeamNotFoundException();
         }
+        unindexTeam(internalList.get(index));
+        internalList.remove(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setTeams(UniqueTeamList replacement) {
         requireNonNull(replacement);
+        teamsByPersonId.clear();
+        teamsByPersonId.putAll(replacement.teamsByPersonId);
+        teamSet.clear();
+        teamSet.addAll(replacement.teamSet);
         internalList.setAll(replacement.internalList);
     }
 
@@ -115,23 +158,24 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new PersonAlreadyInTeamException();
         }
 
+        teamsByPersonId.clear();
+        teamSet.clear();
+        for (Team team : teams) {
+            indexTeam(team);
+        }
         internalList.setAll(teams);
     }
 
     /**
      * Returns the team containing the given person, or null if the person is not in any team.
+     * Persons are matched by id, so a person keeps its team across edits to its other fields.
      *
      * @param person The person to search for.
      * @return The team containing the person, or null if not found.
      */
     public Team getTeamContainingPerson(Person person) {
         requireNonNull(person);
-        for (Team team : internalList) {
-            if (team.hasPerson(person)) {
-                return team;
-            }
-        }
-        return null;
+        return teamsByPersonId.get(person.getId());
     }
 
     /**
@@ -144,6 +188,32 @@ public class UniqueTeamList implements Iterable<Team> {
         return getTeamContainingPerson(person) != null;
     }
 
+    /**
+     * Starts gathering the modifications of this list into one change, fired by the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Undoes every modification made since the matching {@link #beginBatch()}. The batch must still be ended.
+     */
+    public void rollbackBatch() {
+        internalList.rollbackBatch();
+        teamsByPersonId.clear();
+        teamSet.clear();
+        for (Team team : internalList) {
+            indexTeam(team);
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -181,18 +251,31 @@ public class UniqueTeamList implements Iterable<Team> {
         return internalList.toString();
     }
 
+    /**
+     * Records {@code team} in the set of teams, and every member of it in the person-to-team index.
+     */
+    private void indexTeam(Team team) {
+        teamSet.add(team);
+        for (Person person : team.getPersons()) {
+            teamsByPersonId.put(person.getId(), team);
+        }
+    }
+
+    /**
+     * Removes {@code team} from the set of teams, and every member of it from the person-to-team index.
+     */
+    private void unindexTeam(Team team) {
+        teamSet.remove(team);
+        for (Person person : team.getPersons()) {
+            teamsByPersonId.remove(person.getId());
+        }
+    }
+
     /**
      * Returns true if {@code teams} contains only unique teams.
      */
     private boolean areTeamsUnique(List<Team> teams) {
-        for (int i = 0; i < teams.size() - 1; i++) {
-            for (int j = i + 1; j < teams.size(); j++) {
-                if (teams.get(i).isSameTeam(teams.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new HashSet<>(teams).size() == teams.size();
     }
 
     /**
@@ -202,11 +285,9 @@ public class UniqueTeamList implements Iterable<Team> {
         Set<String> seenPersonIds = new HashSet<>();
         for (Team team : teams) {
             for (Person person : team.getPersons()) {
-                String personId = person.getId().toString();
-                if (seenPersonIds.contains(personId)) {
+                if (!seenPersonIds.add(person.getId())) {
                     return false;
                 }
-                seenPersonIds.add(personId);
             }
         }
         return true;
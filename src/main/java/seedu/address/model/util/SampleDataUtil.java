@@ -25,8 +25,8 @@ public class SampleDataUtil {
         return new Person[] {
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Faker"), new Role("mid"), new Rank("diamond"),
-                new Champion("Azir"), getTagSet(),
+                new Name("Faker"), Role.of("mid"), Rank.of("diamond"),
+                Champion.of("Azir"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.4", "3400", "4.6")
                         .addLatestStats("4.8", "1100", "4.8")
@@ -34,8 +34,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Oner"), new Role("jungle"), new Rank("diamond"),
-                new Champion("Xin zhao"), getTagSet(),
+                new Name("Oner"), Role.of("jungle"), Rank.of("diamond"),
+                Champion.of("Xin zhao"), getTagSet(),
                 new Stats()
                         .addLatestStats("9.5", "-1150", "5.7")
                         .addLatestStats("7.4", "-3850", "4.8")
@@ -43,8 +43,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Gumayusi"), new Role("adc"), new Rank("diamond"),
-                new Champion("Xayah"), getTagSet(),
+                new Name("Gumayusi"), Role.of("adc"), Rank.of("diamond"),
+                Champion.of("Xayah"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.9", "5000", "4.7")
                         .addLatestStats("9.5", "3350", "6.9")
@@ -52,8 +52,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Zeus"), new Role("top"), new Rank("master"),
-                new Champion("Jayce"), getTagSet(),
+                new Name("Zeus"), Role.of("top"), Rank.of("master"),
+                Champion.of("Jayce"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.5", "1600", "5.2")
                         .addLatestStats("3.7", "2850", "6.3")
@@ -61,8 +61,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Keria"), new Role("support"), new Rank("challenger"),
-                new Champion("Bard"), getTagSet(),
+                new Name("Keria"), Role.of("support"), Rank.of("challenger"),
+                Champion.of("Bard"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.5", "-200", "4.0")
                         .addLatestStats("3.8", "-2450", "5.5")
@@ -70,8 +70,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Deft"), new Role("adc"), new Rank("master"),
-                new Champion("Caitlyn"), getTagSet(),
+                new Name("Deft"), Role.of("adc"), Rank.of("master"),
+                Champion.of("Caitlyn"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.8", "-2600", "5.9")
                         .addLatestStats("10.7", "-2800", "6.5")
@@ -79,8 +79,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Chovy"), new Role("mid"), new Rank("grandmaster"),
-                new Champion("Yone"), getTagSet(),
+                new Name("Chovy"), Role.of("mid"), Rank.of("grandmaster"),
+                Champion.of("Yone"), getTagSet(),
                 new Stats()
                         .addLatestStats("7.8", "-1650", "3.8")
                         .addLatestStats("4.7", "-3500", "3.4")
@@ -88,8 +88,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("ShowMaker"), new Role("mid"), new Rank("challenger"),
-                new Champion("Katarina"), getTagSet(),
+                new Name("ShowMaker"), Role.of("mid"), Rank.of("challenger"),
+                Champion.of("Katarina"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.3", "150", "5.0")
                         .addLatestStats("6.6", "650", "4.1")
@@ -97,8 +97,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Canyon"), new Role("jungle"), new Rank("emerald"),
-                new Champion("Aatrox"), getTagSet(),
+                new Name("Canyon"), Role.of("jungle"), Rank.of("emerald"),
+                Champion.of("Aatrox"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.4", "2700", "3.5")
                         .addLatestStats("3.9", "-250", "4.9")
@@ -106,8 +106,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Ruler"), new Role("adc"), new Rank("platinum"),
-                new Champion("Caitlyn"), getTagSet(),
+                new Name("Ruler"), Role.of("adc"), Rank.of("platinum"),
+                Champion.of("Caitlyn"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.7", "3650", "3.9")
                         .addLatestStats("5.6", "3450", "2.6")
@@ -115,8 +115,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Scout"), new Role("mid"), new Rank("gold"),
-                new Champion("Kassadin"), getTagSet(),
+                new Name("Scout"), Role.of("mid"), Rank.of("gold"),
+                Champion.of("Kassadin"), getTagSet(),
                 new Stats()
                         .addLatestStats("3.6", "-1450", "3.7")
                         .addLatestStats("7.0", "-3250", "5.1")
@@ -124,8 +124,8 @@ public class SampleDataUtil {
                 0, 3),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Knight"), new Role("mid"), new Rank("silver"),
-                new Champion("Zoe"), getTagSet(),
+                new Name("Knight"), Role.of("mid"), Rank.of("silver"),
+                Champion.of("Zoe"), getTagSet(),
                 new Stats()
                         .addLatestStats("10.1", "2550", "6.2")
                         .addLatestStats("6.7", "-2900", "8.0")
@@ -133,8 +133,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Meiko"), new Role("support"), new Rank("bronze"),
-                new Champion("Sona"), getTagSet(),
+                new Name("Meiko"), Role.of("support"), Rank.of("bronze"),
+                Champion.of("Sona"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.3", "3500", "4.4")
                         .addLatestStats("4.5", "-3650", "4.6")
@@ -142,8 +142,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Peanut"), new Role("jungle"), new Rank("grandmaster"),
-                new Champion("Teemo"), getTagSet(),
+                new Name("Peanut"), Role.of("jungle"), Rank.of("grandmaster"),
+                Champion.of("Teemo"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.3", "1250", "4.7")
                         .addLatestStats("3.9", "3900", "5.8")
@@ -151,8 +151,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Lehends"), new Role("support"), new Rank("challenger"),
-                new Champion("Blitzcrank"), getTagSet(),
+                new Name("Lehends"), Role.of("support"), Rank.of("challenger"),
+                Champion.of("Blitzcrank"), getTagSet(),
                 new Stats()
                         .addLatestStats("9.1", "800", "3.9")
                         .addLatestStats("5.3", "2400", "3.8")
@@ -160,8 +160,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Viper"), new Role("adc"), new Rank("emerald"),
-                new Champion("Ezreal"), getTagSet(),
+                new Name("Viper"), Role.of("adc"), Rank.of("emerald"),
+                Champion.of("Ezreal"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.3", "-1800", "4.1")
                         .addLatestStats("5.1", "-4750", "5.1")
@@ -169,8 +169,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Tarzan"), new Role("jungle"), new Rank("platinum"),
-                new Champion("Nasus"), getTagSet(),
+                new Name("Tarzan"), Role.of("jungle"), Rank.of("platinum"),
+                Champion.of("Nasus"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.5", "50", "4.9")
                         .addLatestStats("4.0", "1100", "3.9")
@@ -178,8 +178,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Doinb"), new Role("mid"), new Rank("gold"),
-                new Champion("Yasuo"), getTagSet(),
+                new Name("Doinb"), Role.of("mid"), Rank.of("gold"),
+                Champion.of("Yasuo"), getTagSet(),
                 new Stats()
                         .addLatestStats("7.1", "700", "5.3")
                         .addLatestStats("6.8", "-4450", "3.3")
@@ -187,8 +187,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("TheShy"), new Role("top"), new Rank("silver"),
-                new Champion("Darius"), getTagSet(),
+                new Name("TheShy"), Role.of("top"), Rank.of("silver"),
+                Champion.of("Darius"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.9", "0", "4.3")
                         .addLatestStats("6.0", "4900", "5.3")
@@ -196,8 +196,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Rookie"), new Role("mid"), new Rank("bronze"),
-                new Champion("Talon"), getTagSet(),
+                new Name("Rookie"), Role.of("mid"), Rank.of("bronze"),
+                Champion.of("Talon"), getTagSet(),
                 new Stats()
                         .addLatestStats("7.7", "-550", "4.5")
                         .addLatestStats("6.8", "4800", "5.5")
@@ -205,8 +205,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Uzi"), new Role("adc"), new Rank("iron"),
-                new Champion("Ashe"), getTagSet(),
+                new Name("Uzi"), Role.of("adc"), Rank.of("iron"),
+                Champion.of("Ashe"), getTagSet(),
                 new Stats()
                         .addLatestStats("9.4", "1300", "4.5")
                         .addLatestStats("10.7", "2700", "6.0")
@@ -214,8 +214,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("JackeyLove"), new Role("adc"), new Rank("diamond"),
-                new Champion("Jinx"), getTagSet(),
+                new Name("JackeyLove"), Role.of("adc"), Rank.of("diamond"),
+                Champion.of("Jinx"), getTagSet(),
                 new Stats()
                         .addLatestStats("9.0", "4950", "3.8")
                         .addLatestStats("6.1", "-2350", "5.4")
@@ -223,8 +223,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Ming"), new Role("support"), new Rank("master"),
-                new Champion("Nautilus"), getTagSet(),
+                new Name("Ming"), Role.of("support"), Rank.of("master"),
+                Champion.of("Nautilus"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.5", "1300", "5.1")
                         .addLatestStats("4.5", "-2100", "5.1")
@@ -232,8 +232,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Karsa"), new Role("jungle"), new Rank("grandmaster"),
-                new Champion("Shen"), getTagSet(),
+                new Name("Karsa"), Role.of("jungle"), Rank.of("grandmaster"),
+                Champion.of("Shen"), getTagSet(),
                 new Stats()
                         .addLatestStats("7.6", "-1000", "5.2")
                         .addLatestStats("7.3", "-1500", "3.6")
@@ -241,8 +241,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Baolan"), new Role("support"), new Rank("challenger"),
-                new Champion("Soraka"), getTagSet(),
+                new Name("Baolan"), Role.of("support"), Rank.of("challenger"),
+                Champion.of("Soraka"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.0", "-150", "5.6")
                         .addLatestStats("8.3", "-5000", "6.2")
@@ -250,8 +250,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Clid"), new Role("jungle"), new Rank("emerald"),
-                new Champion("Renekton"), getTagSet(),
+                new Name("Clid"), Role.of("jungle"), Rank.of("emerald"),
+                Champion.of("Renekton"), getTagSet(),
                 new Stats()
                         .addLatestStats("3.7", "-1050", "7.0")
                         .addLatestStats("4.3", "3050", "2.9")
@@ -259,8 +259,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("BeryL"), new Role("support"), new Rank("platinum"),
-                new Champion("Nami"), getTagSet(),
+                new Name("BeryL"), Role.of("support"), Rank.of("platinum"),
+                Champion.of("Nami"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.4", "-4550", "5.1")
                         .addLatestStats("6.4", "2650", "4.7")
@@ -268,8 +268,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Zeka"), new Role("mid"), new Rank("gold"),
-                new Champion("Syndra"), getTagSet(),
+                new Name("Zeka"), Role.of("mid"), Rank.of("gold"),
+                Champion.of("Syndra"), getTagSet(),
                 new Stats()
                         .addLatestStats("4.8", "4100", "5.8")
                         .addLatestStats("6.6", "1300", "6.1")
@@ -277,8 +277,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Gala"), new Role("adc"), new Rank("silver"),
-                new Champion("Vayne"), getTagSet(),
+                new Name("Gala"), Role.of("adc"), Rank.of("silver"),
+                Champion.of("Vayne"), getTagSet(),
                 new Stats()
                         .addLatestStats("4.8", "-50", "5.4")
                         .addLatestStats("10.8", "3000", "6.7")
@@ -286,8 +286,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Wei"), new Role("jungle"), new Rank("bronze"),
-                new Champion("Tryndamere"), getTagSet(),
+                new Name("Wei"), Role.of("jungle"), Rank.of("bronze"),
+                Champion.of("Tryndamere"), getTagSet(),
                 new Stats()
                         .addLatestStats("9.7", "-300", "4.7")
                         .addLatestStats("8.2", "1850", "7.3")
@@ -295,8 +295,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Crisp"), new Role("support"), new Rank("iron"),
-                new Champion("Janna"), getTagSet(),
+                new Name("Crisp"), Role.of("support"), Rank.of("iron"),
+                Champion.of("Janna"), getTagSet(),
                 new Stats()
                         .addLatestStats("9.0", "4700", "6.1")
                         .addLatestStats("9.2", "4400", "3.1")
@@ -304,8 +304,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Lwx"), new Role("adc"), new Rank("master"),
-                new Champion("Caitlyn"), getTagSet(),
+                new Name("Lwx"), Role.of("adc"), Rank.of("master"),
+                Champion.of("Caitlyn"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.8", "-250", "5.1")
                         .addLatestStats("6.4", "1700", "5.2")
@@ -313,8 +313,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("FoFo"), new Role("mid"), new Rank("grandmaster"),
-                new Champion("Galio"), getTagSet(),
+                new Name("FoFo"), Role.of("mid"), Rank.of("grandmaster"),
+                Champion.of("Galio"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.8", "-2600", "4.6")
                         .addLatestStats("7.3", "3400", "8.1")
@@ -322,8 +322,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Maple"), new Role("mid"), new Rank("challenger"),
-                new Champion("Ahri"), getTagSet(),
+                new Name("Maple"), Role.of("mid"), Rank.of("challenger"),
+                Champion.of("Ahri"), getTagSet(),
                 new Stats()
                         .addLatestStats("7.5", "4200", "5.3")
                         .addLatestStats("5.2", "4150", "4.1")
@@ -331,8 +331,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("SwordArt"), new Role("support"), new Rank("emerald"),
-                new Champion("Thresh"), getTagSet(),
+                new Name("SwordArt"), Role.of("support"), Rank.of("emerald"),
+                Champion.of("Thresh"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.0", "3150", "6.0")
                         .addLatestStats("5.5", "4800", "4.8")
@@ -340,8 +340,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Hanabi"), new Role("top"), new Rank("platinum"),
-                new Champion("Riven"), getTagSet(),
+                new Name("Hanabi"), Role.of("top"), Rank.of("platinum"),
+                Champion.of("Riven"), getTagSet(),
                 new Stats()
                         .addLatestStats("10.5", "2800", "4.1")
                         .addLatestStats("9.9", "4350", "5.6")
@@ -349,8 +349,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("River"), new Role("jungle"), new Rank("gold"),
-                new Champion("Aatrox"), getTagSet(),
+                new Name("River"), Role.of("jungle"), Rank.of("gold"),
+                Champion.of("Aatrox"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.5", "750", "3.9")
                         .addLatestStats("3.6", "3900", "3.0")
@@ -358,8 +358,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("CoreJJ"), new Role("support"), new Rank("silver"),
-                new Champion("Rakan"), getTagSet(),
+                new Name("CoreJJ"), Role.of("support"), Rank.of("silver"),
+                Champion.of("Rakan"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.8", "-3250", "5.6")
                         .addLatestStats("9.7", "-4100", "6.7")
@@ -367,8 +367,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Bjergsen"), new Role("mid"), new Rank("bronze"),
-                new Champion("Annie"), getTagSet(),
+                new Name("Bjergsen"), Role.of("mid"), Rank.of("bronze"),
+                Champion.of("Annie"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.6", "4350", "4.6")
                         .addLatestStats("5.1", "-750", "3.8")
@@ -376,8 +376,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Doublelift"), new Role("adc"), new Rank("iron"),
-                new Champion("Xayah"), getTagSet(),
+                new Name("Doublelift"), Role.of("adc"), Rank.of("iron"),
+                Champion.of("Xayah"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.9", "4750", "4.9")
                         .addLatestStats("10.7", "4200", "6.5")
@@ -385,8 +385,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Sneaky"), new Role("adc"), new Rank("diamond"),
-                new Champion("Ezreal"), getTagSet(),
+                new Name("Sneaky"), Role.of("adc"), Rank.of("diamond"),
+                Champion.of("Ezreal"), getTagSet(),
                 new Stats()
                         .addLatestStats("4.0", "-600", "5.9")
                         .addLatestStats("7.8", "-2950", "4.9")
@@ -394,8 +394,8 @@ public class SampleDataUtil {
                 0, 3),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Meteos"), new Role("jungle"), new Rank("master"),
-                new Champion("Teemo"), getTagSet(),
+                new Name("Meteos"), Role.of("jungle"), Rank.of("master"),
+                Champion.of("Teemo"), getTagSet(),
                 new Stats()
                         .addLatestStats("10.6", "-1350", "5.6")
                         .addLatestStats("10.1", "4800", "4.6")
@@ -403,8 +403,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Impact"), new Role("top"), new Rank("grandmaster"),
-                new Champion("Malphite"), getTagSet(),
+                new Name("Impact"), Role.of("top"), Rank.of("grandmaster"),
+                Champion.of("Malphite"), getTagSet(),
                 new Stats()
                         .addLatestStats("3.6", "-4650", "6.1")
                         .addLatestStats("7.4", "-250", "3.1")
@@ -412,8 +412,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Xmithie"), new Role("jungle"), new Rank("challenger"),
-                new Champion("Nasus"), getTagSet(),
+                new Name("Xmithie"), Role.of("jungle"), Rank.of("challenger"),
+                Champion.of("Nasus"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.6", "-4650", "5.6")
                         .addLatestStats("6.3", "2350", "4.6")
@@ -421,8 +421,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Aphromoo"), new Role("support"), new Rank("emerald"),
-                new Champion("Lulu"), getTagSet(),
+                new Name("Aphromoo"), Role.of("support"), Rank.of("emerald"),
+                Champion.of("Lulu"), getTagSet(),
                 new Stats()
                         .addLatestStats("10.3", "300", "6.6")
                         .addLatestStats("6.4", "1900", "5.8")
@@ -430,8 +430,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Blaber"), new Role("jungle"), new Rank("platinum"),
-                new Champion("Shen"), getTagSet(),
+                new Name("Blaber"), Role.of("jungle"), Rank.of("platinum"),
+                Champion.of("Shen"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.1", "300", "4.9")
                         .addLatestStats("6.6", "-3950", "4.6")
@@ -439,8 +439,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Vulcan"), new Role("support"), new Rank("gold"),
-                new Champion("Sona"), getTagSet(),
+                new Name("Vulcan"), Role.of("support"), Rank.of("gold"),
+                Champion.of("Sona"), getTagSet(),
                 new Stats()
                         .addLatestStats("7.8", "3850", "4.2")
                         .addLatestStats("6.3", "4450", "4.7")
@@ -448,8 +448,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Zven"), new Role("support"), new Rank("silver"),
-                new Champion("Leona"), getTagSet(),
+                new Name("Zven"), Role.of("support"), Rank.of("silver"),
+                Champion.of("Leona"), getTagSet(),
                 new Stats()
                         .addLatestStats("9.9", "4000", "6.2")
                         .addLatestStats("6.7", "-4200", "5.6")
@@ -457,8 +457,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Spica"), new Role("jungle"), new Rank("bronze"),
-                new Champion("Renekton"), getTagSet(),
+                new Name("Spica"), Role.of("jungle"), Rank.of("bronze"),
+                Champion.of("Renekton"), getTagSet(),
                 new Stats()
                         .addLatestStats("10.3", "-2450", "4.4")
                         .addLatestStats("8.3", "-2050", "5.8")
@@ -466,8 +466,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Inspired"), new Role("jungle"), new Rank("iron"),
-                new Champion("Tryndamere"), getTagSet(),
+                new Name("Inspired"), Role.of("jungle"), Rank.of("iron"),
+                Champion.of("Tryndamere"), getTagSet(),
                 new Stats()
                         .addLatestStats("4.4", "2200", "1.9")
                         .addLatestStats("5.3", "-750", "4.2")
@@ -475,8 +475,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Untara"), new Role("top"), new Rank("grandmaster"),
-                new Champion("Teemo"), getTagSet(),
+                new Name("Untara"), Role.of("top"), Rank.of("grandmaster"),
+                Champion.of("Teemo"), getTagSet(),
                 new Stats()
                         .addLatestStats("9.1", "-2250", "4.9")
                         .addLatestStats("3.9", "-2750", "3.3")
@@ -484,8 +484,8 @@ public class SampleDataUtil {
                 0, 3),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Kiin"), new Role("top"), new Rank("challenger"),
-                new Champion("K'sante"), getTagSet(),
+                new Name("Kiin"), Role.of("top"), Rank.of("challenger"),
+                Champion.of("K'sante"), getTagSet(),
                 new Stats()
                         .addLatestStats("8.7", "-4100", "5.4")
                         .addLatestStats("10.3", "-3400", "4.5")
@@ -493,8 +493,8 @@ public class SampleDataUtil {
                 0, 3),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Morgan"), new Role("top"), new Rank("emerald"),
-                new Champion("Renekton"), getTagSet(),
+                new Name("Morgan"), Role.of("top"), Rank.of("emerald"),
+                Champion.of("Renekton"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.9", "2200", "5.1")
                         .addLatestStats("6.5", "-3150", "3.7")
@@ -502,8 +502,8 @@ public class SampleDataUtil {
                 2, 1),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Doran"), new Role("top"), new Rank("platinum"),
-                new Champion("Malphite"), getTagSet(),
+                new Name("Doran"), Role.of("top"), Rank.of("platinum"),
+                Champion.of("Malphite"), getTagSet(),
                 new Stats()
                         .addLatestStats("7.4", "2350", "4.5")
                         .addLatestStats("6.7", "1500", "4.5")
@@ -511,8 +511,8 @@ public class SampleDataUtil {
                 3, 0),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Ireking"), new Role("top"), new Rank("diamond"),
-                new Champion("Irelia"), getTagSet(),
+                new Name("Ireking"), Role.of("top"), Rank.of("diamond"),
+                Champion.of("Irelia"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.0", "-1700", "4.8")
                         .addLatestStats("6.7", "1400", "6.6")
@@ -520,8 +520,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Adam"), new Role("top"), new Rank("silver"),
-                new Champion("Garen"), getTagSet(),
+                new Name("Adam"), Role.of("top"), Rank.of("silver"),
+                Champion.of("Garen"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.9", "4600", "5.2")
                         .addLatestStats("9.5", "-4750", "4.1")
@@ -529,8 +529,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Kingen"), new Role("top"), new Rank("bronze"),
-                new Champion("Aatrox"), getTagSet(),
+                new Name("Kingen"), Role.of("top"), Rank.of("bronze"),
+                Champion.of("Aatrox"), getTagSet(),
                 new Stats()
                         .addLatestStats("6.7", "-4350", "4.6")
                         .addLatestStats("6.0", "-3250", "6.0")
@@ -538,8 +538,8 @@ public class SampleDataUtil {
                 1, 2),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Driver"), new Role("top"), new Rank("iron"),
-                new Champion("Sion"), getTagSet(),
+                new Name("Driver"), Role.of("top"), Rank.of("iron"),
+                Champion.of("Sion"), getTagSet(),
                 new Stats()
                         .addLatestStats("5.5", "-1150", "5.8")
                         .addLatestStats("6.8", "-4750", "4.9")
@@ -547,8 +547,8 @@ public class SampleDataUtil {
                 0, 3),
             new Person(
                 UUID.randomUUID().toString(),
-                new Name("Bwipbo"), new Role("top"), new Rank("diamond"),
-                new Champion("Mordekaiser"), getTagSet(),
+                new Name("Bwipbo"), Role.of("top"), Rank.of("diamond"),
+                Champion.of("Mordekaiser"), getTagSet(),
                 new Stats()
                         .addLatestStats("4.4", "-1550", "5.5")
                         .addLatestStats("8.5", "-3850", "4.7")
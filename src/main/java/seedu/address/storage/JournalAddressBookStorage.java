@@ -0,0 +1,405 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot followed by an append-only journal.
+ * <p>
+ * The snapshot has the same format as the file of a {@link JsonAddressBookStorage}. Each save compares the address
+ * book with the one last read or saved, and appends one compact record per added, edited or removed person or team
+ * to the journal, so the amount written is proportional to the change rather than to the size of the address book.
+ * When reading, the journal is replayed on top of the snapshot.
+ * <p>
+ * Once the journal grows past the compaction threshold, it is set aside and a new snapshot is written on a
+ * background thread while new records go to a fresh journal. The set-aside journal is deleted only after the new
+ * snapshot has replaced the old one, so the data can be read back correctly at any point.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Size of the journal, in bytes, above which it is compacted into a new snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.old";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String COMPACTOR_THREAD_NAME = "address-book-compactor";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor;
+
+    // The persons and teams stored at filePath, keyed by id, as of the last read or save; null if not known.
+    private Map<String, Person> savedPersons;
+    private Map<String, Team> savedTeams;
+    private long journalSize;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts its journal once it is larger than
+     * {@code compactionThreshold} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, COMPACTOR_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that records changes made after the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getCompactingJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        try {
+            awaitCompaction();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (addressBook.isPresent() && isEndOfLastRecord(journalFilePath)) {
+            remember(addressBook.get());
+            journalSize = journalFilePath.toFile().length();
+        } else {
+            // Writes a full snapshot on the next save, instead of appending to a journal that ends mid-record.
+            savedPersons = null;
+            savedTeams = null;
+        }
+        return addressBook;
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path compactingJournalFilePath = getCompactingJournalFilePath(filePath);
+        boolean hasSnapshot = Files.exists(filePath);
+        if (!hasSnapshot && !Files.exists(journalFilePath) && !Files.exists(compactingJournalFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            if (hasSnapshot) {
+                reader.read(filePath);
+            }
+            replayJournal(compactingJournalFilePath, reader);
+            replayJournal(journalFilePath, reader);
+            return Optional.of(reader.toModelType());
+        } catch (IOException e) {
+            logger.warning("Error reading from address book file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies every record in the journal at {@code journalFilePath}, if it exists, to what {@code reader} has read.
+     * A last record that cannot be parsed is assumed to have been cut short and is skipped.
+     */
+    private static void replayJournal(Path journalFilePath, JsonAddressBookReader reader)
+            throws DataLoadingException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last record of journal file " + journalFilePath);
+                    return;
+                }
+                logger.warning("Error reading record " + (i + 1) + " of journal file " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            reader.apply(record);
+        }
+    }
+
+    /**
+     * Returns true if the journal at {@code journalFilePath} is missing, empty, or ends with a complete record.
+     */
+    private static boolean isEndOfLastRecord(Path journalFilePath) {
+        if (!Files.exists(journalFilePath)) {
+            return true;
+        }
+        try (RandomAccessFile journal = new RandomAccessFile(journalFilePath.toFile(), "r")) {
+            if (journal.length() == 0) {
+                return true;
+            }
+            journal.seek(journal.length() - 1);
+            return journal.read() == '\n';
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (savedPersons == null) {
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        boolean canAppend = addChanges(addressBook.getPersonList(), savedPersons, Person::getId,
+                JsonAdaptedJournalRecord::putPerson, JsonAdaptedJournalRecord::removePerson, records)
+                && addChanges(addressBook.getTeamList(), savedTeams, Team::getId,
+                JsonAdaptedJournalRecord::putTeam, JsonAdaptedJournalRecord::removeTeam, records);
+        if (!canAppend) {
+            saveSnapshot(addressBook);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        appendToJournal(records);
+        remember(addressBook);
+        if (journalSize > compactionThreshold) {
+            startCompaction(addressBook);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's own file always writes a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        writeSnapshotFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Adds to {@code records} the changes that turn the {@code saved} items into the {@code current} ones.
+     * Returns false if replaying those changes would not leave the items in the same order as {@code current},
+     * e.g. because the list was sorted, in which case a full snapshot has to be written instead.
+     */
+    private static <T> boolean addChanges(List<T> current, Map<String, T> saved, Function<T, String> idOf,
+            Function<T, JsonAdaptedJournalRecord> putRecordOf,
+            Function<String, JsonAdaptedJournalRecord> removeRecordOf, List<JsonAdaptedJournalRecord> records) {
+        Map<String, T> currentById = new HashMap<>();
+        for (T item : current) {
+            currentById.put(idOf.apply(item), item);
+        }
+        for (String savedId : saved.keySet()) {
+            if (!currentById.containsKey(savedId)) {
+                records.add(removeRecordOf.apply(savedId));
+            }
+        }
+
+        // Replaying keeps the remaining saved items in their order, and appends new items after them.
+        Iterator<String> savedIds = saved.keySet().iterator();
+        boolean hasNewItem = false;
+        for (T item : current) {
+            String id = idOf.apply(item);
+            T savedItem = saved.get(id);
+            if (savedItem == null) {
+                hasNewItem = true;
+                records.add(putRecordOf.apply(item));
+                continue;
+            }
+            if (hasNewItem || !id.equals(nextRemainingId(savedIds, currentById))) {
+                return false;
+            }
+            if (savedItem != item) {
+                records.add(putRecordOf.apply(item));
+            }
+        }
+        return true;
+    }
+
+    private static String nextRemainingId(Iterator<String> savedIds, Map<String, ?> currentById) {
+        while (savedIds.hasNext()) {
+            String id = savedIds.next();
+            if (currentById.containsKey(id)) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        Files.write(journalFilePath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalSize += bytes.length;
+    }
+
+    private void remember(ReadOnlyAddressBook addressBook) {
+        savedPersons = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            savedPersons.put(person.getId(), person);
+        }
+        savedTeams = new LinkedHashMap<>();
+        for (Team team : addressBook.getTeamList()) {
+            savedTeams.put(team.getId(), team);
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code addressBook} and deletes the journals, on the calling thread.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+        writeSnapshotFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        journalSize = 0;
+        remember(addressBook);
+    }
+
+    /**
+     * Sets the journal aside and writes {@code addressBook}, which includes all of its records, as the new snapshot
+     * on the compactor thread. Does nothing if a compaction is still in progress.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook) throws IOException {
+        if (!compaction.isDone()) {
+            return;
+        }
+
+        Path compactingJournalFilePath = getCompactingJournalFilePath(filePath);
+        if (Files.exists(compactingJournalFilePath)) {
+            // The previous compaction failed, so the new snapshot has to include both journals.
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        Files.move(getJournalFilePath(filePath), compactingJournalFilePath);
+        journalSize = 0;
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        compaction = compactor.submit(() -> {
+            try {
+                writeSnapshotFile(new JsonSerializableAddressBook(snapshot), filePath);
+                Files.delete(compactingJournalFilePath);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + e);
+            }
+        });
+    }
+
+    private void awaitCompaction() throws IOException {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the journal to be compacted", e);
+        } catch (ExecutionException e) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code jsonAddressBook} to a temporary file and then moves it to {@code filePath}, so that the file at
+     * {@code filePath} is never left half-written.
+     */
+    private static void writeSnapshotFile(JsonSerializableAddressBook jsonAddressBook, Path filePath)
+            throws IOException {
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(temporaryFilePath);
+        JsonUtil.saveJsonFile(jsonAddressBook, temporaryFilePath);
+        try {
+            Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
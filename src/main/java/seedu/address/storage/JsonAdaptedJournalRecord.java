@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Jackson-friendly version of one change to an address book, as recorded in the journal of a
+ * {@link JournalAddressBookStorage}. A record either puts (adds or replaces) a person or team with a given id,
+ * or removes the person or team with a given id.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Operation {
+        PUT_PERSON, REMOVE_PERSON, PUT_TEAM, REMOVE_TEAM
+    }
+
+    private final Operation op;
+    private final String id;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedTeam team;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op, @JsonProperty("id") String id,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("team") JsonAdaptedTeam team) {
+        this.op = op;
+        this.id = id;
+        this.person = person;
+        this.team = team;
+    }
+
+    /**
+     * Returns a record that adds {@code person}, or replaces the person with the same id.
+     */
+    static JsonAdaptedJournalRecord putPerson(Person person) {
+        return new JsonAdaptedJournalRecord(Operation.PUT_PERSON, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record that removes the person with the given id.
+     */
+    static JsonAdaptedJournalRecord removePerson(String personId) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_PERSON, personId, null, null);
+    }
+
+    /**
+     * Returns a record that adds {@code team}, or replaces the team with the same id.
+     */
+    static JsonAdaptedJournalRecord putTeam(Team team) {
+        return new JsonAdaptedJournalRecord(Operation.PUT_TEAM, null, null, new JsonAdaptedTeam(team));
+    }
+
+    /**
+     * Returns a record that removes the team with the given id.
+     */
+    static JsonAdaptedJournalRecord removeTeam(String teamId) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_TEAM, teamId, null, null);
+    }
+
+    /**
+     * Applies this change to the given model persons and Jackson-friendly teams, which are keyed by id.
+     * A person or team that is put with a new id is added after all existing ones, while one that is put with an
+     * existing id keeps its position.
+     *
+     * @throws IllegalValueException if this record is missing the fields its operation needs, or its person is invalid.
+     */
+    void applyTo(Map<String, Person> persons, Map<String, JsonAdaptedTeam> teams) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing op"));
+        }
+
+        switch (op) {
+        case PUT_PERSON:
+            if (person == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing person"));
+            }
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getId(), modelPerson);
+            break;
+        case REMOVE_PERSON:
+            persons.remove(requireId());
+            break;
+        case PUT_TEAM:
+            if (team == null || team.getTeamId() == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing team"));
+            }
+            teams.put(team.getTeamId(), team);
+            break;
+        case REMOVE_TEAM:
+            teams.remove(requireId());
+            break;
+        default:
+            throw new AssertionError("Unknown journal operation: " + op);
+        }
+    }
+
+    private String requireId() throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing id"));
+        }
+        return id;
+    }
+}
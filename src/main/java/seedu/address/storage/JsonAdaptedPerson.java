@@ -78,6 +78,13 @@ class JsonAdaptedPerson {
         losses = source.getLosses();
     }
 
+    /**
+     * Returns the id of the person, which may be missing if the data was not valid.
+     */
+    String getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -140,7 +147,7 @@ class JsonAdaptedPerson {
         if (!Role.isValidRole(role)) {
             throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(role);
+        return Role.of(role);
     }
 
     /**
@@ -153,7 +160,7 @@ class JsonAdaptedPerson {
         if (!Rank.isValidRank(rank)) {
             throw new IllegalValueException(Rank.MESSAGE_CONSTRAINTS);
         }
-        return new Rank(rank);
+        return Rank.of(rank);
     }
 
     /**
@@ -167,6 +174,6 @@ class JsonAdaptedPerson {
         if (!Champion.isValidChampion(champion)) {
             throw new IllegalValueException(Champion.MESSAGE_CONSTRAINTS);
         }
-        return new Champion(champion);
+        return Champion.of(champion);
     }
 }
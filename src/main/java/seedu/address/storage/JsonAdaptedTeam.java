@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -16,6 +17,7 @@ import seedu.address.model.team.Team;
  */
 public class JsonAdaptedTeam {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Team's %s field is missing!";
+    public static final String MESSAGE_INVALID_PERSON_ID = "Invalid Person ID in Team: %s";
 
     private final String teamId;
     private final List<String> personIds = new ArrayList<>();
@@ -50,22 +52,30 @@ public class JsonAdaptedTeam {
         this.losses = source.getLosses();
     }
 
+    /**
+     * Returns the id of the team, which may be missing if the data was not valid.
+     */
+    String getTeamId() {
+        return teamId;
+    }
+
     /**
      * Converts this Jackson-friendly adapted team object into the model's {@code Team} object.
      *
+     * @param personsById every person that the team may refer to, keyed by id.
      * @throws IllegalValueException if there were any data constraints violated in the adapted team.
      */
-    public Team toModelType(List<Person> allPersons) throws IllegalValueException {
+    public Team toModelType(Map<String, Person> personsById) throws IllegalValueException {
         if (teamId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "teamId"));
         }
 
         final List<Person> teamPersons = new ArrayList<>();
         for (String personId : personIds) {
-            Person person = allPersons.stream()
-                    .filter(p -> p.getId().equals(personId))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalValueException("Invalid Person ID in Team: " + personId));
+            Person person = personsById.get(personId);
+            if (person == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON_ID, personId));
+            }
             teamPersons.add(person);
         }
         return new Team(teamId, teamPersons, wins, losses);
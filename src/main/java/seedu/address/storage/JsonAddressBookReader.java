@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Reads an address book from a JSON file in the format of {@link JsonSerializableAddressBook}, one person or team at
+ * a time. Each person is converted into the model's {@code Person} as soon as it is read, so neither the text of the
+ * file nor the Jackson-friendly version of every person has to be held in memory at once.
+ * Changes recorded in a journal can be applied on top of the file before the address book is built.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Expected an address book, but found %s";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TEAMS_FIELD = "teams";
+
+    private final Map<String, Person> persons = new LinkedHashMap<>();
+    private final Map<String, JsonAdaptedTeam> teams = new LinkedHashMap<>();
+
+    /**
+     * Reads the persons and teams in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated in a person or team.
+     */
+    void read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException(String.format(MESSAGE_NOT_ADDRESS_BOOK, token));
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (PERSONS_FIELD.equals(fieldName)) {
+                    readPersons(parser);
+                } else if (TEAMS_FIELD.equals(fieldName)) {
+                    readTeams(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        while (nextArrayElement(parser)) {
+            Person person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+            if (persons.put(person.getId(), person) != null) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+    }
+
+    private void readTeams(JsonParser parser) throws IOException, IllegalValueException {
+        while (nextArrayElement(parser)) {
+            JsonAdaptedTeam team = parser.readValueAs(JsonAdaptedTeam.class);
+            if (team.getTeamId() == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedTeam.MISSING_FIELD_MESSAGE_FORMAT, "teamId"));
+            }
+            if (teams.put(team.getTeamId(), team) != null) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM);
+            }
+        }
+    }
+
+    /**
+     * Moves {@code parser} to the next element of the array it is in, and returns false if there are none left.
+     */
+    private static boolean nextArrayElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new IOException("Unexpected end of file in " + parser.getCurrentLocation());
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    /**
+     * Applies the change in {@code record} to the persons and teams read so far.
+     *
+     * @throws IllegalValueException if the record is invalid.
+     */
+    void apply(JsonAdaptedJournalRecord record) throws IllegalValueException {
+        record.applyTo(persons, teams);
+    }
+
+    /**
+     * Builds the model's {@code AddressBook} from the persons and teams read.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toModelType() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+
+        for (Person person : persons.values()) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+
+        for (JsonAdaptedTeam jsonAdaptedTeam : teams.values()) {
+            Team team = jsonAdaptedTeam.toModelType(persons);
+            if (addressBook.hasTeam(team)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM);
+            }
+            addressBook.addTeam(team);
+        }
+
+        return addressBook;
+    }
+}
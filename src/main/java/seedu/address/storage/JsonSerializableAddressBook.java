@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -58,19 +62,20 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
 
-        List<Person> personList = new ArrayList<>();
+        // Persons are indexed by id, which both detects duplicate ids and lets teams find their members directly.
+        Map<String, Person> personsById = new HashMap<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            if (personsById.putIfAbsent(person.getId(), person) != null || addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
-            personList.add(person);
         }
 
+        Set<String> teamIds = new HashSet<>();
         for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
-            Team team = jsonAdaptedTeam.toModelType(personList);
-            if (addressBook.hasTeam(team)) {
+            Team team = jsonAdaptedTeam.toModelType(personsById);
+            if (!teamIds.add(team.getId()) || addressBook.hasTeam(team)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
             }
             addressBook.addTeam(team);
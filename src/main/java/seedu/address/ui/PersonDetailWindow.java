@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -13,7 +14,9 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Metric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RecentForm;
 import seedu.address.model.person.Stats;
 
 /**
@@ -52,6 +55,8 @@ public class PersonDetailWindow extends UiPart<Stage> {
     @FXML private Label lossesLabel;
     @FXML private Label tagsLabel;
     @FXML private Label performanceLabel;
+    @FXML private Label recentFormLabel;
+    @FXML private Label trendLabel;
     @FXML private GridPane detailsPane;
 
     // @FXML fields for the charts defined in FXML.
@@ -102,6 +107,27 @@ public class PersonDetailWindow extends UiPart<Stage> {
         winsLabel.setText(String.valueOf(person.getWins()));
         lossesLabel.setText(String.valueOf(person.getLosses()));
         performanceLabel.setText(String.format("%.1f / 10.0", person.getStats().getValue()));
+        recentFormLabel.setText(formatRecentForm(person.getStats(), RecentForm::getWindowMean)
+                + String.format(" (latest %d matches)",
+                        person.getStats().getRecentForm(Metric.SCORE).getWindowSize()));
+        trendLabel.setText(formatRecentForm(person.getStats(), RecentForm::getEwma));
+    }
+
+    /**
+     * Returns the given figure of the recent form in every metric of {@code stats}, e.g.
+     * {@code "Score 6.8 | CPM 7.2 | GD15 +350 | KDA 2.4"}, or "No matches recorded" if there are none.
+     * Package-private to allow testing.
+     */
+    static String formatRecentForm(Stats stats, ToDoubleFunction<RecentForm> figure) {
+        requireNonNull(stats);
+        if (stats.getMatchCount() == 0) {
+            return "No matches recorded";
+        }
+        return String.format("%s %.1f | %s %.1f | %s %+.0f | %s %.2f",
+                Metric.SCORE, figure.applyAsDouble(stats.getRecentForm(Metric.SCORE)),
+                Metric.CS_PER_MINUTE, figure.applyAsDouble(stats.getRecentForm(Metric.CS_PER_MINUTE)),
+                Metric.GOLD_DIFF_AT_15, figure.applyAsDouble(stats.getRecentForm(Metric.GOLD_DIFF_AT_15)),
+                Metric.KDA, figure.applyAsDouble(stats.getRecentForm(Metric.KDA)));
     }
 
     /**
@@ -0,0 +1,108 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchableObservableListTest {
+
+    private final BatchableObservableList<String> list = new BatchableObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(List.of("a", "b", "c", "d"));
+        list.addListener((ListChangeListener<String>) change -> {
+            StringBuilder description = new StringBuilder();
+            while (change.next()) {
+                description.append(change.getFrom()).append(':').append(change.getRemoved())
+                        .append("->").append(change.getAddedSubList()).append(' ');
+            }
+            changes.add(description.toString().trim());
+        });
+    }
+
+    @Test
+    public void modifications_outsideBatch_oneChangeEach() {
+        list.set(1, "B");
+        list.remove("d");
+
+        assertEquals(List.of("1:[b]->[B]", "3:[d]->[]"), changes);
+    }
+
+    @Test
+    public void modifications_insideBatch_singleChangeOfModifiedElements() {
+        list.beginBatch();
+        list.set(3, "D");
+        list.set(0, "A");
+        list.add("e");
+        assertTrue(changes.isEmpty());
+        list.endBatch();
+
+        assertEquals(List.of("0:[a]->[A] 3:[d]->[D, e]"), changes);
+        assertEquals(List.of("A", "b", "c", "D", "e"), list);
+    }
+
+    @Test
+    public void modifications_nestedBatch_singleChangeAtOutermostEnd() {
+        list.beginBatch();
+        list.beginBatch();
+        list.set(2, "C");
+        list.endBatch();
+        assertTrue(changes.isEmpty());
+        list.remove(0);
+        list.endBatch();
+
+        assertEquals(List.of("0:[a]->[] 1:[c]->[C]"), changes);
+    }
+
+    @Test
+    public void rollbackBatch_modifications_allUndone() {
+        list.beginBatch();
+        list.set(1, "B");
+        list.remove(0);
+        list.add("e");
+        list.add(0, "z");
+        list.setAll(List.of("x", "y"));
+        list.rollbackBatch();
+        list.endBatch();
+
+        assertEquals(List.of("a", "b", "c", "d"), list);
+    }
+
+    @Test
+    public void rollbackBatch_nestedBatch_onlyInnerBatchUndone() {
+        list.beginBatch();
+        list.remove(3);
+        list.beginBatch();
+        list.set(0, "A");
+        list.rollbackBatch();
+        list.endBatch();
+        list.endBatch();
+
+        assertEquals(List.of("a", "b", "c"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void rollbackBatch_outsideBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::rollbackBatch);
+        assertThrows(IllegalStateException.class, list::endBatch);
+    }
+
+    @Test
+    public void endBatch_noModifications_noChange() {
+        list.beginBatch();
+        list.endBatch();
+
+        assertTrue(changes.isEmpty());
+    }
+}
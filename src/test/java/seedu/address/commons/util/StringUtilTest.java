@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,51 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for boundedEditDistanceIgnoreCase --------------------------------------
+
+    @Test
+    public void boundedEditDistanceIgnoreCase_negativeBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.boundedEditDistanceIgnoreCase("a", "b", -1));
+    }
+
+    @Test
+    public void boundedEditDistanceIgnoreCase_validInputs_correctResult() {
+        assertEquals(0, StringUtil.boundedEditDistanceIgnoreCase("Faker", "fAKER", 0));
+        assertEquals(1, StringUtil.boundedEditDistanceIgnoreCase("Faker", "fakr", 2)); // deletion
+        assertEquals(1, StringUtil.boundedEditDistanceIgnoreCase("Faker", "Fakker", 2)); // insertion
+        assertEquals(2, StringUtil.boundedEditDistanceIgnoreCase("Faker", "Fkaer", 2)); // transposition
+        assertEquals(3, StringUtil.boundedEditDistanceIgnoreCase("Faker", "Deft", 2)); // beyond the bound
+        assertEquals(2, StringUtil.boundedEditDistanceIgnoreCase("", "Deft", 1)); // lengths too far apart
+        assertEquals(4, StringUtil.boundedEditDistanceIgnoreCase("", "Deft", 4)); // boundary case
+
+        // Same as the full dynamic programme whenever within the bound
+        String[] words = {"", "a", "ab", "ba", "abc", "acb", "xabc", "abcx", "kitten", "sitting", "faker", "fakr"};
+        for (String first : words) {
+            for (String second : words) {
+                int distance = editDistance(first, second);
+                for (int bound = 0; bound <= 4; bound++) {
+                    assertEquals(Math.min(distance, bound + 1),
+                            StringUtil.boundedEditDistanceIgnoreCase(first, second, bound));
+                }
+            }
+        }
+    }
+
+    private static int editDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                    continue;
+                }
+                int substitution = distances[i - 1][j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                distances[i][j] = Math.min(substitution, Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
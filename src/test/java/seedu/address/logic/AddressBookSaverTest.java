@@ -0,0 +1,111 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AddressBookSaverTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<ReadOnlyAddressBook> savedSnapshots = new ArrayList<>();
+
+    @Test
+    public void save_burstWhileWriting_onlyLatestSnapshotWritten() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        AddressBookSaver saver = new AddressBookSaver(createStorage(snapshot -> {
+            if (savedSnapshots.isEmpty()) {
+                firstWriteStarted.countDown();
+                releaseFirstWrite.await(5, TimeUnit.SECONDS);
+            }
+        }));
+
+        ReadOnlyAddressBook first = new AddressBookSnapshot(getTypicalAddressBook());
+        ReadOnlyAddressBook second = new AddressBookSnapshot(new AddressBook());
+        ReadOnlyAddressBook third = new AddressBookSnapshot(getTypicalAddressBook());
+        saver.save(first);
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+        saver.save(second);
+        saver.save(third);
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, savedSnapshots.size());
+        assertSame(first, savedSnapshots.get(0));
+        assertSame(third, savedSnapshots.get(1));
+    }
+
+    @Test
+    public void flush_previousWriteFailed_retriesWrite() {
+        List<String> reportedErrors = new ArrayList<>();
+        AddressBookSaver saver = new AddressBookSaver(createStorage(snapshot -> {
+            if (reportedErrors.isEmpty()) {
+                throw new IOException("disk full");
+            }
+        }));
+        saver.setSaveErrorHandler(reportedErrors::add);
+
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        saver.save(snapshot);
+        saver.flush();
+
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, "disk full")), reportedErrors);
+        assertEquals(List.of(snapshot), savedSnapshots);
+    }
+
+    @Test
+    public void flush_nothingPending_doesNotWrite() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(snapshot -> {}));
+        saver.flush();
+        assertTrue(savedSnapshots.isEmpty());
+    }
+
+    /**
+     * Returns a storage that runs {@code beforeWrite} before recording each snapshot it is asked to save.
+     * A snapshot is not recorded if {@code beforeWrite} throws.
+     */
+    private StorageManager createStorage(WriteHook beforeWrite) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        try {
+                            beforeWrite.run(addressBook);
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        savedSnapshots.add(addressBook);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
+    /**
+     * Runs before a snapshot is written.
+     */
+    @FunctionalInterface
+    private interface WriteHook {
+        void run(ReadOnlyAddressBook addressBook) throws IOException, InterruptedException;
+    }
+}
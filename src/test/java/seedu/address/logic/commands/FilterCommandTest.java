@@ -15,6 +15,8 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -23,9 +25,11 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterCommand.FilterPersonDescriptor;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FilterQueryParser;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.query.PersonQuery;
 import seedu.address.testutil.FilterPersonDescriptorBuilder;
 
 /**
@@ -37,7 +41,8 @@ public class FilterCommandTest {
 
     @Test
     public void constructor_nullDescriptor_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new FilterCommand(null));
+        assertThrows(NullPointerException.class, () -> new FilterCommand((FilterPersonDescriptor) null));
+        assertThrows(NullPointerException.class, () -> new FilterCommand((PersonQuery) null));
     }
 
     @Test
@@ -83,6 +88,25 @@ public class FilterCommandTest {
         assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_multiWordChampion_personFound() throws CommandException {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FilterCommand command = new FilterCommand(new FilterPersonDescriptorBuilder().withChampions("Lee Sin").build());
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_query_personsFound() throws Exception {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FilterCommand command = new FilterCommand(
+                FilterQueryParser.parse("rank:silver AND NOT tag:friends OR champion:\"Lee Sin\""));
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL) || person.equals(HOON));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, HOON), model.getFilteredPersonList());
+    }
+
     @Test
     public void descriptor_isAnyFieldFiltered_correctlyDetects() {
         FilterPersonDescriptor empty = new FilterPersonDescriptorBuilder()
@@ -15,6 +15,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterCommand.FilterPersonDescriptor;
+import seedu.address.model.person.ScoreMeasure;
 import seedu.address.testutil.FilterPersonDescriptorBuilder;
 
 public class FilterPersonDescriptorTest {
@@ -49,6 +50,10 @@ public class FilterPersonDescriptorTest {
         // different champion -> returns false
         filteredAmy = new FilterPersonDescriptorBuilder(FILTER_AMY).withChampions(VALID_CHAMPION_BOB).build();
         assertFalse(DESC_AMY.equals(filteredAmy));
+
+        // different score measure -> returns false
+        filteredAmy = new FilterPersonDescriptorBuilder(FILTER_AMY).withScoreMeasure(ScoreMeasure.TREND).build();
+        assertFalse(FILTER_AMY.equals(filteredAmy));
     }
 
     @Test
@@ -58,7 +63,8 @@ public class FilterPersonDescriptorTest {
                 + Arrays.toString(filterPersonDescriptor.getRoles()) + ", ranks="
                 + Arrays.toString(filterPersonDescriptor.getRanks()) + ", champions="
                 + Arrays.toString(filterPersonDescriptor.getChampions()) + ", scoreThreshold="
-                + filterPersonDescriptor.getScoreThreshold() + "}";
+                + filterPersonDescriptor.getScoreThreshold() + ", scoreMeasure="
+                + filterPersonDescriptor.getScoreMeasure() + "}";
         assertEquals(expected, filterPersonDescriptor.toString());
     }
 }
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        NameSimilarToKeywordsPredicate firstPredicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("first"));
+        NameSimilarToKeywordsPredicate secondPredicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("second"));
+
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(firstPredicate);
+        FuzzyFindCommand findSecondCommand = new FuzzyFindCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // exact search with the same keywords -> returns false
+        assertFalse(findFirstCommand.equals(
+                new FindCommand(new PersonContainsKeywordsPredicate(firstPredicate.getKeywords()))));
+    }
+
+    @Test
+    public void execute_misspelledKeywords_closestNamesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameSimilarToKeywordsPredicate predicate =
+                new NameSimilarToKeywordsPredicate(Arrays.asList("Bensn", "Fiiona", "Carll"));
+        FuzzyFindCommand command = new FuzzyFindCommand(predicate);
+        expectedModel.findPersonsBySimilarName(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("keyword"));
+        FuzzyFindCommand fuzzyFindCommand = new FuzzyFindCommand(predicate);
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, fuzzyFindCommand.toString());
+    }
+}
@@ -9,8 +9,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,12 +21,18 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.teammatcher.BalancedTeamMatcher;
 import seedu.address.logic.teammatcher.TeamMatcher;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.query.NumericField;
+import seedu.address.model.query.PersonQuery;
 import seedu.address.model.team.Team;
 import seedu.address.testutil.PersonBuilder;
 
@@ -173,6 +181,25 @@ public class GroupCommandTest {
         assertTrue(result.getFeedbackToUser().contains("Successfully created 2 team"));
     }
 
+    @Test
+    public void execute_balancingMatcher_reportsVariance() throws Exception {
+        List<Person> unassignedPersons = Arrays.asList(
+                new PersonBuilder().withName("Top1").withRole("top").withRank("Gold").withChampion("Garen").build(),
+                new PersonBuilder().withName("Jungle1").withRole("jungle").withRank("Gold").withChampion("Vi").build(),
+                new PersonBuilder().withName("Mid1").withRole("mid").withRank("Gold").withChampion("Ahri").build(),
+                new PersonBuilder().withName("Adc1").withRole("adc").withRank("Gold").withChampion("Jinx").build(),
+                new PersonBuilder().withName("Support1").withRole("support").withRank("Gold").withChampion("Leona")
+                        .build());
+
+        CommandResult balancedResult = new GroupCommand(new BalancedTeamMatcher())
+                .execute(new ModelStubWithUnassignedPersons(unassignedPersons));
+        CommandResult greedyResult = new GroupCommand()
+                .execute(new ModelStubWithUnassignedPersons(unassignedPersons));
+
+        assertTrue(balancedResult.getFeedbackToUser().endsWith(String.format(GroupCommand.MESSAGE_VARIANCE, 0.0)));
+        assertFalse(greedyResult.getFeedbackToUser().contains("variance"));
+    }
+
     @Test
     public void constructor_withTeamMatcher_success() {
         TeamMatcher teamMatcher = new TeamMatcher();
@@ -399,6 +426,16 @@ public class GroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updatePersons(Collection<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batchUpdate(Consumer<AddressBook> edits) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -419,6 +456,26 @@ public class GroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void findPersons(PersonContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findPersonsBySimilarName(NameSimilarToKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void filterPersons(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showLeaderboard(PersonQuery scope, NumericField field, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTeamList(Predicate<Team> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -458,5 +515,19 @@ public class GroupCommandTest {
             requireNonNull(team);
             teamsAdded.add(team);
         }
+
+        @Override
+        public void batchUpdate(Consumer<AddressBook> edits) {
+            AddressBook stagedAddressBook = new AddressBook();
+            stagedAddressBook.setTeams(teamsAdded);
+            edits.accept(stagedAddressBook);
+            teamsAdded.clear();
+            teamsAdded.addAll(stagedAddressBook.getTeamList());
+        }
+
+        @Override
+        public void updateFilteredTeamList(Predicate<Team> predicate) {
+            requireNonNull(predicate);
+        }
     }
 }
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.query.NumericField;
+import seedu.address.testutil.PersonBuilder;
+
+public class LeaderboardCommandTest {
+
+    private static final Person VETERAN = new PersonBuilder().withName("Veteran").withRole("adc").withRank("gold")
+            .withWins(12).withLosses(8).build();
+    private static final Person ROOKIE = new PersonBuilder().withName("Rookie").withRole("adc").withRank("silver")
+            .withWins(3).withLosses(0).build();
+    private static final Person STARTER = new PersonBuilder().withName("Starter").withRole("mid").withRank("gold")
+            .withWins(7).withLosses(7).build();
+    private static final Person BENCHED = new PersonBuilder().withName("Benched").withRole("adc").withRank("gold")
+            .build();
+
+    private final Model model = new ModelManager(addressBookOf(VETERAN, ROOKIE, STARTER, BENCHED), new UserPrefs());
+
+    @Test
+    public void execute_allRolesAndRanks_highestFirst() {
+        LeaderboardCommand command = new LeaderboardCommand(Set.of(), Set.of(), NumericField.WINS, 3);
+        CommandResult result = command.execute(model);
+        assertEquals(String.format(LeaderboardCommand.MESSAGE_SUCCESS, 3, NumericField.WINS),
+                result.getFeedbackToUser());
+        assertEquals(List.of(VETERAN, STARTER, ROOKIE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_roleAndRank_onlyThoseListed() {
+        LeaderboardCommand command = new LeaderboardCommand(Set.of(Role.of("adc")),
+                Set.of(Rank.of("gold"), Rank.of("silver")), NumericField.WIN_RATE, 10);
+        command.execute(model);
+        assertEquals(List.of(ROOKIE, VETERAN, BENCHED), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEdited_reordered() {
+        new LeaderboardCommand(Set.of(), Set.of(), NumericField.WINS, 2).execute(model);
+        Person improved = new PersonBuilder(STARTER).withWins(20).build();
+        model.setPerson(STARTER, improved);
+        assertEquals(List.of(improved, VETERAN), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedIntoTop_listed() {
+        new LeaderboardCommand(Set.of(), Set.of(), NumericField.WINS, 2).execute(model);
+        Person improved = new PersonBuilder(BENCHED).withWins(20).build();
+        model.setPerson(BENCHED, improved);
+        assertEquals(List.of(improved, VETERAN), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedOutOfScope_nextPersonListed() {
+        new LeaderboardCommand(Set.of(Role.of("adc")), Set.of(), NumericField.WINS, 2).execute(model);
+        model.setPerson(VETERAN, new PersonBuilder(VETERAN).withRole("mid").build());
+        assertEquals(List.of(ROOKIE, BENCHED), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personDeleted_nextPersonListed() {
+        new LeaderboardCommand(Set.of(), Set.of(), NumericField.WINS, 2).execute(model);
+        model.deletePerson(VETERAN);
+        assertEquals(List.of(STARTER, ROOKIE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        LeaderboardCommand command = new LeaderboardCommand(Set.of(Role.of("adc")), Set.of(), NumericField.SCORE, 5);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new LeaderboardCommand(Set.of(Role.of("adc")), Set.of(), NumericField.SCORE, 5)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ClearCommand()));
+        assertFalse(command.equals(new LeaderboardCommand(Set.of(), Set.of(), NumericField.SCORE, 5)));
+        assertFalse(command.equals(
+                new LeaderboardCommand(Set.of(Role.of("adc")), Set.of(), NumericField.RECENT_KDA, 5)));
+        assertFalse(command.equals(new LeaderboardCommand(Set.of(Role.of("adc")), Set.of(), NumericField.SCORE, 3)));
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+}
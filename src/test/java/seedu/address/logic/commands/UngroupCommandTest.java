@@ -10,7 +10,9 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_TEAM;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,11 +23,16 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.query.NumericField;
+import seedu.address.model.query.PersonQuery;
 import seedu.address.model.team.Team;
 import seedu.address.testutil.PersonBuilder;
 
@@ -287,6 +294,16 @@ public class UngroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updatePersons(Collection<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batchUpdate(Consumer<AddressBook> edits) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -307,6 +324,26 @@ public class UngroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void findPersons(PersonContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findPersonsBySimilarName(NameSimilarToKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void filterPersons(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showLeaderboard(PersonQuery scope, NumericField field, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTeamList(Predicate<Team> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -339,5 +376,14 @@ public class UngroupCommandTest {
         public void deleteTeam(Team target) {
             teams.remove(target);
         }
+
+        @Override
+        public void batchUpdate(Consumer<AddressBook> edits) {
+            AddressBook stagedAddressBook = new AddressBook();
+            stagedAddressBook.setTeams(teams);
+            edits.accept(stagedAddressBook);
+            teams.clear();
+            teams.addAll(stagedAddressBook.getTeamList());
+        }
     }
 }
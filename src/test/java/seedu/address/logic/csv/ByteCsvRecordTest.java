@@ -0,0 +1,51 @@
+package seedu.address.logic.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteCsvRecordTest {
+
+    private static ByteCsvRecord recordOf(String line) {
+        ByteBuffer bytes = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        ByteCsvRecord record = new ByteCsvRecord();
+        record.reset(bytes, 0, bytes.limit());
+        return record;
+    }
+
+    @Test
+    public void get_matchesParseCsvLine() {
+        String line = " plain ,\"quoted, with comma\",\"say \"\"hi\"\"\",,café, a,b,c,d,e ";
+        ByteCsvRecord record = recordOf(line);
+        List<String> expected = CsvImporter.parseCsvLine(line);
+
+        assertEquals(expected.size(), record.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).trim(), record.get(i));
+        }
+    }
+
+    @Test
+    public void getDigits_plainDigitsOnly() {
+        ByteCsvRecord record = recordOf(" 42 ,0012,+3,-1,x,,1234567890,\"7\"");
+        assertEquals(42, record.getDigits(0));
+        assertEquals(12, record.getDigits(1));
+        for (int i = 2; i < record.size(); i++) {
+            assertEquals(-1, record.getDigits(i));
+        }
+    }
+
+    @Test
+    public void isBlank() {
+        ByteBuffer bytes = ByteBuffer.wrap(" \t\r x".getBytes(StandardCharsets.UTF_8));
+        assertTrue(ByteCsvRecord.isBlank(bytes, 0, 3));
+        assertFalse(ByteCsvRecord.isBlank(bytes, 0, 5));
+        assertTrue(ByteCsvRecord.isBlank(bytes, 2, 2));
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.logic.csv;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +18,10 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stats;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 import seedu.address.testutil.TypicalTeams;
 
@@ -53,4 +62,42 @@ public class CsvExporterTest {
         long nonHeaderLines = Files.readAllLines(out).stream().skip(1).count();
         assertTrue(nonHeaderLines > 0);
     }
+
+    @Test
+    public void exportTeams_writesMembersInRoleColumns() throws Exception {
+        Path out = tempDir.resolve("teams.csv");
+        CsvExporter.exportTeams(populatedModel, out);
+
+        List<String> lines = Files.readAllLines(out);
+        Team team = populatedModel.getAddressBook().getTeamList().get(0);
+        List<String> columns = CsvImporter.parseCsvLine(lines.get(1));
+        assertEquals(team.getId(), columns.get(0));
+        for (Person member : team.getPersons()) {
+            assertTrue(columns.subList(1, 6).contains(member.getName().toString()));
+        }
+    }
+
+    @Test
+    public void exportStats_gzip_roundTripsThroughMatchLogImport() throws Exception {
+        Person alice = TypicalPersons.ALICE;
+        Person editedAlice = new PersonBuilder(alice)
+                .withStats(new Stats().addLatestStats("8.3", "-250", "2.75").addLatestStats("9", "100", "3"))
+                .build();
+        populatedModel.updatePersons(List.of(editedAlice));
+
+        Path out = tempDir.resolve("stats.csv.gz");
+        CsvExporter.exportStats(populatedModel, out);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(out))) {
+            String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(content.startsWith("Player,CPM,GD15,KDA"));
+            assertTrue(content.contains(alice.getName() + ",8.3,-250,2.75"));
+        }
+
+        Model reimported = new ModelManager(new AddressBook(), new UserPrefs());
+        reimported.addPerson(alice);
+        MatchLogImporter.Result result = MatchLogImporter.importMatches(reimported, out);
+        assertEquals(2, result.recorded);
+        assertEquals(0, result.invalid);
+        assertEquals(editedAlice.getStats(), reimported.getAddressBook().getPersonList().get(0).getStats());
+    }
 }
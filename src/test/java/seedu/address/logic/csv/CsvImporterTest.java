@@ -2,10 +2,15 @@ package seedu.address.logic.csv;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +21,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class CsvImporterTest {
 
@@ -107,5 +113,92 @@ public class CsvImporterTest {
         assertEquals(0, r.duplicates);
         assertEquals(2, r.invalid);
     }
-}
 
+    @Test
+    public void importPlayers_rowsSpanningManyBatches_keepsFileOrderAndLineNumbers() throws Exception {
+        Path csv = tempDir.resolve("many_batches.csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("Name,Role,Rank,Champion");
+        int rowCount = 2 * CsvImporter.BATCH_SIZE + 10;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Player" + i + ",Top,Gold,Ahri");
+        }
+        int blankLineNo = CsvImporter.BATCH_SIZE + 1;
+        int invalidLineNo = CsvImporter.BATCH_SIZE + 5;
+        lines.set(blankLineNo - 1, "");
+        lines.set(invalidLineNo - 1, "Broken,Top,BadRank,Ahri");
+        lines.add("Player0,Mid,Gold,Ahri"); // duplicate of the first row, in a later batch
+        Files.write(csv, lines);
+
+        CsvImporter.Result r = CsvImporter.importPlayers(model, csv);
+        assertEquals(rowCount - 2, r.imported);
+        assertEquals(1, r.duplicates);
+        assertEquals(1, r.invalid);
+        assertTrue(r.sampleErrors.get(0).startsWith("line " + invalidLineNo + ": "));
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(rowCount - 2, persons.size());
+        assertEquals("Player0", persons.get(0).getName().fullName);
+        assertEquals("Player" + (rowCount - 1), persons.get(persons.size() - 1).getName().fullName);
+    }
+
+    @Test
+    public void importMappedPlayers_sameRowsAsReader_sameResult() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("\uFEFFName,Role,Rank,Champion,Wins,Losses");
+        for (int i = 0; i < 200; i++) {
+            lines.add("Player" + i + ",Top,Gold,Ahri," + i + ",0");
+        }
+        lines.add("");
+        lines.add(" \"Quoted\" , Mid ,Gold,\"Ahri\",0012,+3");
+        lines.add("\"Comma,Name\",Mid,Gold,Ahri,1,1");
+        lines.add("Negative,Mid,Gold,Ahri,-1,0");
+        lines.add("Letters,Mid,Gold,Ahri,1,x");
+        lines.add("Short,Mid,Gold");
+        lines.add("Zo\u00eb,Mid,Gold,Ahri,1,1");
+        lines.add("Player7,Mid,Gold,Ahri,1,1");
+        String content = String.join("\r\n", lines);
+
+        Path csv = tempDir.resolve("mapped.csv");
+        Files.writeString(csv, content);
+        Path gzip = tempDir.resolve("reader.csv.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // A small window makes the import remap the file many times.
+        CsvImporter.Result mapped = CsvImporter.importMappedPlayers(model, csv, 256);
+        Model readerModel = new ModelManager(new AddressBook(), new UserPrefs());
+        CsvImporter.Result read = CsvImporter.importPlayers(readerModel, gzip);
+
+        assertEquals(read.imported, mapped.imported);
+        assertEquals(read.duplicates, mapped.duplicates);
+        assertEquals(read.invalid, mapped.invalid);
+        assertEquals(read.sampleErrors, mapped.sampleErrors);
+        assertEquals(201, mapped.imported);
+        assertEquals(1, mapped.duplicates);
+        assertEquals(5, mapped.invalid);
+        assertEquals(readerModel.getAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+
+        Person quoted = model.getAddressBook().getPersonList().get(200);
+        assertEquals("Quoted", quoted.getName().fullName);
+        assertEquals(12, quoted.getWins());
+        assertEquals(3, quoted.getLosses());
+    }
+
+    @Test
+    public void importPlayers_largeFile_importedFromMapping() throws Exception {
+        Path csv = tempDir.resolve("large.csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("Name,Role,Rank,Champion");
+        for (int i = 0; lines.size() * 24L < CsvImporter.MAPPED_IMPORT_THRESHOLD; i++) {
+            lines.add("Player" + i + ",Support,Gold,Ahri");
+        }
+        Files.write(csv, lines);
+        assertTrue(Files.size(csv) >= CsvImporter.MAPPED_IMPORT_THRESHOLD);
+
+        CsvImporter.Result r = CsvImporter.importPlayers(model, csv);
+        assertEquals(lines.size() - 1, r.imported);
+        assertEquals(0, r.invalid);
+    }
+}
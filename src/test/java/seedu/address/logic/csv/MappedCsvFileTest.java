@@ -0,0 +1,67 @@
+package seedu.address.logic.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedCsvFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void nextBatch_smallWindows_wholeLinesInOrder() throws Exception {
+        Path file = tempDir.resolve("lines.csv");
+        Files.writeString(file, "Header\r\nfirst\nsecond line\nthird\nlast");
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            MappedCsvFile csv = new MappedCsvFile(channel, 16);
+            assertEquals("Header", csv.readHeader());
+
+            List<String> batches = new ArrayList<>();
+            ByteBuffer batch;
+            while ((batch = csv.nextBatch(4)) != null) {
+                byte[] bytes = new byte[batch.remaining()];
+                batch.get(bytes);
+                batches.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            assertEquals(List.of("first\n", "second line\n", "third\n", "last"), batches);
+        }
+    }
+
+    @Test
+    public void readHeader_emptyFile_returnsNull() throws Exception {
+        Path file = tempDir.resolve("empty.csv");
+        Files.writeString(file, "");
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            MappedCsvFile csv = new MappedCsvFile(channel, 16);
+            assertNull(csv.readHeader());
+            assertNull(csv.nextBatch(4));
+        }
+    }
+
+    @Test
+    public void nextBatch_lineLongerThanWindow_throwsIoException() throws Exception {
+        Path file = tempDir.resolve("long.csv");
+        Files.writeString(file, "H\nthis line is longer than the window\nshort\n");
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            MappedCsvFile csv = new MappedCsvFile(channel, 8);
+            assertEquals("H", csv.readHeader());
+            assertThrows(IOException.class, () -> csv.nextBatch(4));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.csv.exceptions.InvalidCsvException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stats;
+
+public class MatchLogImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBookWithTeams(), new UserPrefs());
+    }
+
+    @Test
+    public void importMatches_csv_success() throws Exception {
+        Path csv = tempDir.resolve("matches.csv");
+        Files.write(csv, List.of(
+                "Player,CPM,GD15,KDA",
+                ALICE.getName().fullName + ",8.5,500,3.2",
+                BENSON.getName().fullName + ",7,-200,1.5",
+                ALICE.getName().fullName + ",9,1000,4"
+        ));
+        MatchLogImporter.Result r = MatchLogImporter.importMatches(model, csv);
+        assertEquals(3, r.recorded);
+        assertEquals(2, r.players);
+        assertEquals(0, r.invalid);
+
+        Stats expectedStats = ALICE.getStats().addLatestStats("8.5", "500", "3.2").addLatestStats("9", "1000", "4");
+        assertEquals(expectedStats, findPerson(ALICE.getName().fullName).getStats());
+        assertEquals(1, findPerson(BENSON.getName().fullName).getStats().getMatchCount()
+                - BENSON.getStats().getMatchCount());
+    }
+
+    @Test
+    public void importMatches_csv_updatesTeamMembers() throws Exception {
+        Path csv = tempDir.resolve("matches.csv");
+        Files.write(csv, List.of("Player,CPM,GD15,KDA", ALICE.getName().fullName + ",8.5,500,3.2"));
+        MatchLogImporter.importMatches(model, csv);
+
+        Person updatedAlice = findPerson(ALICE.getName().fullName);
+        assertTrue(model.getAddressBook().getTeamList().stream()
+                .anyMatch(team -> team.getPersons().stream()
+                        .anyMatch(member -> member.getStats().equals(updatedAlice.getStats()))));
+    }
+
+    @Test
+    public void importMatches_invalidRows_skippedAndReported() throws Exception {
+        Path csv = tempDir.resolve("matches.csv");
+        Files.write(csv, List.of(
+                "Player,CPM,GD15,KDA",
+                "Nobody,8.5,500,3.2",
+                ALICE.getName().fullName + ",abc,500,3.2",
+                ALICE.getName().fullName + ",8.5,500",
+                ALICE.getName().fullName + ",8.5,500,3.2"
+        ));
+        MatchLogImporter.Result r = MatchLogImporter.importMatches(model, csv);
+        assertEquals(1, r.recorded);
+        assertEquals(1, r.players);
+        assertEquals(3, r.invalid);
+        assertTrue(r.sampleErrors.get(0).startsWith("line 2: "));
+    }
+
+    @Test
+    public void importMatches_jsonLines_success() throws Exception {
+        Path jsonl = tempDir.resolve("matches.jsonl");
+        Files.write(jsonl, List.of(
+                "{\"player\": \"" + ALICE.getName().fullName + "\", \"cpm\": 8.5, \"gd15\": 500, \"kda\": 3.2}",
+                "",
+                "{\"player\": \"" + ALICE.getId() + "\", \"cpm\": \"9\", \"gd15\": -100, \"kda\": 2}",
+                "{\"player\": \"" + BENSON.getName().fullName + "\", \"cpm\": 8.5}",
+                "not json"
+        ));
+        MatchLogImporter.Result r = MatchLogImporter.importMatches(model, jsonl);
+        assertEquals(2, r.recorded);
+        assertEquals(1, r.players);
+        assertEquals(2, r.invalid);
+
+        Stats expectedStats = ALICE.getStats().addLatestStats("8.5", "500", "3.2").addLatestStats("9", "-100", "2");
+        assertEquals(expectedStats, findPerson(ALICE.getName().fullName).getStats());
+    }
+
+    @Test
+    public void importMatches_invalidHeader_throwsInvalidCsvException() throws Exception {
+        Path csv = tempDir.resolve("matches.csv");
+        Files.write(csv, List.of("Name,Role,Rank,Champion", "Alice,Top,Gold,Ahri"));
+        assertThrows(InvalidCsvException.class, () -> MatchLogImporter.importMatches(model, csv));
+    }
+
+    @Test
+    public void importMatches_missingFile_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () ->
+                MatchLogImporter.importMatches(model, tempDir.resolve("missing.csv")));
+    }
+
+    private Person findPerson(String name) {
+        return model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
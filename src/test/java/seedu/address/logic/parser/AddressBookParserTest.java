@@ -15,6 +15,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.LeaderboardCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListTeamCommand;
 import seedu.address.logic.commands.LoseCommand;
@@ -43,8 +45,8 @@ import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.commands.ViewTeamCommand;
 import seedu.address.logic.commands.WinCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.FilterPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -104,7 +106,7 @@ public class AddressBookParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindCommand command = (FindCommand) parser.parseCommand(
                 FindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindCommand(new PersonContainsKeywordsPredicate(keywords)), command);
     }
 
     @Test
@@ -128,6 +130,14 @@ public class AddressBookParserTest {
                 new FilterCommand(descriptor));
     }
 
+    @Test
+    public void parseCommand_leaderboard() throws Exception {
+        assertEquals(new LeaderboardCommand(Set.of(), Set.of(), LeaderboardCommand.DEFAULT_FIELD,
+                LeaderboardCommand.DEFAULT_LIMIT), parser.parseCommand(LeaderboardCommand.COMMAND_WORD));
+        assertTrue(parser.parseCommand(LeaderboardCommand.COMMAND_WORD + " by/kda rl/adc top/3")
+                instanceof LeaderboardCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -38,6 +38,12 @@ public class ExportCommandParserTest {
         assertThrows(ParseException.class, () -> parser.parse("players somethingElse"));
     }
 
+    @Test
+    public void parse_statsWithGzipPath_success() throws Exception {
+        ExportCommand cmd = parser.parse("stats to data/s.csv.gz");
+        assertEquals(new ExportCommand(Target.STATS, Paths.get("data/s.csv.gz")), cmd);
+    }
+
     @Test
     public void parse_teamsWithPath_success() throws Exception {
         ExportCommand cmd = parser.parse("teams to data/t.csv");
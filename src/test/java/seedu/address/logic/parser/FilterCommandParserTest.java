@@ -21,11 +21,13 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FilterCommand.FilterPersonDescriptor;
 import seedu.address.model.person.Champion;
 import seedu.address.model.person.Rank;
 import seedu.address.model.person.Role;
+import seedu.address.model.person.ScoreMeasure;
 import seedu.address.testutil.FilterPersonDescriptorBuilder;
 
 public class FilterCommandParserTest {
@@ -151,4 +153,42 @@ public class FilterCommandParserTest {
         FilterCommand expectedCommand = new FilterCommand(descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_scoreMeasureSpecified_success() {
+        String userInput = " s/6 by/recent";
+        FilterPersonDescriptor descriptor = new FilterPersonDescriptorBuilder().withScoreThreshold(6f)
+                .withScoreMeasure(ScoreMeasure.RECENT).build();
+        assertParseSuccess(parser, userInput, new FilterCommand(descriptor));
+
+        // keyword is case-insensitive
+        userInput = " s/6 by/TREND";
+        descriptor = new FilterPersonDescriptorBuilder().withScoreThreshold(6f)
+                .withScoreMeasure(ScoreMeasure.TREND).build();
+        assertParseSuccess(parser, userInput, new FilterCommand(descriptor));
+    }
+
+    @Test
+    public void parse_invalidScoreMeasure_failure() {
+        assertParseFailure(parser, " s/6 by/best", ScoreMeasure.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/6 by/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " s/6 by/all by/trend",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SCORE_MEASURE));
+    }
+
+    @Test
+    public void parse_whereQuery_success() throws Exception {
+        String query = "role:mid AND (rank:gold OR rank:platinum) AND NOT tag:benched AND wins >= 10";
+        assertParseSuccess(parser, " where " + query, new FilterCommand(FilterQueryParser.parse(query)));
+
+        // keyword is case-insensitive
+        assertParseSuccess(parser, " WHERE " + query, new FilterCommand(FilterQueryParser.parse(query)));
+    }
+
+    @Test
+    public void parse_invalidWhereQuery_failure() {
+        assertParseFailure(parser, " where", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " where role:mid AND", String.format(FilterQueryParser.MESSAGE_INVALID_QUERY,
+                "a condition is missing at the end"));
+    }
 }
@@ -0,0 +1,78 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Champion;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.CategoryQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.NumericField;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.RangeQuery;
+import seedu.address.model.query.RangeQuery.Comparison;
+import seedu.address.model.tag.Tag;
+
+public class FilterQueryParserTest {
+
+    private static final PersonQuery MID = CategoryQuery.role(Role.of("mid"));
+    private static final PersonQuery GOLD = CategoryQuery.rank(Rank.of("gold"));
+    private static final PersonQuery PLATINUM = CategoryQuery.rank(Rank.of("platinum"));
+    private static final PersonQuery BENCHED = CategoryQuery.tag(new Tag("benched"));
+
+    @Test
+    public void parse_singleCondition_success() throws Exception {
+        assertEquals(MID, FilterQueryParser.parse("role:mid"));
+        assertEquals(MID, FilterQueryParser.parse("  ROLE : Mid  "));
+        assertEquals(CategoryQuery.champion(Champion.of("Lee Sin")), FilterQueryParser.parse("champion:\"Lee Sin\""));
+        assertEquals(new RangeQuery(NumericField.WINS, Comparison.AT_LEAST, 10), FilterQueryParser.parse("wins>=10"));
+        assertEquals(new RangeQuery(NumericField.WIN_RATE, Comparison.LESS, 50.5),
+                FilterQueryParser.parse("winrate < 50.5"));
+        assertEquals(new RangeQuery(NumericField.TREND_KDA, Comparison.AT_LEAST, 2.5),
+                FilterQueryParser.parse("kdaTrend >= 2.5"));
+    }
+
+    @Test
+    public void parse_compoundQuery_success() throws Exception {
+        PersonQuery expected = new AndQuery(List.of(MID, new OrQuery(List.of(GOLD, PLATINUM)), new NotQuery(BENCHED),
+                new RangeQuery(NumericField.WINS, Comparison.AT_LEAST, 10)));
+        assertEquals(expected, FilterQueryParser.parse(
+                "role:Mid AND (rank:Gold OR rank:Platinum) AND NOT tag:benched AND wins >= 10"));
+
+        // AND is implied between conditions, and keywords ignore case
+        assertEquals(expected, FilterQueryParser.parse(
+                "role:Mid (rank:Gold or rank:Platinum) not tag:benched wins >= 10"));
+
+        // AND binds tighter than OR
+        assertEquals(new OrQuery(List.of(new AndQuery(List.of(MID, GOLD)), PLATINUM)),
+                FilterQueryParser.parse("role:mid rank:gold OR rank:platinum"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse(""));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("role:"));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("role mid"));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("(role:mid"));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("role:mid)"));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("role:mid AND"));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("champion:\"Lee Sin"));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("height:tall"));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("kills > 3"));
+        assertThrows(ParseException.class, () -> FilterQueryParser.parse("wins > many"));
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, Rank.MESSAGE_CONSTRAINTS, () -> FilterQueryParser.parse("rank:wood"));
+        assertThrows(ParseException.class, Role.MESSAGE_CONSTRAINTS, () -> FilterQueryParser.parse("role:coach"));
+    }
+}
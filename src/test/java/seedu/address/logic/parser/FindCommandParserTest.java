@@ -9,7 +9,9 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -24,11 +26,23 @@ public class FindCommandParserTest {
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindCommand expectedFindCommand =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+                new FindCommand(new PersonContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyKeyword_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedFuzzyFindCommand =
+                new FuzzyFindCommand(new NameSimilarToKeywordsPredicate(Arrays.asList("Alcie", "Bbo")));
+        assertParseSuccess(parser, "fuzzy Alcie Bbo", expectedFuzzyFindCommand);
+        assertParseSuccess(parser, " FUZZY \t Alcie  Bbo ", expectedFuzzyFindCommand);
+
+        // fuzzy alone is a keyword
+        assertParseSuccess(parser, "fuzzy",
+                new FindCommand(new PersonContainsKeywordsPredicate(Arrays.asList("fuzzy"))));
+    }
+
 }
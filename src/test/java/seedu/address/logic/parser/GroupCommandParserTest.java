@@ -8,6 +8,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.teammatcher.BalancedTeamMatcher;
+import seedu.address.logic.teammatcher.OptimalTeamMatcher;
+import seedu.address.logic.teammatcher.ParallelTeamMatcher;
 
 public class GroupCommandParserTest {
 
@@ -23,10 +26,27 @@ public class GroupCommandParserTest {
         assertParseSuccess(parser, "   ", new GroupCommand());
     }
 
+    @Test
+    public void parse_optimalMode_returnsGroupCommandWithOptimalMatcher() {
+        assertParseSuccess(parser, "optimal", new GroupCommand(new OptimalTeamMatcher()));
+        assertParseSuccess(parser, "  OPTIMAL  ", new GroupCommand(new OptimalTeamMatcher()));
+    }
+
+    @Test
+    public void parse_balancedMode_returnsGroupCommandWithBalancedMatcher() {
+        assertParseSuccess(parser, "balanced", new GroupCommand(new BalancedTeamMatcher()));
+        assertParseSuccess(parser, " Balanced ", new GroupCommand(new BalancedTeamMatcher()));
+    }
+
+    @Test
+    public void parse_parallelMode_returnsGroupCommandWithParallelMatcher() {
+        assertParseSuccess(parser, "parallel", new GroupCommand(new ParallelTeamMatcher()));
+    }
+
     @Test
     public void parse_nonEmptyArgs_throwsParseException() {
         ParseException exception = assertThrows(ParseException.class, () -> parser.parse("extra arguments"));
-        assertTrue(exception.getMessage().contains("does not take any arguments"));
+        assertTrue(exception.getMessage().contains("Unknown grouping mode: extra arguments"));
     }
 
     @Test
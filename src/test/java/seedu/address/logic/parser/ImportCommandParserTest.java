@@ -26,6 +26,12 @@ public class ImportCommandParserTest {
         assertEquals(new ImportCommand(Paths.get("data/players.csv")), cmd);
     }
 
+    @Test
+    public void parse_validStats_success() throws Exception {
+        ImportCommand cmd = parser.parse("stats from data/matches.csv");
+        assertEquals(new ImportCommand(ImportCommand.Target.STATS, Paths.get("data/matches.csv")), cmd);
+    }
+
     @Test
     public void parse_invalid_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse("players data/players.csv"));
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.LeaderboardCommand;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.query.NumericField;
+
+public class LeaderboardCommandParserTest {
+
+    private final LeaderboardCommandParser parser = new LeaderboardCommandParser();
+
+    @Test
+    public void parse_noArgs_defaults() {
+        assertParseSuccess(parser, "", new LeaderboardCommand(Set.of(), Set.of(), LeaderboardCommand.DEFAULT_FIELD,
+                LeaderboardCommand.DEFAULT_LIMIT));
+    }
+
+    @Test
+    public void parse_allFields_success() {
+        LeaderboardCommand expected = new LeaderboardCommand(Set.of(Role.of("adc")),
+                Set.of(Rank.of("gold"), Rank.of("platinum")), NumericField.WIN_RATE, 5);
+        assertParseSuccess(parser, " by/winrate rl/adc rk/gold rk/platinum top/5", expected);
+
+        // any order, field is case-insensitive
+        assertParseSuccess(parser, " top/5 rk/platinum rl/adc by/WINRATE rk/gold", expected);
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " 5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeaderboardCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " by/kills", NumericField.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " rl/coach", Role.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " top/0", LeaderboardCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " top/many", LeaderboardCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " top/3 top/5",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_TOP));
+    }
+}
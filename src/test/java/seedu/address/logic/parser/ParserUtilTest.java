@@ -18,6 +18,7 @@ import seedu.address.model.person.Champion;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Rank;
 import seedu.address.model.person.Role;
+import seedu.address.model.person.ScoreMeasure;
 import seedu.address.model.tag.Tag;
 
 public class ParserUtilTest {
@@ -94,14 +95,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseRole_validValueWithoutWhitespace_returnsRole() throws Exception {
-        Role expectedRole = new Role(VALID_ROLE_1);
+        Role expectedRole = Role.of(VALID_ROLE_1);
         assertEquals(expectedRole, ParserUtil.parseRole(VALID_ROLE_1));
     }
 
     @Test
     public void parseRole_validValueWithWhitespace_returnsTrimmedRole() throws Exception {
         String roleWithWhitespace = WHITESPACE + VALID_ROLE_1 + WHITESPACE;
-        Role expectedRole = new Role(VALID_ROLE_1);
+        Role expectedRole = Role.of(VALID_ROLE_1);
         assertEquals(expectedRole, ParserUtil.parseRole(roleWithWhitespace));
     }
 
@@ -126,7 +127,7 @@ public class ParserUtilTest {
         Set<Role> actualRoleset = ParserUtil.parseRoles(
                 Arrays.asList(VALID_ROLE_1, VALID_ROLE_2));
         Set<Role> expectedRoleset = new HashSet<Role>(
-                Arrays.asList(new Role(VALID_ROLE_1), new Role(VALID_ROLE_2)));
+                Arrays.asList(Role.of(VALID_ROLE_1), Role.of(VALID_ROLE_2)));
 
         assertEquals(expectedRoleset, actualRoleset);
     }
@@ -143,14 +144,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseRank_validValueWithoutWhitespace_returnsRank() throws Exception {
-        Rank expectedRank = new Rank(VALID_RANK_1);
+        Rank expectedRank = Rank.of(VALID_RANK_1);
         assertEquals(expectedRank, ParserUtil.parseRank(VALID_RANK_1));
     }
 
     @Test
     public void parseRank_validValueWithWhitespace_returnsTrimmedRank() throws Exception {
         String rankWithWhitespace = WHITESPACE + VALID_RANK_1 + WHITESPACE;
-        Rank expectedRank = new Rank(VALID_RANK_1);
+        Rank expectedRank = Rank.of(VALID_RANK_1);
         assertEquals(expectedRank, ParserUtil.parseRank(rankWithWhitespace));
     }
 
@@ -175,7 +176,7 @@ public class ParserUtilTest {
         Set<Rank> actualRankset = ParserUtil.parseRanks(
                 Arrays.asList(VALID_RANK_1, VALID_RANK_2));
         Set<Rank> expectedRankset = new HashSet<Rank>(
-                Arrays.asList(new Rank(VALID_RANK_1), new Rank(VALID_RANK_2)));
+                Arrays.asList(Rank.of(VALID_RANK_1), Rank.of(VALID_RANK_2)));
 
         assertEquals(expectedRankset, actualRankset);
     }
@@ -192,14 +193,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseChampion_validValueWithoutWhitespace_returnsChampion() throws Exception {
-        Champion expectedEmail = new Champion(VALID_CHAMPION_1);
+        Champion expectedEmail = Champion.of(VALID_CHAMPION_1);
         assertEquals(expectedEmail, ParserUtil.parseChampion(VALID_CHAMPION_1));
     }
 
     @Test
     public void parseChampion_validValueWithWhitespace_returnsTrimmedChampion() throws Exception {
         String championWithWhitespace = WHITESPACE + VALID_CHAMPION_1 + WHITESPACE;
-        Champion expectedChampion = new Champion(VALID_CHAMPION_1);
+        Champion expectedChampion = Champion.of(VALID_CHAMPION_1);
         assertEquals(expectedChampion, ParserUtil.parseChampion(championWithWhitespace));
     }
 
@@ -224,7 +225,7 @@ public class ParserUtilTest {
         Set<Champion> actualChampionset = ParserUtil.parseChampions(
                 Arrays.asList(VALID_CHAMPION_1, VALID_CHAMPION_2));
         Set<Champion> expectedChampionset = new HashSet<Champion>(
-                Arrays.asList(new Champion(VALID_CHAMPION_1), new Champion(VALID_CHAMPION_2)));
+                Arrays.asList(Champion.of(VALID_CHAMPION_1), Champion.of(VALID_CHAMPION_2)));
 
         assertEquals(expectedChampionset, actualChampionset);
     }
@@ -320,4 +321,18 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseScore("5a"));
         assertThrows(ParseException.class, () -> ParserUtil.parseScore("!@#"));
     }
+
+    @Test
+    public void parseScoreMeasure_validKeyword_returnsScoreMeasure() throws Exception {
+        assertEquals(ScoreMeasure.AVERAGE, ParserUtil.parseScoreMeasure("all"));
+        assertEquals(ScoreMeasure.RECENT, ParserUtil.parseScoreMeasure("  Recent "));
+        assertEquals(ScoreMeasure.TREND, ParserUtil.parseScoreMeasure("TREND"));
+    }
+
+    @Test
+    public void parseScoreMeasure_invalidKeyword_throwsParseException() {
+        assertThrows(ParseException.class, ScoreMeasure.MESSAGE_CONSTRAINTS, () ->
+                ParserUtil.parseScoreMeasure("best"));
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseScoreMeasure(null));
+    }
 }
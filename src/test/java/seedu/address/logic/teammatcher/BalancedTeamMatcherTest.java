@@ -0,0 +1,132 @@
+package seedu.address.logic.teammatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stats;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateChampionException;
+import seedu.address.model.team.exceptions.MissingRolesException;
+import seedu.address.testutil.PersonBuilder;
+
+public class BalancedTeamMatcherTest {
+
+    private static final String[] ROLES = {"top", "jungle", "mid", "adc", "support"};
+    private static final String[] RANKS = {"Iron", "Bronze", "Silver", "Gold", "Platinum", "Emerald", "Diamond",
+        "Master", "Grandmaster", "Challenger"};
+    private static final String[] CHAMPIONS = {"Garen", "Darius", "Ahri", "Zed", "Jinx", "Ashe", "Leona", "Thresh",
+        "Lee Sin", "Sion", "Lux", "Yasuo", "Ezreal", "Nami", "Vi", "Annie"};
+
+    private final BalancedTeamMatcher teamMatcher = new BalancedTeamMatcher();
+
+    @Test
+    public void matchTeams_missingRole_throwsMissingRolesException() {
+        List<Person> persons = List.of(person("Top1", "top", "Gold", "Garen"));
+        assertThrows(MissingRolesException.class, () -> teamMatcher.matchTeams(persons));
+    }
+
+    @Test
+    public void matchTeams_unavoidableConflict_throwsDuplicateChampionException() {
+        List<Person> persons = Arrays.asList(
+                person("Top1", "top", "Gold", "Garen"),
+                person("Jungle1", "jungle", "Gold", "Garen"),
+                person("Mid1", "mid", "Gold", "Ahri"),
+                person("Adc1", "adc", "Gold", "Jinx"),
+                person("Support1", "support", "Gold", "Leona"));
+        assertThrows(DuplicateChampionException.class, () -> teamMatcher.matchTeams(persons));
+    }
+
+    @Test
+    public void matchTeams_twoTiers_doesNotStackStrongestPlayers() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ROLES.length; i++) {
+            persons.add(person("Strong" + i, ROLES[i], "Challenger", CHAMPIONS[i]));
+            persons.add(person("Weak" + i, ROLES[i], "Iron", CHAMPIONS[i + ROLES.length]));
+        }
+
+        List<Team> greedyTeams = new TeamMatcher().matchTeams(persons);
+        List<Team> balancedTeams = teamMatcher.matchTeams(persons);
+
+        assertEquals(2, balancedTeams.size());
+        // An odd number of roles leaves one team a single Challenger-Iron gap (9 tiers) ahead
+        assertEquals(20.25, TeamMatcher.getStrengthVariance(balancedTeams), 1e-9);
+        assertTrue(TeamMatcher.getStrengthVariance(balancedTeams) < TeamMatcher.getStrengthVariance(greedyTeams));
+    }
+
+    @Test
+    public void matchTeams_sameRankDifferentScores_balancesByScore() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ROLES.length; i++) {
+            persons.add(new PersonBuilder(person("High" + i, ROLES[i], "Gold", CHAMPIONS[i]))
+                    .withStats(statsWithScore(10)).build());
+            persons.add(new PersonBuilder(person("Low" + i, ROLES[i], "Gold", CHAMPIONS[i + ROLES.length]))
+                    .withStats(statsWithScore(0)).build());
+        }
+
+        List<Team> teams = teamMatcher.matchTeams(persons);
+
+        assertEquals(2, teams.size());
+        for (Team team : teams) {
+            long highScorers = team.getPersons().stream()
+                    .filter(member -> member.getName().fullName.startsWith("High"))
+                    .count();
+            assertTrue(highScorers == 2 || highScorers == 3);
+        }
+    }
+
+    @Test
+    public void matchTeams_largePool_formsEvenTeamsFromDistinctPlayers() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            persons.add(person("Player" + i, ROLES[i % ROLES.length], RANKS[(i / ROLES.length) % RANKS.length],
+                    CHAMPIONS[(i * 13) % CHAMPIONS.length]));
+        }
+
+        List<Team> teams = teamMatcher.matchTeams(persons);
+
+        Set<String> usedIds = new HashSet<>();
+        for (Team team : teams) {
+            for (Person member : team.getPersons()) {
+                assertTrue(usedIds.add(member.getId()));
+            }
+        }
+        assertEquals(2000, teams.size());
+        assertTrue(TeamMatcher.getStrengthVariance(teams) < 1.0);
+    }
+
+    @Test
+    public void isBalancing_returnsTrue() {
+        assertTrue(teamMatcher.isBalancing());
+        assertFalse(new TeamMatcher().isBalancing());
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(teamMatcher, new BalancedTeamMatcher());
+        assertEquals(teamMatcher.hashCode(), new BalancedTeamMatcher().hashCode());
+        assertNotEquals(teamMatcher, new TeamMatcher());
+        assertNotEquals(teamMatcher, new OptimalTeamMatcher());
+        assertFalse(teamMatcher.equals(null));
+    }
+
+    private static Stats statsWithScore(double score) {
+        return new Stats(new ArrayList<>(List.of(0f)), new ArrayList<>(List.of(0)), new ArrayList<>(List.of(0f)),
+                new ArrayList<>(List.of(score)));
+    }
+
+    private static Person person(String name, String role, String rank, String champion) {
+        return new PersonBuilder().withName(name).withRole(role).withRank(rank).withChampion(champion).build();
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.logic.teammatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateChampionException;
+import seedu.address.model.team.exceptions.MissingRolesException;
+import seedu.address.testutil.PersonBuilder;
+
+public class OptimalTeamMatcherTest {
+
+    private static final String[] ROLES = {"top", "jungle", "mid", "adc", "support"};
+    private static final String[] RANKS = {"Iron", "Bronze", "Silver", "Gold", "Platinum", "Emerald", "Diamond",
+        "Master", "Grandmaster", "Challenger"};
+    private static final String[] CHAMPIONS = {"Garen", "Darius", "Ahri", "Zed", "Jinx", "Ashe", "Leona", "Thresh",
+        "Lee Sin", "Sion", "Lux", "Yasuo", "Ezreal", "Nami", "Vi", "Annie"};
+
+    private final OptimalTeamMatcher teamMatcher = new OptimalTeamMatcher();
+
+    @Test
+    public void matchTeams_missingRole_throwsMissingRolesException() {
+        List<Person> persons = List.of(person("Top1", "top", "Gold", "Garen"));
+        assertThrows(MissingRolesException.class, () -> teamMatcher.matchTeams(persons));
+    }
+
+    @Test
+    public void matchTeams_unavoidableConflict_throwsDuplicateChampionException() {
+        List<Person> persons = Arrays.asList(
+                person("Top1", "top", "Gold", "Garen"),
+                person("Jungle1", "jungle", "Gold", "Garen"),
+                person("Mid1", "mid", "Gold", "Ahri"),
+                person("Adc1", "adc", "Gold", "Jinx"),
+                person("Support1", "support", "Gold", "Leona"));
+        assertThrows(DuplicateChampionException.class, () -> teamMatcher.matchTeams(persons));
+    }
+
+    @Test
+    public void matchTeams_greedyLeavesClash_formsMoreTeamsThanGreedy() throws Exception {
+        // Greedy gives Mid1 (Ahri) to the first team, leaving Mid2 (Sion) to clash with Top2 (Sion).
+        List<Person> persons = Arrays.asList(
+                person("Top1", "top", "Gold", "Garen"),
+                person("Top2", "top", "Silver", "Sion"),
+                person("Jungle1", "jungle", "Gold", "Lee Sin"),
+                person("Jungle2", "jungle", "Silver", "Garen"),
+                person("Mid1", "mid", "Gold", "Ahri"),
+                person("Mid2", "mid", "Silver", "Sion"),
+                person("Adc1", "adc", "Gold", "Jinx"),
+                person("Adc2", "adc", "Silver", "Ashe"),
+                person("Support1", "support", "Gold", "Leona"),
+                person("Support2", "support", "Silver", "Thresh"));
+
+        assertEquals(1, new TeamMatcher().matchTeams(persons).size());
+        assertEquals(2, teamMatcher.matchTeams(persons).size());
+    }
+
+    @Test
+    public void matchTeams_twoTiers_mixesTiersAcrossTeams() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ROLES.length; i++) {
+            persons.add(person("Strong" + i, ROLES[i], "Challenger", CHAMPIONS[i]));
+            persons.add(person("Weak" + i, ROLES[i], "Iron", CHAMPIONS[i + ROLES.length]));
+        }
+
+        List<Team> greedyTeams = new TeamMatcher().matchTeams(persons);
+        List<Team> balancedTeams = teamMatcher.matchTeams(persons);
+
+        assertEquals(2, balancedTeams.size());
+        assertTrue(spread(balancedTeams) < spread(greedyTeams));
+    }
+
+    @Test
+    public void matchTeams_largePool_formsValidTeamsFromDistinctPlayers() throws Exception {
+        List<Person> persons = generatePool(10000);
+
+        List<Team> teams = teamMatcher.matchTeams(persons);
+
+        Set<String> usedIds = new HashSet<>();
+        for (Team team : teams) {
+            for (Person member : team.getPersons()) {
+                assertTrue(usedIds.add(member.getId()));
+            }
+        }
+        assertEquals(2000, teams.size());
+        assertTrue(spread(teams) <= 1.0);
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(teamMatcher, new OptimalTeamMatcher());
+        assertEquals(teamMatcher.hashCode(), new OptimalTeamMatcher().hashCode());
+        assertNotEquals(teamMatcher, new TeamMatcher());
+        assertFalse(teamMatcher.equals(null));
+    }
+
+    /**
+     * Returns the difference in strength between the strongest and weakest of {@code teams}.
+     */
+    private static double spread(List<Team> teams) {
+        double max = Double.NEGATIVE_INFINITY;
+        double min = Double.POSITIVE_INFINITY;
+        for (Team team : teams) {
+            double total = team.getPersons().stream().mapToDouble(TeamMatcher::getStrength).sum();
+            max = Math.max(max, total);
+            min = Math.min(min, total);
+        }
+        return max - min;
+    }
+
+    private static List<Person> generatePool(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(person("Player" + i, ROLES[i % ROLES.length], RANKS[(i / ROLES.length) % RANKS.length],
+                    CHAMPIONS[(i * 13) % CHAMPIONS.length]));
+        }
+        return persons;
+    }
+
+    private static Person person(String name, String role, String rank, String champion) {
+        return new PersonBuilder().withName(name).withRole(role).withRank(rank).withChampion(champion).build();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.logic.teammatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.MissingRolesException;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelTeamMatcherTest {
+
+    private static final String[] ROLES = {"top", "jungle", "mid", "adc", "support"};
+    private static final String[] RANKS = {"Iron", "Bronze", "Silver", "Gold", "Platinum", "Emerald", "Diamond",
+        "Master", "Grandmaster", "Challenger"};
+    private static final String[] CHAMPIONS = {"Garen", "Darius", "Ahri", "Zed", "Jinx", "Ashe", "Leona", "Thresh",
+        "Lee Sin", "Sion", "Lux", "Yasuo", "Ezreal", "Nami", "Vi", "Annie"};
+
+    private final ParallelTeamMatcher teamMatcher = new ParallelTeamMatcher();
+    private final TeamMatcher sequentialMatcher = new TeamMatcher();
+
+    @Test
+    public void matchTeams_missingRole_throwsMissingRolesException() {
+        List<Person> persons = List.of(person("Top1", "top", "Gold", "Garen"));
+        assertThrows(MissingRolesException.class, () -> teamMatcher.matchTeams(persons));
+    }
+
+    @Test
+    public void matchTeams_smallPool_sameTeamsAsSequential() throws Exception {
+        List<Person> persons = generatePool(50, true);
+        assertEquals(sequentialMatcher.matchTeams(persons), teamMatcher.matchTeams(persons));
+    }
+
+    @Test
+    public void matchTeams_largePoolWithoutConflicts_sameTeamsAsSequential() throws Exception {
+        List<Person> persons = generatePool(5000, false);
+
+        List<Team> teams = teamMatcher.matchTeams(persons);
+
+        assertEquals(1000, teams.size());
+        assertEquals(sequentialMatcher.matchTeams(persons), teams);
+    }
+
+    @Test
+    public void matchTeams_largePoolWithConflicts_sameTeamsAsSequential() throws Exception {
+        List<Person> persons = generatePool(5000, true);
+        assertEquals(sequentialMatcher.matchTeams(persons), teamMatcher.matchTeams(persons));
+    }
+
+    @Test
+    public void matchTeams_heavyChampionClashes_sameTeamsAsSequential() throws Exception {
+        Random random = new Random(6);
+        for (int i = 0; i < 12; i++) {
+            int size = 1500 + random.nextInt(2000);
+            int championCount = 5 + random.nextInt(4);
+            List<Person> persons = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                persons.add(person("Player" + j, ROLES[j % ROLES.length], RANKS[random.nextInt(RANKS.length)],
+                        CHAMPIONS[random.nextInt(championCount)]));
+            }
+
+            List<Team> expectedTeams = sequentialMatcher.matchTeams(persons);
+            assertTrue(expectedTeams.size() > ParallelTeamMatcher.BAND_SIZE);
+            assertEquals(expectedTeams, teamMatcher.matchTeams(persons));
+        }
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(teamMatcher, new ParallelTeamMatcher());
+        assertEquals(teamMatcher.hashCode(), new ParallelTeamMatcher().hashCode());
+        assertNotEquals(teamMatcher, sequentialMatcher);
+        assertFalse(teamMatcher.equals(null));
+    }
+
+    /**
+     * Returns {@code size} persons spread over every role and rank. Unless {@code hasConflicts}, each role plays its
+     * own champion so that no champion conflict can arise.
+     */
+    private static List<Person> generatePool(int size, boolean hasConflicts) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String champion = hasConflicts ? CHAMPIONS[(i * 13) % CHAMPIONS.length] : CHAMPIONS[i % ROLES.length];
+            persons.add(person("Player" + i, ROLES[i % ROLES.length], RANKS[(i * 7 / ROLES.length) % RANKS.length],
+                    champion));
+        }
+        return persons;
+    }
+
+    private static Person person(String name, String role, String rank, String champion) {
+        return new PersonBuilder().withName(name).withRole(role).withRank(rank).withChampion(champion).build();
+    }
+}
@@ -527,4 +527,22 @@ public class TeamMatcherTest {
         });
     }
 
+    @Test
+    public void getStrengthVariance_teamsOfDifferentRanks_returnsVariance() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        String[] roles = {"top", "jungle", "mid", "adc", "support"};
+        String[] champions = {"Garen", "Lee Sin", "Ahri", "Jinx", "Leona", "Darius", "Vi", "Zed", "Ashe", "Lulu"};
+        for (int i = 0; i < roles.length; i++) {
+            persons.add(new PersonBuilder().withName("Gold" + i).withRole(roles[i])
+                    .withRank("Gold").withChampion(champions[i]).build());
+            persons.add(new PersonBuilder().withName("Silver" + i).withRole(roles[i])
+                    .withRank("Silver").withChampion(champions[i + roles.length]).build());
+        }
+        List<Team> teams = teamMatcher.matchTeams(persons);
+
+        // Team totals are 5 x Gold (15) and 5 x Silver (10), 2.5 away from their mean of 12.5
+        assertEquals(6.25, TeamMatcher.getStrengthVariance(teams), 1e-9);
+        assertEquals(0.0, TeamMatcher.getStrengthVariance(teams.subList(0, 1)), 1e-9);
+        assertEquals(0.0, TeamMatcher.getStrengthVariance(List.of()), 1e-9);
+    }
 }
@@ -7,10 +7,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_CHAMPION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalTeams.TEAM_A;
 import static seedu.address.testutil.TypicalTeams.TEAM_B;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,9 +22,12 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Stats;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
@@ -152,6 +158,57 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getTeamList().remove(0));
     }
 
+    @Test
+    public void updatePersons_personsInTeam_replacesPersonsAndTeamMembers() {
+        AddressBook typicalAddressBook = getTypicalAddressBookWithTeams();
+        Person editedAlice = new PersonBuilder(ALICE).withStats(new Stats().addLatestStats("8", "100", "2")).build();
+        typicalAddressBook.updatePersons(List.of(editedAlice));
+
+        assertTrue(typicalAddressBook.getPersonList().stream()
+                .anyMatch(person -> person.getStats().equals(editedAlice.getStats())));
+        assertTrue(typicalAddressBook.getTeamList().get(0).getPersons().stream()
+                .anyMatch(person -> person.getStats().equals(editedAlice.getStats())));
+    }
+
+    @Test
+    public void updatePersons_personNotInAddressBook_throwsPersonNotFoundException() {
+        addressBook.addPerson(ALICE);
+        Person unknownPerson = new PersonBuilder().withName("Unknown").build();
+        assertThrows(PersonNotFoundException.class, () -> addressBook.updatePersons(List.of(unknownPerson)));
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void updatePersons_editedPersons_replacesOnlyEditedPersonsInOneChange() {
+        AddressBook typicalAddressBook = getTypicalAddressBookWithTeams();
+        Person editedAlice = new PersonBuilder(ALICE).withStats(new Stats().addLatestStats("8", "100", "2")).build();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        typicalAddressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        typicalAddressBook.updatePersons(List.of(editedAlice));
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasReplaced());
+        assertEquals(List.of(editedAlice), change.getAddedSubList());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void updatePersons_duplicatePerson_addressBookUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBookWithTeams();
+        List<Person> persons = new ArrayList<>(typicalAddressBook.getPersonList());
+        List<Team> teams = new ArrayList<>(typicalAddressBook.getTeamList());
+        Person editedAlice = new PersonBuilder(ALICE).withStats(new Stats().addLatestStats("8", "100", "2")).build();
+        Person bensonNamedAlice = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                typicalAddressBook.updatePersons(List.of(editedAlice, bensonNamedAlice)));
+        assertEquals(persons, typicalAddressBook.getPersonList());
+        assertEquals(teams, typicalAddressBook.getTeamList());
+    }
+
     @Test
     public void findPersonByName_personExists_returnsPerson() {
         addressBook.addPerson(ALICE);
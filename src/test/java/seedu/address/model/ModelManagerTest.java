@@ -7,18 +7,25 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalTeams.TEAM_A;
 import static seedu.address.testutil.TypicalTeams.TEAM_B;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.TeamNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -178,6 +185,84 @@ public class ModelManagerTest {
         assertFalse(modelManager.getUnassignedPersonList().contains(BENSON));
     }
 
+    @Test
+    public void batchUpdate_manyEdits_singleChangePerList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<ListChangeListener.Change<? extends Person>> personChanges = new ArrayList<>();
+        List<ListChangeListener.Change<? extends Team>> teamChanges = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) personChanges::add);
+        modelManager.getAddressBook().getTeamList()
+                .addListener((ListChangeListener<Team>) teamChanges::add);
+
+        Person editedAlice = new PersonBuilder(ALICE).withWins(1).build();
+        Person editedBenson = new PersonBuilder(BENSON).withWins(1).build();
+        modelManager.batchUpdate(addressBook -> {
+            addressBook.setPerson(ALICE, editedAlice);
+            addressBook.setPerson(BENSON, editedBenson);
+        });
+
+        assertEquals(1, personChanges.size());
+        assertEquals(0, teamChanges.size());
+        assertEquals(Arrays.asList(editedAlice, editedBenson), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void batchUpdate_someEdits_changeNamesOnlyEditedPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+        List<List<Integer>> replacedRanges = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                replacedRanges.add(Arrays.asList(change.getFrom(), change.getTo()));
+            }
+        });
+
+        Person editedBenson = new PersonBuilder(BENSON).withWins(1).build();
+        Person editedCarl = new PersonBuilder(CARL).withWins(1).build();
+        modelManager.batchUpdate(addressBook -> {
+            addressBook.setPerson(CARL, editedCarl);
+            addressBook.setPerson(BENSON, editedBenson);
+        });
+
+        assertEquals(List.of(Arrays.asList(1, 3)), replacedRanges);
+        assertEquals(Arrays.asList(ALICE, editedBenson, editedCarl, DANIEL),
+                modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(ALICE, editedBenson, editedCarl, DANIEL), modelManager.getUnassignedPersonList());
+    }
+
+    @Test
+    public void batchUpdate_failingEdit_rollsBack() {
+        modelManager.addPerson(ALICE);
+        modelManager.addTeam(TEAM_A);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+
+        assertThrows(TeamNotFoundException.class, () -> modelManager.batchUpdate(addressBook -> {
+            addressBook.removePerson(ALICE);
+            addressBook.removeTeam(TEAM_A);
+            addressBook.removeTeam(TEAM_B);
+        }));
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.hasTeam(TEAM_A));
+    }
+
+    @Test
+    public void batchUpdate_edits_appliedOnce() {
+        List<Person> added = new ArrayList<>();
+        modelManager.batchUpdate(addressBook -> {
+            addressBook.addPerson(ALICE);
+            added.add(ALICE);
+        });
+
+        assertEquals(List.of(ALICE), added);
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
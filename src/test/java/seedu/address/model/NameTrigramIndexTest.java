@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final NameTrigramIndex index = new NameTrigramIndex(addressBook.getPersonList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameTrigramIndex(null));
+    }
+
+    @Test
+    public void search_typos_closestFirst() {
+        assertEquals(List.of(ALICE), search(List.of("Alce"), 10));
+        assertEquals(List.of(BENSON, DANIEL), search(List.of("BENSOM", "Danniel"), 10));
+        assertEquals(List.of(), search(List.of("Zzzzz", " "), 10));
+    }
+
+    @Test
+    public void search_manyNames_sameAsLinearScan() {
+        Random random = new Random(7);
+        Map<String, Person> personsByName = new LinkedHashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            String name = randomName(random, "abcd", 3 + random.nextInt(5));
+            personsByName.putIfAbsent(name, new PersonBuilder().withName(name).build());
+        }
+        addressBook.setPersons(List.copyOf(personsByName.values()));
+
+        for (int i = 0; i < 50; i++) {
+            String keyword = randomName(random, "abcde", 1 + random.nextInt(8));
+            List<Person> expected = addressBook.getPersonList()
+                    .filtered(new NameSimilarToKeywordsPredicate(List.of(keyword)))
+                    .sorted(byDistanceTo(keyword));
+            assertEquals(expected, search(List.of(keyword), Integer.MAX_VALUE));
+
+            // The top 5 are the 5 closest names
+            assertEquals(expected.subList(0, Math.min(5, expected.size())), search(List.of(keyword), 5));
+        }
+    }
+
+    @Test
+    public void personListChanges_indexUpdated() {
+        Person renamed = new PersonBuilder(ALICE).withName("Alicia").build();
+        addressBook.setPerson(ALICE, renamed);
+        addressBook.removePerson(BENSON);
+
+        assertEquals(List.of(renamed), search(List.of("Alicja"), 10));
+        assertEquals(List.of(), search(List.of("Benson"), 10));
+        assertEquals(List.of(), search(List.of("Alice"), 10));
+    }
+
+    private List<Person> search(List<String> keywords, int limit) {
+        NameTrigramIndex.Result result = index.search(keywords, limit);
+        return addressBook.getPersonList().filtered(result).sorted(result.byDistance());
+    }
+
+    private static Comparator<Person> byDistanceTo(String keyword) {
+        return Comparator.<Person>comparingInt(person ->
+                StringUtil.boundedEditDistanceIgnoreCase(person.getName().fullName, keyword, 16))
+                .thenComparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    private static String randomName(Random random, String alphabet, int length) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonSearchIndex index = new PersonSearchIndex(addressBook.getPersonList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonSearchIndex(null));
+    }
+
+    @Test
+    public void search_sameAsLinearScan() {
+        List<List<String>> queries = List.of(List.of("friends"), List.of("lee", "SIN"), List.of("Zed", "Alice"),
+                List.of("owesmoney", "carl", "nobody"), List.of(" ", "fiona"), List.of());
+        for (List<String> keywords : queries) {
+            assertEquals(linearScan(keywords), search(keywords));
+        }
+    }
+
+    @Test
+    public void search_moreKeywordsAndNameMatchesRankedFirst() {
+        // Benson matches both keywords; Fiona's name outranks Daniel's tag
+        assertEquals(List.of(BENSON, FIONA, ALICE, DANIEL), ranked(List.of("friends", "benson", "fiona")));
+    }
+
+    @Test
+    public void personListChanges_indexUpdated() {
+        Person renamed = new PersonBuilder(ALICE).withName("Alicia").withTags().build();
+        addressBook.setPerson(ALICE, renamed);
+        addressBook.removePerson(CARL);
+        Person added = new PersonBuilder().withName("Newcomer").withChampion("Lee Sin").withTags("friends").build();
+        addressBook.addPerson(added);
+
+        assertEquals(List.of(renamed), search(List.of("alicia")));
+        assertEquals(List.of(), search(List.of("alice")));
+        assertEquals(List.of(added), search(List.of("lee")));
+        assertEquals(List.of(BENSON, DANIEL, added), search(List.of("friends")));
+
+        addressBook.setPersons(List.of());
+        assertEquals(List.of(), search(List.of("friends")));
+    }
+
+    private List<Person> search(List<String> keywords) {
+        return addressBook.getPersonList().filtered(index.search(keywords));
+    }
+
+    private List<Person> ranked(List<String> keywords) {
+        PersonSearchIndex.Result result = index.search(keywords);
+        return addressBook.getPersonList().filtered(result).sorted(result.byRelevance());
+    }
+
+    private List<Person> linearScan(List<String> keywords) {
+        List<String> nonBlankKeywords = keywords.stream().filter(keyword -> !keyword.isBlank())
+                .collect(Collectors.toList());
+        return addressBook.getPersonList().filtered(new PersonContainsKeywordsPredicate(nonBlankKeywords));
+    }
+}
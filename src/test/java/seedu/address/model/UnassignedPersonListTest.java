@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalTeams.TEAM_A;
+import static seedu.address.testutil.TypicalTeams.TEAM_B;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class UnassignedPersonListTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final UnassignedPersonList unassignedPersons = new UnassignedPersonList(addressBook);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new UnassignedPersonList(null));
+    }
+
+    @Test
+    public void constructor_populatedAddressBook_showsOnlyUnassigned() {
+        AddressBook populated = getTypicalAddressBookWithTeams();
+        Person teamless = new PersonBuilder().withName("Teamless").build();
+        populated.addPerson(teamless);
+
+        assertEquals(List.of(teamless), new UnassignedPersonList(populated).asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addPerson_noTeam_personShown() {
+        addressBook.addPerson(ALICE);
+        assertEquals(List.of(ALICE), unassignedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAndRemoveTeam_membersHiddenThenShown() {
+        addTeamAPersons();
+        addressBook.addPerson(FIONA);
+
+        addressBook.addTeam(TEAM_A);
+        assertEquals(List.of(FIONA), unassignedPersons.asUnmodifiableObservableList());
+
+        addressBook.removeTeam(TEAM_A);
+        assertEquals(addressBook.getPersonList(), unassignedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_unassignedPerson_replacedInPlace() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("captain").build();
+
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, BENSON), unassignedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_personInTeam_staysHidden() {
+        addTeamAPersons();
+        addressBook.addTeam(TEAM_A);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("captain").build();
+
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(unassignedPersons.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void removePerson_unassignedPerson_hidden() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(BENSON, CARL), unassignedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removePersonsAndTeams_orderOfPersonList() {
+        addTeamAPersons();
+        addressBook.addPerson(FIONA);
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(BENSON);
+        assertEquals(List.of(ALICE, CARL, DANIEL, ELLE, FIONA, BENSON),
+                unassignedPersons.asUnmodifiableObservableList());
+
+        // Persons shown again after their team is removed go back to their place in the person list
+        addressBook.addTeam(TEAM_A);
+        addressBook.removePerson(FIONA);
+        addressBook.addPerson(FIONA);
+        addressBook.removeTeam(TEAM_A);
+        assertEquals(List.of(ALICE, CARL, DANIEL, ELLE, BENSON, FIONA),
+                unassignedPersons.asUnmodifiableObservableList());
+        assertEquals(addressBook.getPersonList(), unassignedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void resetData_replacesView() {
+        addressBook.addPerson(FIONA);
+        addressBook.resetData(getTypicalAddressBookWithTeams());
+
+        assertTrue(unassignedPersons.asUnmodifiableObservableList().isEmpty());
+
+        addressBook.setTeams(List.of(TEAM_B));
+        assertFalse(unassignedPersons.asUnmodifiableObservableList().contains(FIONA));
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE), unassignedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, ()
+                -> unassignedPersons.asUnmodifiableObservableList().remove(0));
+    }
+
+    private void addTeamAPersons() {
+        for (Person person : TEAM_A.getPersons()) {
+            addressBook.addPerson(person);
+        }
+    }
+}
@@ -18,4 +18,17 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setRecentFormWindowSize_nonPositive_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRecentFormWindowSize(0));
+    }
+
+    @Test
+    public void setRecentFormSmoothingFactor_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRecentFormSmoothingFactor(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRecentFormSmoothingFactor(1.5));
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -8,14 +10,14 @@ import org.junit.jupiter.api.Test;
 
 public class ChampionTest {
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Champion(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Champion.of(null));
     }
 
     @Test
-    public void constructor_invalidName_throwsIllegalArgumentException() {
+    public void of_invalidName_throwsIllegalArgumentException() {
         String invalidName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Champion(invalidName));
+        assertThrows(IllegalArgumentException.class, () -> Champion.of(invalidName));
     }
 
     @Test
@@ -34,12 +36,19 @@ public class ChampionTest {
 
     }
 
+    @Test
+    public void of_sameNameInAnyCase_returnsSameInstance() {
+        Champion instance = Champion.of("azir");
+        assertSame(instance, Champion.of(" AZIR "));
+        assertEquals("Azir", instance.value);
+    }
+
     @Test
     public void equals() {
-        Champion champion = new Champion("azir");
+        Champion champion = Champion.of("azir");
 
         // same values -> returns true
-        assertTrue(champion.equals(new Champion("azir")));
+        assertTrue(champion.equals(Champion.of("azir")));
 
         // same object -> returns true
         assertTrue(champion.equals(champion));
@@ -51,6 +60,6 @@ public class ChampionTest {
         assertFalse(champion.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(champion.equals(new Champion("yasuo")));
+        assertFalse(champion.equals(Champion.of("yasuo")));
     }
 }
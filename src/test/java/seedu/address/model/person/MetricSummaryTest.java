@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class MetricSummaryTest {
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void empty_noValues() {
+        MetricSummary summary = MetricSummary.EMPTY;
+        assertEquals(0, summary.getCount());
+        assertEquals(0.0, summary.getSum(), EPS);
+        assertEquals(0.0, summary.getMean(), EPS);
+        assertEquals(0.0, summary.getVariance(), EPS);
+        assertTrue(Double.isNaN(summary.getBest()));
+        assertTrue(Double.isNaN(summary.getWorst()));
+    }
+
+    @Test
+    public void with_values_summarised() {
+        MetricSummary summary = MetricSummary.EMPTY.with(2).with(4).with(4).with(4).with(5).with(5).with(7).with(9);
+        assertEquals(8, summary.getCount());
+        assertEquals(40.0, summary.getSum(), EPS);
+        assertEquals(5.0, summary.getMean(), EPS);
+        assertEquals(4.0, summary.getVariance(), EPS);
+        assertEquals(2.0, summary.getStandardDeviation(), EPS);
+        assertEquals(9.0, summary.getBest(), EPS);
+        assertEquals(2.0, summary.getWorst(), EPS);
+    }
+
+    @Test
+    public void with_negativeValues_bestAndWorstTracked() {
+        MetricSummary summary = MetricSummary.EMPTY.with(-300).with(-1200);
+        assertEquals(-300.0, summary.getBest(), EPS);
+        assertEquals(-1200.0, summary.getWorst(), EPS);
+    }
+
+    @Test
+    public void with_doesNotChangeOriginal() {
+        MetricSummary original = MetricSummary.EMPTY.with(1.5);
+        original.with(10);
+        assertEquals(1, original.getCount());
+        assertEquals(1.5, original.getBest(), EPS);
+    }
+
+    @Test
+    public void equals() {
+        MetricSummary summary = MetricSummary.EMPTY.with(1).with(3);
+
+        assertEquals(summary, summary);
+        assertEquals(summary, MetricSummary.EMPTY.with(1).with(3));
+        assertEquals(summary.hashCode(), MetricSummary.EMPTY.with(1).with(3).hashCode());
+        assertNotEquals(summary, MetricSummary.EMPTY.with(3).with(1.5));
+        assertNotEquals(summary, null);
+        assertNotEquals(summary, 1);
+    }
+}
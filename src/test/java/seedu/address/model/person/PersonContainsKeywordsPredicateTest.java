@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        PersonContainsKeywordsPredicate firstPredicate =
+                new PersonContainsKeywordsPredicate(firstPredicateKeywordList);
+        PersonContainsKeywordsPredicate secondPredicate =
+                new PersonContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PersonContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personContainsKeywords_returnsTrue() {
+        Person person = new PersonBuilder().withName("Alice").withChampion("Lee Sin").withTags("captain").build();
+
+        // Name word
+        assertTrue(new PersonContainsKeywordsPredicate(List.of("aLIce")).test(person));
+
+        // Champion word
+        assertTrue(new PersonContainsKeywordsPredicate(List.of("SIN")).test(person));
+
+        // Tag
+        assertTrue(new PersonContainsKeywordsPredicate(List.of("Captain")).test(person));
+
+        // Only one of the keywords matches
+        assertTrue(new PersonContainsKeywordsPredicate(List.of("Bob", "captain")).test(person));
+    }
+
+    @Test
+    public void test_personDoesNotContainKeywords_returnsFalse() {
+        Person person = new PersonBuilder().withName("Alice").withRank("Gold").withRole("Mid")
+                .withChampion("Lee Sin").withTags("captain").build();
+
+        // Zero keywords
+        assertFalse(new PersonContainsKeywordsPredicate(Collections.emptyList()).test(person));
+
+        // Partial words
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("Ali", "Si", "capt")).test(person));
+
+        // Keywords match rank and role only
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("Gold", "Mid")).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(keywords);
+
+        String expected = PersonContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -9,14 +10,14 @@ import org.junit.jupiter.api.Test;
 
 public class RankTest {
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Rank(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Rank.of(null));
     }
 
     @Test
-    public void constructor_invalidName_throwsIllegalArgumentException() {
+    public void of_invalidName_throwsIllegalArgumentException() {
         String invalidName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Rank(invalidName));
+        assertThrows(IllegalArgumentException.class, () -> Rank.of(invalidName));
     }
 
     @Test
@@ -31,12 +32,19 @@ public class RankTest {
 
     }
 
+    @Test
+    public void of_sameNameInAnyCase_returnsSameInstance() {
+        Rank instance = Rank.of("gold");
+        assertSame(instance, Rank.of("GOLD"));
+        assertEquals("Gold", instance.value);
+    }
+
     @Test
     public void equals() {
-        Rank rank = new Rank("gold");
+        Rank rank = Rank.of("gold");
 
         // same values -> returns true
-        assertTrue(rank.equals(new Rank("gold")));
+        assertTrue(rank.equals(Rank.of("gold")));
 
         // same object -> returns true
         assertTrue(rank.equals(rank));
@@ -48,21 +56,21 @@ public class RankTest {
         assertFalse(rank.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(rank.equals(new Rank("silver")));
+        assertFalse(rank.equals(Rank.of("silver")));
     }
 
     @Test
     public void compareTo() {
-        Rank iron = new Rank("iron");
-        Rank bronze = new Rank("bronze");
-        Rank silver = new Rank("silver");
-        Rank gold = new Rank("gold");
-        Rank platinum = new Rank("platinum");
-        Rank emerald = new Rank("emerald");
-        Rank diamond = new Rank("diamond");
-        Rank master = new Rank("master");
-        Rank grandmaster = new Rank("grandmaster");
-        Rank challenger = new Rank("challenger");
+        Rank iron = Rank.of("iron");
+        Rank bronze = Rank.of("bronze");
+        Rank silver = Rank.of("silver");
+        Rank gold = Rank.of("gold");
+        Rank platinum = Rank.of("platinum");
+        Rank emerald = Rank.of("emerald");
+        Rank diamond = Rank.of("diamond");
+        Rank master = Rank.of("master");
+        Rank grandmaster = Rank.of("grandmaster");
+        Rank challenger = Rank.of("challenger");
 
         // Test ascending order
         assertTrue(iron.compareTo(bronze) < 0);
@@ -81,7 +89,7 @@ public class RankTest {
         assertTrue(master.compareTo(diamond) > 0);
 
         // Test equality
-        assertEquals(0, gold.compareTo(new Rank("gold")));
-        assertEquals(0, challenger.compareTo(new Rank("challenger")));
+        assertEquals(0, gold.compareTo(Rank.of("gold")));
+        assertEquals(0, challenger.compareTo(Rank.of("challenger")));
     }
 }
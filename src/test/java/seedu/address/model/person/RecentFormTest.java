@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class RecentFormTest {
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void empty_invalidParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RecentForm.empty(0, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> RecentForm.empty(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> RecentForm.empty(3, 1.5));
+    }
+
+    @Test
+    public void with_windowNotFull_averagesAllValues() {
+        RecentForm form = RecentForm.empty(3, 0.5).with(2, Double.NaN).with(4, Double.NaN);
+        assertEquals(3.0, form.getWindowMean(), EPS);
+    }
+
+    @Test
+    public void with_windowFull_dropsLeavingValue() {
+        RecentForm form = RecentForm.empty(2, 0.5)
+                .with(2, Double.NaN)
+                .with(4, Double.NaN)
+                .with(10, 2);
+        assertEquals(7.0, form.getWindowMean(), EPS);
+    }
+
+    @Test
+    public void with_values_ewmaWeightsLatest() {
+        RecentForm form = RecentForm.empty(5, 0.5).with(4, Double.NaN);
+        assertEquals(4.0, form.getEwma(), EPS);
+        form = form.with(8, Double.NaN);
+        assertEquals(6.0, form.getEwma(), EPS);
+        form = form.with(0, Double.NaN);
+        assertEquals(3.0, form.getEwma(), EPS);
+    }
+
+    @Test
+    public void default_noValues() {
+        assertEquals(RecentForm.DEFAULT_WINDOW_SIZE, RecentForm.DEFAULT.getWindowSize());
+        assertEquals(0.0, RecentForm.DEFAULT.getWindowMean(), EPS);
+        assertEquals(0.0, RecentForm.DEFAULT.getEwma(), EPS);
+    }
+
+    @Test
+    public void init_validParameters_newHistoriesUseThem() {
+        try {
+            RecentForm.init(3, 0.5);
+            assertEquals(RecentForm.empty(3, 0.5), RecentForm.initial());
+            assertEquals(3, new Stats().getRecentForm(Metric.KDA).getWindowSize());
+        } finally {
+            RecentForm.init(RecentForm.DEFAULT_WINDOW_SIZE, RecentForm.DEFAULT_SMOOTHING_FACTOR);
+        }
+        assertEquals(RecentForm.DEFAULT, RecentForm.initial());
+    }
+
+    @Test
+    public void init_invalidParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RecentForm.init(0, 0.5));
+        assertEquals(RecentForm.DEFAULT, RecentForm.initial());
+    }
+
+    @Test
+    public void equals() {
+        RecentForm form = RecentForm.empty(3, 0.5).with(1, Double.NaN);
+
+        assertEquals(form, form);
+        assertEquals(form, RecentForm.empty(3, 0.5).with(1, Double.NaN));
+        assertNotEquals(form, RecentForm.empty(4, 0.5).with(1, Double.NaN));
+        assertNotEquals(form, RecentForm.empty(3, 0.5).with(2, Double.NaN));
+        assertNotEquals(form, null);
+    }
+}
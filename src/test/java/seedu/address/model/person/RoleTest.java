@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -8,14 +10,14 @@ import org.junit.jupiter.api.Test;
 
 public class RoleTest {
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Role(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Role.of(null));
     }
 
     @Test
-    public void constructor_invalidName_throwsIllegalArgumentException() {
+    public void of_invalidName_throwsIllegalArgumentException() {
         String invalidName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Role(invalidName));
+        assertThrows(IllegalArgumentException.class, () -> Role.of(invalidName));
     }
 
     @Test
@@ -30,12 +32,19 @@ public class RoleTest {
 
     }
 
+    @Test
+    public void of_sameNameInAnyCase_returnsSameInstance() {
+        Role instance = Role.of("top");
+        assertSame(instance, Role.of("TOP"));
+        assertEquals("Top", instance.value);
+    }
+
     @Test
     public void equals() {
-        Role role = new Role("top");
+        Role role = Role.of("top");
 
         // same values -> returns true
-        assertTrue(role.equals(new Role("top")));
+        assertTrue(role.equals(Role.of("top")));
 
         // same object -> returns true
         assertTrue(role.equals(role));
@@ -47,6 +56,6 @@ public class RoleTest {
         assertFalse(role.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(role.equals(new Role("mid")));
+        assertFalse(role.equals(Role.of("mid")));
     }
 }
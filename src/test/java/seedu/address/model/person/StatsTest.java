@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -69,8 +70,32 @@ public class StatsTest {
         assertFalse(Stats.isValidStats("0", "0", "200.01")); // kda > 200
     }
 
+    @Test
+    void isValidStatsFormat() {
+        assertTrue(Stats.isValidStatsFormat("40.1", "-10001", "200.01")); // well formed, out of range
+        assertFalse(Stats.isValidStatsFormat("-0.1", "0", "0")); // negative cpm
+        assertFalse(Stats.isValidStatsFormat("1", "0.5", "1")); // fractional gd15
+        assertFalse(Stats.isValidStatsFormat("1", "0", "1.234")); // too many decimal places
+    }
+
+    @Test
+    void isValidStats_parsedValues() {
+        assertTrue(Stats.isValidStats(40f, -10000, 200f));
+        assertFalse(Stats.isValidStats(40.1f, 0, 0f));
+        assertFalse(Stats.isValidStats(0f, 10001, 0f));
+        assertFalse(Stats.isValidStats(0f, 0, 200.01f));
+    }
+
     // Add & Average
 
+    @Test
+    void addLatestStats_parsedValues_sameAsText() {
+        Stats fromText = new Stats().addLatestStats("7.5", "-300", "2.25");
+        Stats fromValues = new Stats().addLatestStats(7.5f, -300, 2.25f);
+        assertEquals(fromText, fromValues);
+        assertEquals(fromText.getValue(), fromValues.getValue(), EPS);
+    }
+
     @Test
     void addLatestStats_appendsAndRecomputesAverage() {
         Stats s0 = new Stats();
@@ -155,6 +180,175 @@ public class StatsTest {
         assertEquals(scSize, s.getScores().size());
     }
 
+    // Shared history
+
+    @Test
+    void addLatestStats_afterLaterAppend_earlierVersionsUnchanged() {
+        Stats s1 = new Stats().addLatestStats("7.0", "1000", "2.2");
+        Stats s2 = s1;
+        for (int i = 0; i < 100; i++) {
+            s2 = s2.addLatestStats("5.0", "300", "1.2");
+        }
+
+        assertEquals(List.of(7.0F), s1.getCsPerMinute());
+        assertEquals(101, s2.getScores().size());
+        assertEquals(round1(expectedScore(7.0F, 1000, 2.2F)), s1.getValue(), EPS);
+    }
+
+    @Test
+    void addLatestStats_branchingHistories_independent() throws CommandException {
+        Stats base = new Stats()
+                .addLatestStats("7.0", "1000", "2.2")
+                .addLatestStats("4.0", "-200", "0.7");
+        Stats first = base.addLatestStats("9.0", "1200", "2.0");
+        Stats second = base.addLatestStats("3.0", "-500", "0.5");
+        Stats afterDelete = first.deleteLatestStats().addLatestStats("1.0", "0", "0.1");
+
+        assertEquals(List.of(7.0F, 4.0F), base.getCsPerMinute());
+        assertEquals(List.of(7.0F, 4.0F, 9.0F), first.getCsPerMinute());
+        assertEquals(List.of(1000, -200, -500), second.getGoldDiffAt15());
+        assertEquals(List.of(2.2F, 0.7F, 0.1F), afterDelete.getKdaScores());
+        assertEquals(base, first.deleteLatestStats());
+    }
+
+    @Test
+    void constructor_lists_copied() {
+        ArrayList<Float> cs = new ArrayList<>(List.of(7.0F));
+        ArrayList<Integer> gd = new ArrayList<>(List.of(1000));
+        ArrayList<Float> kd = new ArrayList<>(List.of(2.2F));
+        ArrayList<Double> sc = new ArrayList<>(List.of(5.0));
+        Stats s = new Stats(cs, gd, kd, sc);
+        cs.add(1.0F);
+        sc.set(0, 0.0);
+
+        assertEquals(List.of(7.0F), s.getCsPerMinute());
+        assertEquals(List.of(5.0), s.getScores());
+        assertEquals(5.0F, s.getValue(), EPS);
+    }
+
+    @Test
+    void constructor_differentLengths_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Stats(new ArrayList<>(List.of(7.0F)),
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+    }
+
+    // Summaries
+
+    @Test
+    void summaries_trackEveryMetric() {
+        Stats s = new Stats()
+                .addLatestStats("7.0", "1000", "2.2")
+                .addLatestStats("4.0", "-200", "0.7")
+                .addLatestStats("9.0", "600", "3.1");
+
+        assertEquals(3, s.getMatchCount());
+        assertEquals(20.0 / 3, s.getCsPerMinuteSummary().getMean(), EPS);
+        assertEquals(9.0, s.getCsPerMinuteSummary().getBest(), EPS);
+        assertEquals(-200.0, s.getGoldDiffAt15Summary().getWorst(), EPS);
+        assertEquals(1000.0, s.getGoldDiffAt15Summary().getBest(), EPS);
+        assertEquals(0.7F, s.getKdaSummary().getWorst(), EPS);
+
+        double e1 = expectedScore(7.0F, 1000, 2.2F);
+        double e2 = expectedScore(4.0F, -200, 0.7F);
+        double e3 = expectedScore(9.0F, 600, 3.1F);
+        double mean = (e1 + e2 + e3) / 3;
+        double variance = ((e1 - mean) * (e1 - mean) + (e2 - mean) * (e2 - mean) + (e3 - mean) * (e3 - mean)) / 3;
+        assertEquals(mean, s.getScoreSummary().getMean(), EPS);
+        assertEquals(variance, s.getScoreSummary().getVariance(), EPS);
+        assertEquals(Math.max(e1, Math.max(e2, e3)), s.getScoreSummary().getBest(), EPS);
+    }
+
+    @Test
+    void summaries_afterDelete_matchAppendedHistory() throws CommandException {
+        Stats appended = new Stats()
+                .addLatestStats("7.0", "1000", "2.2")
+                .addLatestStats("4.0", "-200", "0.7");
+        Stats deleted = appended.addLatestStats("40.0", "10000", "200").deleteLatestStats();
+
+        assertEquals(appended.getCsPerMinuteSummary(), deleted.getCsPerMinuteSummary());
+        assertEquals(appended.getGoldDiffAt15Summary(), deleted.getGoldDiffAt15Summary());
+        assertEquals(appended.getKdaSummary(), deleted.getKdaSummary());
+        assertEquals(appended.getScoreSummary(), deleted.getScoreSummary());
+        assertEquals(appended.getScoreSummary(), new Stats(appended.getCsPerMinute(), appended.getGoldDiffAt15(),
+                appended.getKdaScores(), appended.getScores()).getScoreSummary());
+    }
+
+    @Test
+    void deleteLatestStats_longHistory_sameSummariesAsEarlierVersion() throws CommandException {
+        Stats earlier = new Stats();
+        for (int i = 0; i < 1000; i++) {
+            earlier = earlier.addLatestStats(String.valueOf(i % 40), String.valueOf(i - 500), "2.5");
+        }
+        Stats deleted = earlier.addLatestStats("40.0", "10000", "200").deleteLatestStats();
+
+        for (Metric metric : Metric.values()) {
+            assertEquals(earlier.getSummary(metric), deleted.getSummary(metric));
+            assertEquals(earlier.getRecentForm(metric), deleted.getRecentForm(metric));
+        }
+        assertEquals(earlier, deleted);
+    }
+
+    @Test
+    void deleteLatestStats_builtFromSeries_matchesAppendedHistory() throws CommandException {
+        Stats appended = new Stats().addLatestStats("7.0", "1000", "2.2").addLatestStats("4.0", "-200", "0.7");
+        Stats loaded = new Stats(appended.getCsPerMinute(), appended.getGoldDiffAt15(), appended.getKdaScores(),
+                appended.getScores());
+        Stats deleted = loaded.deleteLatestStats();
+        Stats expected = appended.deleteLatestStats();
+
+        for (Metric metric : Metric.values()) {
+            assertEquals(expected.getSummary(metric), deleted.getSummary(metric));
+            assertEquals(expected.getRecentForm(metric), deleted.getRecentForm(metric));
+        }
+        assertEquals(new Stats(), deleted.deleteLatestStats());
+        assertEquals(RecentForm.DEFAULT, deleted.deleteLatestStats().getRecentForm(Metric.SCORE));
+    }
+
+    @Test
+    void getMatchValue_eachMetric_returnsRecordedValue() throws CommandException {
+        Stats s = new Stats().addLatestStats("8.3", "-250", "2.75").addLatestStats("9", "100", "3");
+        Stats earlier = s.deleteLatestStats();
+
+        assertEquals(8.3F, (float) s.getMatchValue(Metric.CS_PER_MINUTE, 0));
+        assertEquals(-250.0, s.getMatchValue(Metric.GOLD_DIFF_AT_15, 0));
+        assertEquals(2.75F, (float) s.getMatchValue(Metric.KDA, 0));
+        assertEquals(expectedScore(9.0F, 100, 3.0F), s.getMatchValue(Metric.SCORE, 1), EPS);
+        assertThrows(IndexOutOfBoundsException.class, () -> earlier.getMatchValue(Metric.KDA, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> s.getMatchValue(Metric.KDA, -1));
+    }
+
+    // Recent form
+
+    @Test
+    void recentForm_longHistory_onlyLatestMatchesAveraged() {
+        Stats s = new Stats();
+        for (int i = 0; i < 20; i++) {
+            s = s.addLatestStats("1.0", "0", "0.5");
+        }
+        for (int i = 0; i < RecentForm.DEFAULT_WINDOW_SIZE; i++) {
+            s = s.addLatestStats("9.0", "800", "4.0");
+        }
+
+        assertEquals(9.0, s.getRecentForm(Metric.CS_PER_MINUTE).getWindowMean(), EPS);
+        assertEquals(800.0, s.getRecentForm(Metric.GOLD_DIFF_AT_15).getWindowMean(), EPS);
+        assertEquals(expectedScore(9.0F, 800, 4.0F), s.getRecentForm(Metric.SCORE).getWindowMean(), EPS);
+        assertTrue(s.getRecentForm(Metric.KDA).getEwma() > s.getKdaSummary().getMean());
+    }
+
+    @Test
+    void recentForm_afterDelete_matchesAppendedHistory() throws CommandException {
+        Stats s = new Stats();
+        for (int i = 0; i < 8; i++) {
+            s = s.addLatestStats(i + ".0", String.valueOf(i * 100), "1.5");
+        }
+        Stats deleted = s.addLatestStats("40.0", "10000", "200").deleteLatestStats();
+
+        for (Metric metric : Metric.values()) {
+            assertEquals(s.getRecentForm(metric).getWindowMean(), deleted.getRecentForm(metric).getWindowMean(), EPS);
+            assertEquals(s.getRecentForm(metric).getEwma(), deleted.getRecentForm(metric).getEwma(), EPS);
+        }
+    }
+
     // equals/hashCode & toString
 
     @Test
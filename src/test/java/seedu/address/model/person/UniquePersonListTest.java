@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -162,6 +163,41 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findByName_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findByName(null));
+    }
+
+    @Test
+    public void findByName_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByName(ALICE.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName()));
+    }
+
+    @Test
+    public void findByName_afterMutations_tracksBackingList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.findByName(ALICE.getName()).isPresent());
+        assertEquals(Optional.of(BOB), uniquePersonList.findByName(BOB.getName()));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withChampion(VALID_CHAMPION_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,130 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Champion;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Stats;
+import seedu.address.model.query.RangeQuery.Comparison;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class AndQueryTest {
+
+    private static final String[] RANKS = {"iron", "gold", "diamond", "challenger"};
+    private static final String[] ROLES = {"top", "jungle", "mid", "adc", "support"};
+    private static final String[] CHAMPIONS = {"Ahri", "Lee Sin", "Jinx", "Thresh", "Garen"};
+    private static final String[] TAGS = {"captain", "benched", "trial"};
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final AttributeIndex index = new AttributeIndex(addressBook.getPersonList());
+
+    @Test
+    public void select_randomQueries_sameAsLinearScan() {
+        Random random = new Random(24);
+        addressBook.setPersons(List.of());
+        for (int i = 0; i < 400; i++) {
+            addressBook.addPerson(randomPerson(random, "Player" + i));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            PersonQuery query = randomQuery(random, 3);
+            assertEquals(addressBook.getPersonList().filtered(query),
+                    addressBook.getPersonList().filtered(index.select(query)), query.toString());
+        }
+    }
+
+    @Test
+    public void estimateCount_mostSelectiveCondition() {
+        PersonQuery gold = CategoryQuery.rank(Rank.of("gold"));
+        PersonQuery mid = CategoryQuery.role(Role.of("mid"));
+        PersonQuery anyWins = new RangeQuery(NumericField.WINS, Comparison.AT_LEAST, 0);
+
+        // ALICE is the only gold mid, out of 3 gold and 2 mid persons
+        AndQuery query = new AndQuery(List.of(anyWins, gold, mid));
+        assertEquals(2, query.estimateCount(index));
+        assertEquals(1, query.evaluate(index).cardinality());
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery gold = CategoryQuery.rank(Rank.of("gold"));
+        PersonQuery mid = CategoryQuery.role(Role.of("mid"));
+        AndQuery query = new AndQuery(List.of(gold, mid));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(new AndQuery(List.of(CategoryQuery.rank(Rank.of("gold")), mid))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(new OrQuery(List.of(gold, mid))));
+        assertFalse(query.equals(new AndQuery(List.of(gold, new NotQuery(mid)))));
+    }
+
+    private static PersonQuery randomQuery(Random random, int depth) {
+        if (depth == 0 || random.nextInt(3) == 0) {
+            return randomCondition(random);
+        }
+        switch (random.nextInt(3)) {
+        case 0:
+            return new NotQuery(randomQuery(random, depth - 1));
+        case 1:
+            return new OrQuery(randomQueries(random, depth - 1));
+        default:
+            return new AndQuery(randomQueries(random, depth - 1));
+        }
+    }
+
+    private static List<PersonQuery> randomQueries(Random random, int depth) {
+        List<PersonQuery> queries = new ArrayList<>();
+        for (int i = 1 + random.nextInt(3); i > 0; i--) {
+            queries.add(randomQuery(random, depth));
+        }
+        return queries;
+    }
+
+    private static PersonQuery randomCondition(Random random) {
+        switch (random.nextInt(5)) {
+        case 0:
+            return CategoryQuery.rank(Rank.of(RANKS[random.nextInt(RANKS.length)]));
+        case 1:
+            return CategoryQuery.role(Role.of(ROLES[random.nextInt(ROLES.length)]));
+        case 2:
+            return CategoryQuery.champion(Champion.of(CHAMPIONS[random.nextInt(CHAMPIONS.length)]));
+        case 3:
+            return CategoryQuery.tag(new Tag(TAGS[random.nextInt(TAGS.length)]));
+        default:
+            NumericField field = NumericField.values()[random.nextInt(NumericField.values().length)];
+            Comparison comparison = Comparison.values()[random.nextInt(Comparison.values().length)];
+            return new RangeQuery(field, comparison, random.nextInt(12));
+        }
+    }
+
+    private static Person randomPerson(Random random, String name) {
+        Stats stats = new Stats();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            stats = stats.addLatestStats(String.valueOf(random.nextInt(12)), String.valueOf(random.nextInt(3000)),
+                    String.valueOf(random.nextInt(10)));
+        }
+        List<String> tags = new ArrayList<>();
+        for (String tag : TAGS) {
+            if (random.nextInt(3) == 0) {
+                tags.add(tag);
+            }
+        }
+        return new PersonBuilder().withName(name).withRank(RANKS[random.nextInt(RANKS.length)])
+                .withRole(ROLES[random.nextInt(ROLES.length)])
+                .withChampion(CHAMPIONS[random.nextInt(CHAMPIONS.length)]).withTags(tags.toArray(String[]::new))
+                .withWins(random.nextInt(12)).withLosses(random.nextInt(12)).withStats(stats).build();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Champion;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.ScoreMeasure;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttributeFilterTest {
+
+    private static final AttributeFilter GOLD_MID = new AttributeFilter(Set.of(Rank.of("gold")),
+            Set.of(Role.of("mid")), Set.of(), 0, ScoreMeasure.AVERAGE);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new AttributeFilter(null, Set.of(), Set.of(), 0, ScoreMeasure.AVERAGE));
+        assertThrows(NullPointerException.class, () -> new AttributeFilter(Set.of(), Set.of(), Set.of(), 0, null));
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(GOLD_MID.equals(new AttributeFilter(Set.of(Rank.of("GOLD")), Set.of(Role.of("Mid")), Set.of(),
+                0, ScoreMeasure.AVERAGE)));
+
+        // same object -> returns true
+        assertTrue(GOLD_MID.equals(GOLD_MID));
+
+        // null -> returns false
+        assertFalse(GOLD_MID.equals(null));
+
+        // different champions -> returns false
+        assertFalse(GOLD_MID.equals(new AttributeFilter(Set.of(Rank.of("gold")), Set.of(Role.of("mid")),
+                Set.of(Champion.of("Ahri")), 0, ScoreMeasure.AVERAGE)));
+
+        // different score measure -> returns false
+        assertFalse(GOLD_MID.equals(new AttributeFilter(Set.of(Rank.of("gold")), Set.of(Role.of("mid")), Set.of(),
+                0, ScoreMeasure.RECENT)));
+    }
+
+    @Test
+    public void test() {
+        Person goldMid = new PersonBuilder().withRank("gold").withRole("mid").withChampion("Lee Sin").build();
+        assertTrue(GOLD_MID.test(goldMid));
+
+        // empty sets place no condition
+        assertTrue(new AttributeFilter(Set.of(), Set.of(), Set.of(), 0, ScoreMeasure.AVERAGE).test(goldMid));
+
+        // multi-word champions match exactly
+        assertTrue(new AttributeFilter(Set.of(), Set.of(), Set.of(Champion.of("lee sin")), 0, ScoreMeasure.AVERAGE)
+                .test(goldMid));
+
+        assertFalse(GOLD_MID.test(new PersonBuilder(goldMid).withRole("top").build()));
+        assertFalse(new AttributeFilter(Set.of(), Set.of(), Set.of(), 0.01, ScoreMeasure.AVERAGE).test(goldMid));
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Champion;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.ScoreMeasure;
+import seedu.address.model.person.Stats;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttributeIndexTest {
+
+    private static final String[] RANKS = {"iron", "gold", "diamond", "challenger"};
+    private static final String[] ROLES = {"top", "jungle", "mid", "adc", "support"};
+    private static final String[] CHAMPIONS = {"Ahri", "Lee Sin", "Jinx", "Thresh", "Garen"};
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final AttributeIndex index = new AttributeIndex(addressBook.getPersonList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AttributeIndex(null));
+    }
+
+    @Test
+    public void select_randomFilters_sameAsLinearScan() {
+        Random random = new Random(11);
+        addressBook.setPersons(List.of());
+        for (int i = 0; i < 500; i++) {
+            addressBook.addPerson(randomPerson(random, "Player" + i));
+        }
+        // Remove some persons so that their slots are reused by the next ones
+        for (int i = 0; i < 500; i += 7) {
+            addressBook.removePerson(addressBook.getPersonList().get(i / 7));
+        }
+        for (int i = 500; i < 560; i++) {
+            addressBook.addPerson(randomPerson(random, "Player" + i));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            AttributeFilter filter = new AttributeFilter(
+                    randomSubset(random, RANKS, Rank::of), randomSubset(random, ROLES, Role::of),
+                    randomSubset(random, CHAMPIONS, Champion::of), random.nextInt(8),
+                    ScoreMeasure.values()[random.nextInt(ScoreMeasure.values().length)]);
+            assertEquals(addressBook.getPersonList().filtered(filter),
+                    addressBook.getPersonList().filtered(index.select(filter)));
+        }
+    }
+
+    @Test
+    public void select_personEditedAfterSelection_testedAgainstQuery() {
+        AttributeFilter goldFilter = new AttributeFilter(Set.of(Rank.of("gold")), Set.of(), Set.of(), 0,
+                ScoreMeasure.AVERAGE);
+        Predicate<Person> selection = index.select(goldFilter);
+        assertTrue(selection.test(ALICE));
+        assertFalse(selection.test(BENSON));
+
+        Person demoted = new PersonBuilder(ALICE).withRank("silver").build();
+        Person promoted = new PersonBuilder(BENSON).withRank("gold").build();
+        addressBook.setPerson(ALICE, demoted);
+        addressBook.setPerson(BENSON, promoted);
+        assertFalse(selection.test(demoted));
+        assertTrue(selection.test(promoted));
+
+        // A new selection sees the edits through the index
+        assertEquals(addressBook.getPersonList().filtered(goldFilter),
+                addressBook.getPersonList().filtered(index.select(goldFilter)));
+    }
+
+    @Test
+    public void withScoreAtLeast_rangeScan() {
+        Person strong = new PersonBuilder().withName("Strong")
+                .withStats(new Stats().addLatestStats("10", "2000", "10")).build();
+        addressBook.addPerson(strong);
+        double strongScore = ScoreMeasure.AVERAGE.getScore(strong.getStats());
+
+        assertEquals(addressBook.getPersonList().size(),
+                index.withScoreAtLeast(ScoreMeasure.AVERAGE, 0).cardinality());
+        assertEquals(1, index.withScoreAtLeast(ScoreMeasure.AVERAGE, strongScore).cardinality());
+        assertEquals(0, index.withScoreAtLeast(ScoreMeasure.AVERAGE, strongScore + 1).cardinality());
+    }
+
+    @Test
+    public void withValueIn_editsAfterFirstQuery_sameAsLinearScan() {
+        Random random = new Random(24);
+        addressBook.setPersons(randomPlayers(random, 300));
+        assertWinsInRangeSameAsLinearScan(random);
+
+        // Few edits update the sorted index in place
+        for (int i = 0; i < 20; i++) {
+            Person target = addressBook.getPersonList().get(random.nextInt(addressBook.getPersonList().size()));
+            addressBook.setPerson(target, new PersonBuilder(target).withWins(random.nextInt(8)).build());
+            addressBook.removePerson(addressBook.getPersonList().get(0));
+            addressBook.addPerson(new PersonBuilder(randomPerson(random, "Added" + i))
+                    .withWins(random.nextInt(8)).build());
+        }
+        assertWinsInRangeSameAsLinearScan(random);
+
+        // Many edits at once drop the sorted index, to be built again by the next query
+        addressBook.setPersons(randomPlayers(random, 400));
+        assertWinsInRangeSameAsLinearScan(random);
+    }
+
+    private void assertWinsInRangeSameAsLinearScan(Random random) {
+        for (int i = 0; i < 30; i++) {
+            RangeQuery query = new RangeQuery(NumericField.WINS,
+                    RangeQuery.Comparison.values()[random.nextInt(RangeQuery.Comparison.values().length)],
+                    random.nextInt(9));
+            List<Person> expected = addressBook.getPersonList().filtered(query);
+            assertEquals(expected, addressBook.getPersonList().filtered(index.select(query)));
+            assertEquals(expected.size(), query.estimateCount(index));
+        }
+    }
+
+    private static List<Person> randomPlayers(Random random, int count) {
+        List<Person> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new PersonBuilder(randomPerson(random, "Player" + i)).withWins(random.nextInt(8)).build());
+        }
+        return players;
+    }
+
+    @Test
+    public void top_randomScopes_sameAsFullSort() {
+        Random random = new Random(25);
+        addressBook.setPersons(List.of());
+        for (int i = 0; i < 300; i++) {
+            addressBook.addPerson(new PersonBuilder(randomPerson(random, "Player" + i))
+                    .withWins(random.nextInt(8)).withLosses(random.nextInt(8)).build());
+        }
+
+        for (int i = 0; i < 100; i++) {
+            NumericField field = NumericField.values()[random.nextInt(NumericField.values().length)];
+            AttributeFilter scope = new AttributeFilter(randomSubset(random, RANKS, Rank::of),
+                    randomSubset(random, ROLES, Role::of), Set.of(), 0, ScoreMeasure.AVERAGE);
+            int limit = 1 + random.nextInt(20);
+
+            List<Person> expected = addressBook.getPersonList().filtered(scope).sorted(field.highestFirst());
+            assertEquals(expected.subList(0, Math.min(limit, expected.size())),
+                    index.top(field, scope.evaluate(index), limit));
+        }
+    }
+
+    private static Person randomPerson(Random random, String name) {
+        Stats stats = new Stats();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            stats = stats.addLatestStats(String.valueOf(random.nextInt(12)), String.valueOf(random.nextInt(3000)),
+                    String.valueOf(random.nextInt(10)));
+        }
+        return new PersonBuilder().withName(name).withRank(RANKS[random.nextInt(RANKS.length)])
+                .withRole(ROLES[random.nextInt(ROLES.length)])
+                .withChampion(CHAMPIONS[random.nextInt(CHAMPIONS.length)]).withStats(stats).build();
+    }
+
+    private static <T> Set<T> randomSubset(Random random, String[] names, Function<String, T> of) {
+        Set<T> subset = new HashSet<>();
+        for (String name : names) {
+            if (random.nextInt(3) == 0) {
+                subset.add(of.apply(name));
+            }
+        }
+        return subset;
+    }
+}
@@ -23,9 +23,11 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Person;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.PersonAlreadyInTeamException;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TeamBuilder;
 
 public class UniqueTeamListTest {
@@ -159,6 +161,47 @@ public class UniqueTeamListTest {
         assertEquals(team, uniqueTeamList.getTeamContainingPerson(BENSON));
     }
 
+    @Test
+    public void getTeamContainingPerson_personEditedInPlace_returnsTeam() {
+        Team team = new Team(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        uniqueTeamList.add(team);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("captain").build(); // Same ID
+        assertEquals(team, uniqueTeamList.getTeamContainingPerson(editedAlice));
+    }
+
+    @Test
+    public void getTeamContainingPerson_afterSetTeam_returnsEditedTeam() {
+        uniqueTeamList.add(TEAM_A);
+        uniqueTeamList.setTeam(TEAM_A, TEAM_B);
+        assertNull(uniqueTeamList.getTeamContainingPerson(ALICE));
+        assertEquals(TEAM_B, uniqueTeamList.getTeamContainingPerson(FIONA));
+    }
+
+    @Test
+    public void isPersonInAnyTeam_afterRemove_returnsFalse() {
+        uniqueTeamList.add(TEAM_A);
+        uniqueTeamList.remove(TEAM_A);
+        assertFalse(uniqueTeamList.isPersonInAnyTeam(ALICE));
+
+        // the removed team's persons can join a new team
+        uniqueTeamList.add(TEAM_A);
+        assertTrue(uniqueTeamList.isPersonInAnyTeam(ALICE));
+    }
+
+    @Test
+    public void isPersonInAnyTeam_afterSetTeams_reflectsReplacement() {
+        uniqueTeamList.add(TEAM_A);
+        uniqueTeamList.setTeams(List.of(TEAM_B));
+        assertFalse(uniqueTeamList.isPersonInAnyTeam(ALICE));
+        assertTrue(uniqueTeamList.isPersonInAnyTeam(FIONA));
+
+        UniqueTeamList replacement = new UniqueTeamList();
+        replacement.add(TEAM_A);
+        uniqueTeamList.setTeams(replacement);
+        assertTrue(uniqueTeamList.isPersonInAnyTeam(ALICE));
+        assertFalse(uniqueTeamList.isPersonInAnyTeam(FIONA));
+    }
+
     @Test
     public void add_personAlreadyInAnotherTeam_throwsPersonAlreadyInTeamException() {
         // Add first team: ALICE (mid), BENSON (top), CARL (jungle), DANIEL (adc), ELLE (support)
@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTeams.TEAM_A;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TeamBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void save_changedPersonsAndTeams_appendsOnlyChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBookWithTeams();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // The first save writes a full snapshot
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalFilePath));
+
+        // Later saves leave the snapshot alone and append one record per changed person or team
+        Person editedBenson = new PersonBuilder(BENSON).withTags("captain").build();
+        original.setPerson(BENSON, editedBenson);
+        original.setTeam(TEAM_A, new TeamBuilder(TEAM_A).replacePerson(BENSON, editedBenson).withWins(1).build());
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        // Saving unchanged data appends nothing
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_addedAndRemovedPersons_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.addPerson(IDA);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // A storage that has read the data keeps appending to the same journal
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopenedStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+        readBack.removePerson(IDA);
+        reopenedStorage.saveAddressBook(readBack);
+
+        assertEquals(3, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_reorderedPersons_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        List<Person> reversedPersons = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversedPersons);
+        original.setPersons(reversedPersons);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        // Reading waits for the background compaction to finish
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_recordSkipped() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        Files.writeString(journalFilePath, "{\"op\":\"PUT_PERSON\",\"person\":{\"id\":", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // The next save replaces the damaged journal with a full snapshot
+        reopenedStorage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(journalFilePath, "{\"op\":\"REMOVE_PERSON\"}\n", StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unparsableRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(journalFilePath, "not json\n{\"op\":\"REMOVE_PERSON\",\"id\":\"x\"}\n",
+                StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressBook.json"));
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+}
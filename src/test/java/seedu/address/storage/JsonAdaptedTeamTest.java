@@ -5,6 +5,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTeams.TEAM_A;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -16,7 +17,8 @@ import seedu.address.testutil.TypicalPersons;
 import seedu.address.testutil.TypicalTeams;
 
 public class JsonAdaptedTeamTest {
-    private static final List<Person> ALL_PERSONS = TypicalPersons.getTypicalPersons();
+    private static final Map<String, Person> ALL_PERSONS = TypicalPersons.getTypicalPersons().stream()
+            .collect(Collectors.toMap(Person::getId, person -> person));
     private static final List<Team> ALL_TEAMS = TypicalTeams.getTypicalTeams();
 
     private static final String DUMMY_ID = "";
@@ -40,7 +42,7 @@ public class JsonAdaptedTeamTest {
         invalidPersonIds.add(INVALID_PERSON_ID);
 
         JsonAdaptedTeam team = new JsonAdaptedTeam(DUMMY_ID, invalidPersonIds, DUMMY_WINS, DUMMY_LOSSES);
-        String expectedMessage = "Invalid Person ID in Team: " + INVALID_PERSON_ID;
+        String expectedMessage = String.format(JsonAdaptedTeam.MESSAGE_INVALID_PERSON_ID, INVALID_PERSON_ID);
         assertThrows(IllegalValueException.class, expectedMessage, () -> team.toModelType(ALL_PERSONS));
     }
 }
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+import seedu.address.testutil.TypicalTeams;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path STORAGE_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                read(TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json")));
+    }
+
+    @Test
+    public void read_savedAddressBookWithTeams_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = TypicalTeams.getTypicalAddressBookWithTeams();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, read(filePath));
+    }
+
+    @Test
+    public void read_unknownAndMissingFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "{ \"version\": { \"nested\": [1, 2] }, \"teams\": null }", StandardCharsets.UTF_8);
+
+        assertEquals(new AddressBook(), read(filePath));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                read(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                read(TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_duplicateTeams_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM, () ->
+                read(TEST_DATA_FOLDER.resolve("duplicateTeamAddressBook.json")));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () ->
+                read(STORAGE_TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() / 2), StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> read(filePath));
+    }
+
+    @Test
+    public void apply_journalRecords_appliedBeforeBuilding() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(expected);
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        reader.read(filePath);
+
+        Person editedAlice = new PersonBuilder(TypicalPersons.ALICE).withTags("captain").build();
+        reader.apply(JsonAdaptedJournalRecord.putPerson(editedAlice));
+        reader.apply(JsonAdaptedJournalRecord.removePerson(TypicalPersons.BENSON.getId()));
+        reader.apply(JsonAdaptedJournalRecord.putPerson(TypicalPersons.IDA));
+        expected.setPerson(TypicalPersons.ALICE, editedAlice);
+        expected.removePerson(TypicalPersons.BENSON);
+        expected.addPerson(TypicalPersons.IDA);
+
+        assertEquals(expected, reader.toModelType());
+    }
+
+    private static AddressBook read(Path filePath) throws Exception {
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        reader.read(filePath);
+        return reader.toModelType();
+    }
+}
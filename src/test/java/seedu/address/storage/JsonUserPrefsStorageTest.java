@@ -74,6 +74,8 @@ public class JsonUserPrefsStorageTest {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setAddressBookFilePath(Paths.get("summonersbook.json"));
+        userPrefs.setRecentFormWindowSize(8);
+        userPrefs.setRecentFormSmoothingFactor(0.5);
         return userPrefs;
     }
 
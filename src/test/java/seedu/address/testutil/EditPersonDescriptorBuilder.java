@@ -51,7 +51,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Role} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withRole(String role) {
-        descriptor.setRole(new Role(role));
+        descriptor.setRole(Role.of(role));
         return this;
     }
 
@@ -59,7 +59,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Rank} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withRank(String rank) {
-        descriptor.setRank(new Rank(rank));
+        descriptor.setRank(Rank.of(rank));
         return this;
     }
 
@@ -67,7 +67,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Address} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withChampion(String champion) {
-        descriptor.setChampion(new Champion(champion));
+        descriptor.setChampion(Champion.of(champion));
         return this;
     }
 
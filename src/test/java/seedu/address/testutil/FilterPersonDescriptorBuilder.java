@@ -8,6 +8,7 @@ import seedu.address.logic.commands.FilterCommand.FilterPersonDescriptor;
 import seedu.address.model.person.Champion;
 import seedu.address.model.person.Rank;
 import seedu.address.model.person.Role;
+import seedu.address.model.person.ScoreMeasure;
 
 /**
  * A utility class to help with building FilterPersonDescriptor objects.
@@ -28,7 +29,7 @@ public class FilterPersonDescriptorBuilder {
      * Sets the {@code roles} of the {@code FilterPersonDescriptor} that we are building.
      */
     public FilterPersonDescriptorBuilder withRoles(String... roles) {
-        Set<Role> roleSet = Stream.of(roles).map(Role::new).collect(Collectors.toSet());
+        Set<Role> roleSet = Stream.of(roles).map(Role::of).collect(Collectors.toSet());
         descriptor.setRoles(roleSet);
         return this;
     }
@@ -37,7 +38,7 @@ public class FilterPersonDescriptorBuilder {
      * Sets the {@code ranks} of the {@code FilterPersonDescriptor} that we are building.
      */
     public FilterPersonDescriptorBuilder withRanks(String... ranks) {
-        Set<Rank> rankSet = Stream.of(ranks).map(Rank::new).collect(Collectors.toSet());
+        Set<Rank> rankSet = Stream.of(ranks).map(Rank::of).collect(Collectors.toSet());
         descriptor.setRanks(rankSet);
         return this;
     }
@@ -46,7 +47,7 @@ public class FilterPersonDescriptorBuilder {
      * Sets the {@code champions} of the {@code FilterPersonDescriptor} that we are building.
      */
     public FilterPersonDescriptorBuilder withChampions(String... champions) {
-        Set<Champion> championSet = Stream.of(champions).map(Champion::new).collect(Collectors.toSet());
+        Set<Champion> championSet = Stream.of(champions).map(Champion::of).collect(Collectors.toSet());
         descriptor.setChampions(championSet);
         return this;
     }
@@ -62,6 +63,14 @@ public class FilterPersonDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code ScoreMeasure} that the score threshold of this descriptor is compared against.
+     */
+    public FilterPersonDescriptorBuilder withScoreMeasure(ScoreMeasure scoreMeasure) {
+        descriptor.setScoreMeasure(scoreMeasure);
+        return this;
+    }
+
     public FilterPersonDescriptor build() {
         return descriptor;
     }
@@ -41,9 +41,9 @@ public class PersonBuilder {
     public PersonBuilder() {
         id = UUID.randomUUID().toString();
         name = new Name(DEFAULT_NAME);
-        role = new Role(DEFAULT_ROLE);
-        rank = new Rank(DEFAULT_RANK);
-        champion = new Champion(DEFAULT_CHAMPION);
+        role = Role.of(DEFAULT_ROLE);
+        rank = Rank.of(DEFAULT_RANK);
+        champion = Champion.of(DEFAULT_CHAMPION);
         tags = new HashSet<>();
         wins = DEFAULT_WINS;
         losses = DEFAULT_LOSSES;
@@ -62,6 +62,7 @@ public class PersonBuilder {
         tags = new HashSet<>(personToCopy.getTags());
         wins = personToCopy.getWins();
         losses = personToCopy.getLosses();
+        stats = personToCopy.getStats();
     }
 
     /**
@@ -84,7 +85,7 @@ public class PersonBuilder {
      * Sets the {@code Role} of the {@code Person} that we are building.
      */
     public PersonBuilder withRole(String role) {
-        this.role = new Role(role);
+        this.role = Role.of(role);
         return this;
     }
 
@@ -92,7 +93,7 @@ public class PersonBuilder {
      * Sets the {@code Rank} of the {@code Person} that we are building.
      */
     public PersonBuilder withRank(String rank) {
-        this.rank = new Rank(rank);
+        this.rank = Rank.of(rank);
         return this;
     }
 
@@ -100,7 +101,7 @@ public class PersonBuilder {
      * Sets the {@code Champion} of the {@code Person} that we are building.
      */
     public PersonBuilder withChampion(String champion) {
-        this.champion = new Champion(champion);
+        this.champion = Champion.of(champion);
         return this;
     }
 
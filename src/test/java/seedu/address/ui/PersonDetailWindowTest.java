@@ -10,6 +10,9 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.scene.chart.XYChart;
+import seedu.address.model.person.Metric;
+import seedu.address.model.person.RecentForm;
+import seedu.address.model.person.Stats;
 
 class PersonDetailWindowTest {
 
@@ -52,4 +55,17 @@ class PersonDetailWindowTest {
         assertEquals(11, series.getData().get(9).getXValue());
         assertEquals(200, series.getData().get(9).getYValue());
     }
+
+    @Test
+    void formatRecentForm_noMatches_returnsPlaceholder() {
+        assertEquals("No matches recorded", PersonDetailWindow.formatRecentForm(new Stats(), RecentForm::getEwma));
+    }
+
+    @Test
+    void formatRecentForm_matches_formatsEveryMetric() {
+        Stats stats = new Stats().addLatestStats("7.0", "-350", "2.4");
+        String expected = String.format("Score %.1f | CPM 7.0 | GD15 -350 | KDA 2.40",
+                stats.getRecentForm(Metric.SCORE).getWindowMean());
+        assertEquals(expected, PersonDetailWindow.formatRecentForm(stats, RecentForm::getWindowMean));
+    }
 }